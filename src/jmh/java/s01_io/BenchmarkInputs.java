@@ -0,0 +1,79 @@
+package s01_io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 입력 생성기
+ *
+ * PS 입력 형식을 흉내 낸다:
+ * - 첫 줄: 정수 개수 N
+ * - 이후: 한 줄에 VALUES_PER_LINE개씩, 공백으로 구분된 정수
+ */
+final class BenchmarkInputs {
+
+    static final int VALUES_PER_LINE = 10;
+
+    private BenchmarkInputs() {}
+
+    // 같은 seed → 같은 입력 (측정 간 비교 가능)
+    static byte[] integers(int n, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder sb = new StringBuilder(n * 8);
+        sb.append(n).append('\n');
+        for (int i = 0; i < n; i++) {
+            sb.append(random.nextInt(-1_000_000_000, 1_000_000_001));
+            sb.append((i + 1) % VALUES_PER_LINE == 0 || i == n - 1 ? '\n' : ' ');
+        }
+        return sb.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    // integers(n, seed)와 같은 형식을 파일로 쓴다. 수백 MB 입력도 메모리에 모으지 않는다
+    static Path writeIntegers(Path file, int n, long seed) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        try (OutputStream os = Files.newOutputStream(file);
+                FastWriter out = new FastWriter(os)) {
+            out.println(n);
+            for (int i = 0; i < n; i++) {
+                out.print(random.nextInt(-1_000_000_000, 1_000_000_001));
+                out.print((i + 1) % VALUES_PER_LINE == 0 || i == n - 1 ? '\n' : ' ');
+            }
+        }
+        return file;
+    }
+
+    // 간선 목록 형식: 첫 줄 "V M", 이후 M줄 "from to weight" (줄 수가 많은 입력)
+    static byte[] edges(int vertices, int m, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder sb = new StringBuilder(m * 20);
+        sb.append(vertices).append(' ').append(m).append('\n');
+        for (int i = 0; i < m; i++) {
+            sb.append(random.nextInt(1, vertices + 1)).append(' ');
+            sb.append(random.nextInt(1, vertices + 1)).append(' ');
+            sb.append(random.nextInt(1, 1_000_001)).append('\n');
+        }
+        return sb.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    // 격자 형식: 첫 줄 "N M", 이후 N줄. digits면 "01011"처럼 붙은 0/1, 아니면 공백으로 구분된 0 ~ 999
+    static byte[] matrix(int rows, int cols, boolean digits, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder sb = new StringBuilder(rows * (cols * (digits ? 1 : 4) + 1) + 16);
+        sb.append(rows).append(' ').append(cols).append('\n');
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                if (digits) {
+                    sb.append(random.nextInt(2));
+                } else {
+                    sb.append(j > 0 ? " " : "").append(random.nextInt(1000));
+                }
+            }
+            sb.append('\n');
+        }
+        return sb.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+}
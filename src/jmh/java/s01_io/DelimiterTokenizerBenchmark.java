@@ -0,0 +1,124 @@
+package s01_io;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.StringTokenizer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 커스텀 구분자 토큰화 (StringTokenizerTest.커스텀_구분자): StringTokenizer vs split vs ByteTokenizer
+ *
+ * 연산 1번 = 입력 m줄의 숫자를 모두 더한다
+ * - csv: "12,345,6789,..." (구분자 ",", split은 정규식 없는 한 글자 빠른 경로)
+ * - time: "12:34:56" (구분자 ":")
+ * - brackets: "[[1,2],[3,4],...]" (구분자 "[],", split은 정규식 "[\\[\\],]" + 빈 토큰 건너뛰기)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=DelimiterTokenizerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DelimiterTokenizerBenchmark {
+
+    @Param({"1000000"})
+    int m;
+
+    @Param({"csv", "time", "brackets"})
+    String format;
+
+    private byte[] input;
+    private String delim;
+    private String regex;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        StringBuilder sb = new StringBuilder(m * 24);
+        for (int i = 0; i < m; i++) {
+            switch (format) {
+                case "csv":
+                    for (int j = 0; j < 5; j++) {
+                        sb.append(j > 0 ? "," : "").append(random.nextInt(100_000));
+                    }
+                    break;
+                case "time":
+                    sb.append(random.nextInt(24))
+                            .append(':')
+                            .append(random.nextInt(60))
+                            .append(':')
+                            .append(random.nextInt(60));
+                    break;
+                default:
+                    sb.append('[');
+                    for (int j = 0; j < 3; j++) {
+                        sb.append(j > 0 ? "," : "").append('[').append(random.nextInt(1000));
+                        sb.append(',').append(random.nextInt(1000)).append(']');
+                    }
+                    sb.append(']');
+            }
+            sb.append('\n');
+        }
+        input = sb.toString().getBytes(StandardCharsets.US_ASCII);
+        if (format.equals("csv")) {
+            delim = ",";
+        } else if (format.equals("time")) {
+            delim = ":";
+        } else {
+            delim = "[],";
+        }
+        regex = format.equals("brackets") ? "[\\[\\],]" : delim;
+    }
+
+    @Benchmark
+    public long stringTokenizer() throws IOException {
+        BufferedReader br = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(input)));
+        long sum = 0;
+        for (String line; (line = br.readLine()) != null; ) {
+            StringTokenizer st = new StringTokenizer(line, delim);
+            while (st.hasMoreTokens()) {
+                sum += Integer.parseInt(st.nextToken());
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long split() throws IOException {
+        BufferedReader br = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(input)));
+        long sum = 0;
+        for (String line; (line = br.readLine()) != null; ) {
+            for (String token : line.split(regex)) {
+                if (!token.isEmpty()) {
+                    sum += Integer.parseInt(token);
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long byteTokenizer() throws IOException {
+        LineReader in = new LineReader(new ByteArrayInputStream(input));
+        ByteTokenizer st = new ByteTokenizer(delim, false);
+        long sum = 0;
+        for (ByteSlice line; (line = in.nextLine()) != null; ) {
+            st.reset(line);
+            while (st.hasMoreTokens()) {
+                sum += st.nextInt();
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,96 @@
+package s01_io;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 실수 입출력: JDK 경로 vs NumberParser.parseDouble / FastWriter.print(double, precision)
+ *
+ * 연산 1번 = 실수 n개 전부 파싱 또는 출력
+ * - 입력 토큰은 "%.6f" 형식 (좌표, 확률 등 PS 실수 입력)과 "1.5e-3" 같은 지수 표기를 섞는다
+ * - parseViaString: 토큰마다 String 생성 + Double.parseDouble
+ * - numberParser: byte[] 범위를 바로 파싱 (빠른 경로, 할당 0)
+ * - stringFormat: String.format(Locale.ROOT, "%.6f", v)를 FastWriter로 출력
+ * - fastWriter: FastWriter.print(v, 6)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=DoubleBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DoubleBenchmark {
+
+    @Param({"1000000"})
+    int n;
+
+    private double[] values;
+    private byte[] input;
+    private int[] starts;
+    private int[] lengths;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        values = new double[n];
+        starts = new int[n];
+        lengths = new int[n];
+        StringBuilder sb = new StringBuilder(n * 16);
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextDouble(-1e6, 1e6);
+            String token = i % 4 == 3
+                    ? random.nextInt(1, 100_000) + "e" + random.nextInt(-8, 9)
+                    : String.format(Locale.ROOT, "%.6f", values[i]);
+            starts[i] = sb.length();
+            lengths[i] = token.length();
+            sb.append(token).append('\n');
+        }
+        input = sb.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public double parseViaString() {
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += Double.parseDouble(new String(input, starts[i], lengths[i], StandardCharsets.US_ASCII));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double numberParser() {
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += NumberParser.parseDouble(input, starts[i], lengths[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void stringFormat() {
+        FastWriter out = new FastWriter(OutputStream.nullOutputStream());
+        for (double v : values) {
+            out.println(String.format(Locale.ROOT, "%.6f", v));
+        }
+        out.flush();
+    }
+
+    @Benchmark
+    public void fastWriter() {
+        FastWriter out = new FastWriter(OutputStream.nullOutputStream());
+        for (double v : values) {
+            out.println(v, 6);
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,170 @@
+package s01_io;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StreamTokenizer;
+import java.util.Scanner;
+import java.util.StringTokenizer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 입력 방식별 성능 비교
+ *
+ * BufferedReaderTest의 "Scanner보다 약 5~10배" 주장을 숫자로 확인한다.
+ *
+ * 결과 읽는 법 (연산 1번 = 정수 n개 전부 읽기):
+ * - ns/token = Score(ms/op) * 10^6 / n
+ * - bytes/token = gc.alloc.rate.norm / n
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=InputBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InputBenchmark {
+
+    @Param({"100000", "1000000", "10000000"})
+    int n;
+
+    private byte[] input;
+
+    @Setup
+    public void setUp() {
+        input = BenchmarkInputs.integers(n, 42);
+    }
+
+    @Benchmark
+    public long scanner() {
+        Scanner sc = new Scanner(stream());
+        int count = sc.nextInt();
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += sc.nextInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long bufferedReaderStringTokenizer() throws IOException {
+        BufferedReader br = new BufferedReader(new InputStreamReader(stream()));
+        int count = Integer.parseInt(br.readLine());
+        long sum = 0;
+        int read = 0;
+        while (read < count) {
+            StringTokenizer st = new StringTokenizer(br.readLine());
+            while (st.hasMoreTokens()) {
+                sum += Integer.parseInt(st.nextToken());
+                read++;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long bufferedReaderSplit() throws IOException {
+        BufferedReader br = new BufferedReader(new InputStreamReader(stream()));
+        int count = Integer.parseInt(br.readLine());
+        long sum = 0;
+        int read = 0;
+        while (read < count) {
+            for (String token : br.readLine().split(" ")) {
+                sum += Integer.parseInt(token);
+                read++;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long streamTokenizer() throws IOException {
+        StreamTokenizer st = new StreamTokenizer(new BufferedReader(new InputStreamReader(stream())));
+        st.nextToken();
+        int count = (int) st.nval;
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            st.nextToken();
+            sum += (int) st.nval;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long dataInputStream() throws IOException {
+        RawByteReader in = new RawByteReader(stream());
+        int count = in.nextInt();
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += in.nextInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long fastReader() throws IOException {
+        FastReader in = new FastReader(stream());
+        int count = in.nextInt();
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += in.nextInt();
+        }
+        return sum;
+    }
+
+    private InputStream stream() {
+        return new ByteArrayInputStream(input);
+    }
+
+    // 흔히 쓰이는 DataInputStream + byte[] 버퍼 파서 (검증 없이 최소 구현)
+    private static final class RawByteReader {
+
+        private final DataInputStream in;
+        private final byte[] buffer = new byte[1 << 16];
+        private int pos;
+        private int limit;
+
+        RawByteReader(InputStream in) {
+            this.in = new DataInputStream(in);
+        }
+
+        int nextInt() throws IOException {
+            byte b = read();
+            while (b <= ' ') {
+                b = read();
+            }
+            boolean negative = b == '-';
+            if (negative) {
+                b = read();
+            }
+            int result = 0;
+            while (b >= '0' && b <= '9') {
+                result = result * 10 + (b - '0');
+                b = read();
+            }
+            return negative ? -result : result;
+        }
+
+        private byte read() throws IOException {
+            if (pos == limit) {
+                limit = in.read(buffer, 0, buffer.length);
+                pos = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return -1;
+                }
+            }
+            return buffer[pos++];
+        }
+    }
+}
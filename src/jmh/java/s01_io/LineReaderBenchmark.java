@@ -0,0 +1,69 @@
+package s01_io;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.StringTokenizer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 줄 단위 입력: readLine() + StringTokenizer vs LineReader + ByteTokenizer
+ *
+ * 연산 1번 = 간선 목록 m줄 ("from to weight")을 한 줄씩 읽어 가중치 합 계산
+ * - gc.alloc.rate.norm: readLine은 줄마다 String, LineReader는 버퍼만 (줄 수와 무관)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=LineReaderBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LineReaderBenchmark {
+
+    @Param({"1000000", "10000000"})
+    int m;
+
+    private byte[] input;
+
+    @Setup
+    public void setUp() {
+        input = BenchmarkInputs.edges(100_000, m, 42);
+    }
+
+    @Benchmark
+    public long bufferedReaderStringTokenizer() throws IOException {
+        BufferedReader br = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(input)));
+        br.readLine(); // V M
+        long sum = 0;
+        for (String line; (line = br.readLine()) != null; ) {
+            StringTokenizer st = new StringTokenizer(line);
+            st.nextToken();
+            st.nextToken();
+            sum += Integer.parseInt(st.nextToken());
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long lineReaderByteTokenizer() throws IOException {
+        LineReader in = new LineReader(new ByteArrayInputStream(input));
+        ByteTokenizer st = new ByteTokenizer();
+        in.nextLine(); // V M
+        long sum = 0;
+        for (ByteSlice line; (line = in.nextLine()) != null; ) {
+            st.reset(line);
+            st.nextToken();
+            st.nextToken();
+            sum += st.nextInt();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,87 @@
+package s01_io;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.StringTokenizer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 대용량 입력 파일 읽기: BufferedReader vs FastReader(스트림) vs FastReader(메모리 매핑)
+ *
+ * 연산 1번 = 파일 전체(정수 n개)를 읽어서 합계 계산.
+ * 기본 n = 2 * 10^7 → 약 220MB 파일 (첫 반복 이후에는 페이지 캐시에 올라간 상태)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=MappedInputBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MappedInputBenchmark {
+
+    @Param({"20000000"})
+    int n;
+
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = BenchmarkInputs.writeIntegers(Files.createTempFile("mapped-input", ".txt"), n, 42);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long bufferedReaderStringTokenizer() throws IOException {
+        try (BufferedReader br = Files.newBufferedReader(file)) {
+            int count = Integer.parseInt(br.readLine());
+            long sum = 0;
+            int read = 0;
+            while (read < count) {
+                StringTokenizer st = new StringTokenizer(br.readLine());
+                while (st.hasMoreTokens()) {
+                    sum += Integer.parseInt(st.nextToken());
+                    read++;
+                }
+            }
+            return sum;
+        }
+    }
+
+    @Benchmark
+    public long fastReaderStream() throws IOException {
+        try (FastReader in = new FastReader(new FileInputStream(file.toFile()))) {
+            return sum(in);
+        }
+    }
+
+    @Benchmark
+    public long fastReaderMapped() throws IOException {
+        try (FastReader in = FastReader.open(file)) {
+            return sum(in);
+        }
+    }
+
+    private static long sum(FastReader in) throws IOException {
+        int count = in.nextInt();
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += in.nextInt();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,122 @@
+package s01_io;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.StringTokenizer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 격자 입력: 줄마다 토크나이저 vs FastReader 벌크 읽기
+ *
+ * 연산 1번 = size x size 격자 전체 읽기 (StringTokenizerTest.N과_M_입력_후_2차원_배열_읽기 패턴)
+ * - numbers: "12 7 999 ..." 공백으로 구분된 0 ~ 999
+ * - digits: "01011..." 구분자 없는 0/1 (미로, 지도)
+ *
+ * - bufferedReaderPerRow: readLine + 줄마다 StringTokenizer (digits면 charAt - '0')
+ * - fastReaderNextInt: nextInt()를 칸마다 호출 (digits면 next() 후 charAt)
+ * - fastReaderMatrix: nextMatrix / nextDigitGrid → int[][]
+ * - fastReaderFlat: nextInts / nextDigitGrid(int[]) → 행 우선 int[]
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=MatrixInputBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MatrixInputBenchmark {
+
+    @Param({"1000", "5000"})
+    int size;
+
+    @Param({"numbers", "digits"})
+    String format;
+
+    private byte[] input;
+    private boolean digits;
+
+    @Setup
+    public void setUp() {
+        digits = format.equals("digits");
+        input = BenchmarkInputs.matrix(size, size, digits, 42);
+    }
+
+    @Benchmark
+    public int[][] bufferedReaderPerRow() throws IOException {
+        BufferedReader br = new BufferedReader(new InputStreamReader(stream()));
+        StringTokenizer st = new StringTokenizer(br.readLine());
+        int rows = Integer.parseInt(st.nextToken());
+        int cols = Integer.parseInt(st.nextToken());
+        int[][] grid = new int[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            if (digits) {
+                String line = br.readLine();
+                for (int j = 0; j < cols; j++) {
+                    grid[i][j] = line.charAt(j) - '0';
+                }
+            } else {
+                st = new StringTokenizer(br.readLine());
+                for (int j = 0; j < cols; j++) {
+                    grid[i][j] = Integer.parseInt(st.nextToken());
+                }
+            }
+        }
+        return grid;
+    }
+
+    @Benchmark
+    public int[][] fastReaderNextInt() throws IOException {
+        FastReader in = new FastReader(stream());
+        int rows = in.nextInt();
+        int cols = in.nextInt();
+        int[][] grid = new int[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            if (digits) {
+                String line = in.next();
+                for (int j = 0; j < cols; j++) {
+                    grid[i][j] = line.charAt(j) - '0';
+                }
+            } else {
+                for (int j = 0; j < cols; j++) {
+                    grid[i][j] = in.nextInt();
+                }
+            }
+        }
+        return grid;
+    }
+
+    @Benchmark
+    public int[][] fastReaderMatrix() throws IOException {
+        FastReader in = new FastReader(stream());
+        int rows = in.nextInt();
+        int cols = in.nextInt();
+        return digits ? in.nextDigitGrid(rows, cols) : in.nextMatrix(rows, cols);
+    }
+
+    @Benchmark
+    public int[] fastReaderFlat() throws IOException {
+        FastReader in = new FastReader(stream());
+        int rows = in.nextInt();
+        int cols = in.nextInt();
+        int[] grid = new int[rows * cols];
+        if (digits) {
+            in.nextDigitGrid(grid, rows, cols);
+        } else {
+            in.nextInts(grid);
+        }
+        return grid;
+    }
+
+    private InputStream stream() {
+        return new ByteArrayInputStream(input);
+    }
+}
@@ -0,0 +1,76 @@
+package s01_io;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 토큰 파싱 비용 비교: String + Integer.parseInt vs NumberParser
+ *
+ * 입력은 이미 메모리에 있고 토큰 위치도 미리 구해 둔다 → 순수 파싱 비용만 측정
+ * - parseIntViaString: 토큰마다 String 생성 (StringTokenizer.nextToken()과 같은 비용)
+ * - numberParser: byte[] 범위를 바로 파싱, gc.alloc.rate.norm ≈ 0
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=NumberParserBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NumberParserBenchmark {
+
+    // 간선 10^6개의 양 끝점
+    @Param({"2000000"})
+    int n;
+
+    private byte[] input;
+    private int[] starts;
+    private int[] lengths;
+
+    @Setup
+    public void setUp() {
+        input = BenchmarkInputs.integers(n, 42);
+        starts = new int[n + 1];
+        lengths = new int[n + 1];
+        int count = 0;
+        int i = 0;
+        while (i < input.length) {
+            while (i < input.length && input[i] <= ' ') {
+                i++;
+            }
+            int start = i;
+            while (i < input.length && input[i] > ' ') {
+                i++;
+            }
+            if (i > start) {
+                starts[count] = start;
+                lengths[count] = i - start;
+                count++;
+            }
+        }
+    }
+
+    @Benchmark
+    public long parseIntViaString() {
+        long sum = 0;
+        for (int i = 0; i < starts.length; i++) {
+            sum += Integer.parseInt(new String(input, starts[i], lengths[i], StandardCharsets.US_ASCII));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long numberParser() {
+        long sum = 0;
+        for (int i = 0; i < starts.length; i++) {
+            sum += NumberParser.parseInt(input, starts[i], lengths[i]);
+        }
+        return sum;
+    }
+}
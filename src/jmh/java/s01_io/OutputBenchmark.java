@@ -0,0 +1,90 @@
+package s01_io;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 출력 방식별 성능 비교 (OutputTest.성능_개념)
+ *
+ * 연산 1번 = 정수 n개를 한 줄에 하나씩 출력.
+ * 출력 대상은 OutputStream.nullOutputStream() → 순수 변환/버퍼링 비용만 측정
+ *
+ * - stringBuilder: OutputTest.PS_권장_패턴 (모아서 toString → 인코딩 → 한 번에 write)
+ * - bufferedWriter: write(String.valueOf(v)) + newLine()
+ * - printWriter: println(int)
+ * - fastWriter: byte[] 버퍼에 ASCII 숫자 직접 쓰기
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=OutputBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OutputBenchmark {
+
+    @Param({"1000000"})
+    int n;
+
+    private int[] values;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        values = new int[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextInt(-1_000_000_000, 1_000_000_001);
+        }
+    }
+
+    @Benchmark
+    public void stringBuilder() throws IOException {
+        OutputStream out = OutputStream.nullOutputStream();
+        StringBuilder sb = new StringBuilder();
+        for (int v : values) {
+            sb.append(v).append('\n');
+        }
+        out.write(sb.toString().getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    @Benchmark
+    public void bufferedWriter() throws IOException {
+        BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(OutputStream.nullOutputStream()));
+        for (int v : values) {
+            bw.write(String.valueOf(v));
+            bw.newLine();
+        }
+        bw.flush();
+    }
+
+    @Benchmark
+    public void printWriter() {
+        PrintWriter pw = new PrintWriter(new BufferedWriter(new OutputStreamWriter(OutputStream.nullOutputStream())));
+        for (int v : values) {
+            pw.println(v);
+        }
+        pw.flush();
+    }
+
+    @Benchmark
+    public void fastWriter() {
+        FastWriter out = new FastWriter(OutputStream.nullOutputStream());
+        for (int v : values) {
+            out.println(v);
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,68 @@
+package s01_io;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 병렬 청크 파싱의 코어 수별 확장성: FastReader (1스레드) vs ParallelTokenizer (threads개)
+ *
+ * 연산 1번 = 메모리에 있는 입력 (정수 n개, 약 220MB) 전체를 int[]로 파싱
+ * - threads = 1은 청크 분할 + 이어 붙이기 비용만 더해진 순차 파싱
+ * - 코어 수보다 큰 threads는 의미 없다 (nproc 확인)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=ParallelTokenizerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelTokenizerBenchmark {
+
+    @Param({"20000000"})
+    int n;
+
+    @Param({"1", "2", "4", "8"})
+    int threads;
+
+    private byte[] input;
+    private ForkJoinPool pool;
+    private ParallelTokenizer tokenizer;
+
+    @Setup
+    public void setUp() {
+        input = BenchmarkInputs.integers(n, 42);
+        pool = new ForkJoinPool(threads);
+        tokenizer = new ParallelTokenizer(pool);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int[] fastReader() throws IOException {
+        FastReader in = new FastReader(new ByteArrayInputStream(input));
+        int count = in.nextInt();
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = in.nextInt();
+        }
+        return values;
+    }
+
+    @Benchmark
+    public int[] parallelTokenizer() {
+        return tokenizer.parseInts(input);
+    }
+}
@@ -0,0 +1,99 @@
+package s01_io;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 2진수/16진수 토큰 입출력: JDK 경로 vs NumberParser / FastWriter (ParsingTest.진법_변환)
+ *
+ * 연산 1번 = 64비트 마스크 n개 전부 파싱 또는 출력
+ * - radix 2: 64자 고정 폭 비트마스크 ("0010...1")
+ * - radix 16: 16자 고정 폭 해시 ("00ab...ef")
+ * - parseViaString: new String + Long.parseUnsignedLong(s, radix)
+ * - numberParser: NumberParser.parseUnsignedLong(byte[], ..., radix), 시프트로 쌓기
+ * - toStringPadded: Long.toBinaryString / toHexString + 앞쪽 0 채우기 후 FastWriter.print
+ * - fastWriter: printBinary(v, 64) / printHex(v, 16)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=RadixBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RadixBenchmark {
+
+    @Param({"1000000"})
+    int n;
+
+    @Param({"2", "16"})
+    int radix;
+
+    private long[] values;
+    private byte[] input;
+    private int width;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        width = radix == 2 ? 64 : 16;
+        values = new long[n];
+        StringBuilder sb = new StringBuilder(n * (width + 1));
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextLong();
+            String digits = Long.toUnsignedString(values[i], radix);
+            sb.append("0".repeat(width - digits.length())).append(digits).append('\n');
+        }
+        input = sb.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public long parseViaString() {
+        long hash = 0;
+        for (int i = 0, start = 0; i < n; i++, start += width + 1) {
+            hash ^= Long.parseUnsignedLong(new String(input, start, width, StandardCharsets.US_ASCII), radix);
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public long numberParser() {
+        long hash = 0;
+        for (int i = 0, start = 0; i < n; i++, start += width + 1) {
+            hash ^= NumberParser.parseUnsignedLong(input, start, width, radix);
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public void toStringPadded() {
+        FastWriter out = new FastWriter(OutputStream.nullOutputStream());
+        for (long v : values) {
+            String digits = radix == 2 ? Long.toBinaryString(v) : Long.toHexString(v);
+            out.println("0".repeat(width - digits.length()) + digits);
+        }
+        out.flush();
+    }
+
+    @Benchmark
+    public void fastWriter() {
+        FastWriter out = new FastWriter(OutputStream.nullOutputStream());
+        for (long v : values) {
+            if (radix == 2) {
+                out.printBinary(v, 64);
+            } else {
+                out.printHex(v, 16);
+            }
+            out.println();
+        }
+        out.flush();
+    }
+}
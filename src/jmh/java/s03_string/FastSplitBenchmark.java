@@ -0,0 +1,91 @@
+package s03_string;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * String.split vs FastSplit (n줄을 각각 자르고 토큰 길이 합산)
+ *
+ * - char: "a,b,c" / split(",")은 String.split도 빠른 경로 → 차이 작음이 정상
+ * - literal: "a, b, c" / split(", ")은 줄마다 Pattern 컴파일, FastSplit.splitLiteral은 indexOf
+ * - regex: "a  b \t c" / split("\\s+")는 줄마다 컴파일, FastSplit.splitRegex는 캐시된 Pattern
+ *
+ * FastSplit 쪽 메서드는 @Setup에서 한 번 골라 둔다 (측정 루프 안에서 String switch를 하지 않도록).
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=FastSplitBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FastSplitBenchmark {
+
+    @Param({"1000000"})
+    int n;
+
+    @Param({"char", "literal", "regex"})
+    String delimiter;
+
+    private String[] lines;
+    private String regex;
+    private Function<String, String[]> fastSplitter;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        String separator;
+        if (delimiter.equals("char")) {
+            separator = ",";
+            regex = ",";
+            fastSplitter = line -> FastSplit.split(line, ',');
+        } else if (delimiter.equals("literal")) {
+            separator = ", ";
+            regex = ", ";
+            fastSplitter = line -> FastSplit.splitLiteral(line, ", ");
+        } else {
+            separator = " \t ";
+            regex = "\\s+";
+            fastSplitter = line -> FastSplit.splitRegex(line, regex);
+        }
+        lines = new String[n];
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < n; i++) {
+            sb.setLength(0);
+            for (int j = 0; j < 5; j++) {
+                sb.append(j > 0 ? separator : "").append(random.nextInt(1_000_000));
+            }
+            lines[i] = sb.toString();
+        }
+    }
+
+    @Benchmark
+    public long stringSplit() {
+        long total = 0;
+        for (String line : lines) {
+            for (String token : line.split(regex)) {
+                total += token.length();
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long fastSplit() {
+        long total = 0;
+        for (String line : lines) {
+            String[] tokens = fastSplitter.apply(line);
+            for (String token : tokens) {
+                total += token.length();
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,72 @@
+package s06_set_map;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 교집합 (HashSetTest.집합_연산.retainAll로_교집합): HashSet<Integer> vs DenseIntSet
+ *
+ * 연산 1번 = 원소 n개짜리 집합 두 개의 교집합 (범위 [0, 2n)에서 무작위)
+ * - 원본을 남기기 위해 복사 후 교집합 → 복사 비용 포함
+ * - hashSetRetainAll: new HashSet<>(a).retainAll(b)
+ * - denseIntersect: a.copy().intersect(b)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=DenseIntSetBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DenseIntSetBenchmark {
+
+    @Param({"1000000"})
+    int n;
+
+    private Set<Integer> hashA;
+    private Set<Integer> hashB;
+    private DenseIntSet denseA;
+    private DenseIntSet denseB;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        int universe = 2 * n;
+        hashA = new HashSet<>();
+        hashB = new HashSet<>();
+        denseA = new DenseIntSet(universe);
+        denseB = new DenseIntSet(universe);
+        fill(random, universe, hashA, denseA);
+        fill(random, universe, hashB, denseB);
+    }
+
+    private void fill(SplittableRandom random, int universe, Set<Integer> hash, DenseIntSet dense) {
+        while (hash.size() < n) {
+            int x = random.nextInt(universe);
+            hash.add(x);
+            dense.add(x);
+        }
+    }
+
+    @Benchmark
+    public int hashSetRetainAll() {
+        Set<Integer> result = new HashSet<>(hashA);
+        result.retainAll(hashB);
+        return result.size();
+    }
+
+    @Benchmark
+    public int denseIntersect() {
+        DenseIntSet result = denseA.copy();
+        result.intersect(denseB);
+        return result.cardinality();
+    }
+}
@@ -0,0 +1,74 @@
+package s06_set_map;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * HashSet<Integer> vs IntHashSet
+ *
+ * 연산 1번 = 무작위 정수 n개를 add (중복 포함) 후 n번 contains
+ * - 시간: Score (ms/op)
+ * - 메모리: gc.alloc.rate.norm = 집합을 만드는 동안 할당한 바이트
+ *   (Integer 박싱, HashMap.Node, rehash로 버려진 테이블 포함)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=IntHashSetBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IntHashSetBenchmark {
+
+    @Param({"1000000", "10000000"})
+    int n;
+
+    private int[] keys;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = random.nextInt(n); // 0..n-1 범위 → 약 63%만 서로 다르다
+        }
+    }
+
+    @Benchmark
+    public int hashSet() {
+        Set<Integer> set = new HashSet<>();
+        for (int key : keys) {
+            set.add(key);
+        }
+        int hits = 0;
+        for (int key : keys) {
+            if (set.contains(key + 1)) {
+                hits++;
+            }
+        }
+        return hits + set.size();
+    }
+
+    @Benchmark
+    public int intHashSet() {
+        IntHashSet set = new IntHashSet();
+        for (int key : keys) {
+            set.add(key);
+        }
+        int hits = 0;
+        for (int key : keys) {
+            if (set.contains(key + 1)) {
+                hits++;
+            }
+        }
+        return hits + set.size();
+    }
+}
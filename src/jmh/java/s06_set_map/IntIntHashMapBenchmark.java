@@ -0,0 +1,111 @@
+package s06_set_map;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * HashMap 카운팅 vs 기본형 맵 (IntIntHashMapTest.HashMap과_비교)
+ *
+ * 연산 1번 = 서로 다른 키 n개를 무작위 순서로 두 번씩 카운팅 후 n번 getOrDefault
+ * - hashMapInteger: Map<Integer, Integer>.merge(key, 1, Integer::sum)
+ * - intIntHashMap: addTo(key, 1)
+ * - hashMapLong / longIntHashMap: 같은 패턴을 long 키로
+ *
+ * gc.alloc.rate.norm이 맵을 만드는 동안 할당한 바이트 (박싱 + Node + rehash)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=IntIntHashMapBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IntIntHashMapBenchmark {
+
+    @Param({"1000000"})
+    int n;
+
+    private int[] intKeys;
+    private long[] longKeys;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        intKeys = new int[2 * n];
+        longKeys = new long[2 * n];
+        for (int i = 0; i < 2 * n; i++) {
+            int key = (i % n) * 1_000_003; // n개의 서로 다른 키
+            intKeys[i] = key;
+            longKeys[i] = (long) key << 20;
+        }
+        for (int i = 2 * n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = intKeys[i];
+            intKeys[i] = intKeys[j];
+            intKeys[j] = t;
+            long u = longKeys[i];
+            longKeys[i] = longKeys[j];
+            longKeys[j] = u;
+        }
+    }
+
+    @Benchmark
+    public long hashMapInteger() {
+        Map<Integer, Integer> count = new HashMap<>();
+        for (int key : intKeys) {
+            count.merge(key, 1, Integer::sum);
+        }
+        long sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += count.getOrDefault(intKeys[i], 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long intIntHashMap() {
+        IntIntHashMap count = new IntIntHashMap();
+        for (int key : intKeys) {
+            count.addTo(key, 1);
+        }
+        long sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += count.getOrDefault(intKeys[i], 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long hashMapLong() {
+        Map<Long, Integer> count = new HashMap<>();
+        for (long key : longKeys) {
+            count.merge(key, 1, Integer::sum);
+        }
+        long sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += count.getOrDefault(longKeys[i], 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long longIntHashMap() {
+        LongIntHashMap count = new LongIntHashMap();
+        for (long key : longKeys) {
+            count.addTo(key, 1);
+        }
+        long sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += count.getOrDefault(longKeys[i], 0);
+        }
+        return sum;
+    }
+}
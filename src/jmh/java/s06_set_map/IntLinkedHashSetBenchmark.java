@@ -0,0 +1,70 @@
+package s06_set_map;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 순서 유지 중복 제거 (LinkedHashSetTest.중복_제거하면서_순서_유지): LinkedHashSet<Integer> vs IntLinkedHashSet
+ *
+ * 연산 1번 = 무작위 정수 n개 (범위 [0, n/2))를 추가한 뒤 삽입 순서대로 순회
+ * gc.alloc.rate.norm = 집합을 만드는 동안 할당한 바이트
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=IntLinkedHashSetBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IntLinkedHashSetBenchmark {
+
+    @Param({"1000000", "10000000"})
+    int n;
+
+    private int[] keys;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = random.nextInt(n / 2);
+        }
+    }
+
+    @Benchmark
+    public long linkedHashSet() {
+        Set<Integer> unique = new LinkedHashSet<>();
+        for (int key : keys) {
+            unique.add(key);
+        }
+        long weighted = 0;
+        int rank = 0;
+        for (int key : unique) {
+            weighted += (long) key * ++rank;
+        }
+        return weighted;
+    }
+
+    @Benchmark
+    public long intLinkedHashSet() {
+        IntLinkedHashSet unique = new IntLinkedHashSet();
+        for (int key : keys) {
+            unique.add(key);
+        }
+        long weighted = 0;
+        int rank = 0;
+        for (var it = unique.iterator(); it.hasNext(); ) {
+            weighted += (long) it.nextInt() * ++rank;
+        }
+        return weighted;
+    }
+}
@@ -0,0 +1,141 @@
+package s06_set_map;
+
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * TreeSet<Integer> vs IntOrderedSet vs CompressedIntOrderedSet
+ *
+ * 연산 1번 = 무작위 연산 n개 (add 50%, remove 20%, floor 15%, ceiling 15%)
+ * - treeSet / intOrderedSet: 값 범위 [0, n)
+ * - treeSetWide / compressed: 값 범위 ±10^9 (후보 n개를 미리 앎)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=OrderedSetBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrderedSetBenchmark {
+
+    private static final int ADD = 0;
+    private static final int REMOVE = 1;
+    private static final int FLOOR = 2;
+    private static final int CEILING = 3;
+
+    @Param({"1000000"})
+    int n;
+
+    private int[] ops;
+    private int[] values;
+    private int[] wideValues;
+    private int[] candidates;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        ops = new int[n];
+        values = new int[n];
+        wideValues = new int[n];
+        int[] wideCandidates = new int[n];
+        for (int i = 0; i < n; i++) {
+            wideCandidates[i] = random.nextInt(-1_000_000_000, 1_000_000_000);
+        }
+        for (int i = 0; i < n; i++) {
+            int r = random.nextInt(100);
+            ops[i] = r < 50 ? ADD : r < 70 ? REMOVE : r < 85 ? FLOOR : CEILING;
+            values[i] = random.nextInt(n);
+            wideValues[i] = wideCandidates[values[i]];
+        }
+        candidates = wideCandidates;
+    }
+
+    @Benchmark
+    public long treeSet() {
+        return runTreeSet(values);
+    }
+
+    @Benchmark
+    public long intOrderedSet() {
+        IntOrderedSet set = new IntOrderedSet(n);
+        long acc = 0;
+        for (int i = 0; i < n; i++) {
+            int x = values[i];
+            switch (ops[i]) {
+                case ADD:
+                    set.add(x);
+                    break;
+                case REMOVE:
+                    set.remove(x);
+                    break;
+                case FLOOR:
+                    acc += set.floor(x);
+                    break;
+                default:
+                    acc += set.ceiling(x);
+            }
+        }
+        return acc + set.size();
+    }
+
+    @Benchmark
+    public long treeSetWide() {
+        return runTreeSet(wideValues);
+    }
+
+    @Benchmark
+    public long compressed() {
+        CompressedIntOrderedSet set = new CompressedIntOrderedSet(candidates);
+        long acc = 0;
+        for (int i = 0; i < n; i++) {
+            int x = wideValues[i];
+            switch (ops[i]) {
+                case ADD:
+                    set.add(x);
+                    break;
+                case REMOVE:
+                    set.remove(x);
+                    break;
+                case FLOOR:
+                    acc += set.floor(x);
+                    break;
+                default:
+                    acc += set.ceiling(x);
+            }
+        }
+        return acc + set.size();
+    }
+
+    private long runTreeSet(int[] input) {
+        TreeSet<Integer> set = new TreeSet<>();
+        long acc = 0;
+        for (int i = 0; i < n; i++) {
+            int x = input[i];
+            Integer v;
+            switch (ops[i]) {
+                case ADD:
+                    set.add(x);
+                    break;
+                case REMOVE:
+                    set.remove(x);
+                    break;
+                case FLOOR:
+                    v = set.floor(x);
+                    acc += v == null ? IntOrderedSet.NONE : v;
+                    break;
+                default:
+                    v = set.ceiling(x);
+                    acc += v == null ? IntOrderedSet.NONE : v;
+            }
+        }
+        return acc + set.size();
+    }
+}
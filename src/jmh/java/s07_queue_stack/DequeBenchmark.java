@@ -0,0 +1,117 @@
+package s07_queue_stack;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 격자 BFS 큐 비교 (IntDequeTest, IntQueueTest)
+ *
+ * 연산 1번 = side * side 격자 (벽 20%)에서 왼쪽 위 칸부터 4방향 BFS 한 번.
+ * 칸 번호 r * side + c 하나를 큐에 넣는다.
+ * - arrayDeque: ArrayDeque<Integer> (offer마다 Integer 박싱, 127 넘는 칸 번호는 매번 새 객체)
+ * - intDeque: IntDeque (기본 용량 16에서 시작해 늘어난다)
+ * - intQueue: IntQueue(side * side) (고정 용량, 늘리기/순환 없음)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=DequeBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DequeBenchmark {
+
+    @Param({"1000", "4000"})
+    int side;
+
+    private boolean[] wall;
+    private int[] dist;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        wall = new boolean[side * side];
+        for (int i = 1; i < wall.length; i++) {
+            wall[i] = random.nextInt(5) == 0;
+        }
+        dist = new int[side * side];
+    }
+
+    @Benchmark
+    public long arrayDeque() {
+        Arrays.fill(dist, -1);
+        dist[0] = 0;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.offer(0);
+        while (!queue.isEmpty()) {
+            int cell = queue.poll();
+            int r = cell / side;
+            int c = cell - r * side;
+            if (r > 0 && visit(cell, cell - side)) queue.offer(cell - side);
+            if (r + 1 < side && visit(cell, cell + side)) queue.offer(cell + side);
+            if (c > 0 && visit(cell, cell - 1)) queue.offer(cell - 1);
+            if (c + 1 < side && visit(cell, cell + 1)) queue.offer(cell + 1);
+        }
+        return checksum();
+    }
+
+    @Benchmark
+    public long intDeque() {
+        Arrays.fill(dist, -1);
+        dist[0] = 0;
+        IntDeque queue = new IntDeque();
+        queue.offerLast(0);
+        while (!queue.isEmpty()) {
+            int cell = queue.pollFirst();
+            int r = cell / side;
+            int c = cell - r * side;
+            if (r > 0 && visit(cell, cell - side)) queue.offerLast(cell - side);
+            if (r + 1 < side && visit(cell, cell + side)) queue.offerLast(cell + side);
+            if (c > 0 && visit(cell, cell - 1)) queue.offerLast(cell - 1);
+            if (c + 1 < side && visit(cell, cell + 1)) queue.offerLast(cell + 1);
+        }
+        return checksum();
+    }
+
+    @Benchmark
+    public long intQueue() {
+        Arrays.fill(dist, -1);
+        dist[0] = 0;
+        IntQueue queue = new IntQueue(side * side);
+        queue.add(0);
+        while (!queue.isEmpty()) {
+            int cell = queue.poll();
+            int r = cell / side;
+            int c = cell - r * side;
+            if (r > 0 && visit(cell, cell - side)) queue.add(cell - side);
+            if (r + 1 < side && visit(cell, cell + side)) queue.add(cell + side);
+            if (c > 0 && visit(cell, cell - 1)) queue.add(cell - 1);
+            if (c + 1 < side && visit(cell, cell + 1)) queue.add(cell + 1);
+        }
+        return checksum();
+    }
+
+    private boolean visit(int from, int next) {
+        if (wall[next] || dist[next] >= 0) {
+            return false;
+        }
+        dist[next] = dist[from] + 1;
+        return true;
+    }
+
+    private long checksum() {
+        long sum = 0;
+        for (int d : dist) {
+            sum += d;
+        }
+        return sum;
+    }
+}
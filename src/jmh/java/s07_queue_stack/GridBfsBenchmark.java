@@ -0,0 +1,120 @@
+package s07_queue_stack;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 격자 탐색: new int[] {r, c} 큐 vs 묶은 좌표 (GridBfsTest)
+ *
+ * 연산 1번 = side * side 격자에서 (0, 0)부터 탐색 한 번.
+ * - bfsIntArray: ArrayDeque<int[]> + int[][] dist (벽 20%)
+ * - bfsPacked: GridBfs.bfs (인스턴스 재사용)
+ * - zeroOneIntArray: ArrayDeque<int[]> 0-1 BFS (칸 비용 0/1 반반)
+ * - zeroOnePacked: GridBfs.zeroOneBfs
+ *
+ * 기준 방식은 매번 dist 배열과 칸마다 int[2]를 만든다.
+ * GridBfs는 gc.alloc.rate.norm이 0에 가까워야 한다 (첫 호출에서 덱이 늘어난 뒤).
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=GridBfsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GridBfsBenchmark {
+
+    private static final int[] DR = {-1, 1, 0, 0};
+    private static final int[] DC = {0, 0, -1, 1};
+
+    @Param({"1000"})
+    int side;
+
+    private int[] open; // 1 = 길, 0 = 벽
+    private int[] cost; // 0 또는 1
+    private GridBfs gridBfs;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        open = new int[side * side];
+        cost = new int[side * side];
+        for (int i = 0; i < open.length; i++) {
+            open[i] = i == 0 || random.nextInt(5) > 0 ? 1 : 0;
+            cost[i] = random.nextInt(2);
+        }
+        gridBfs = new GridBfs(side, side);
+    }
+
+    @Benchmark
+    public int bfsIntArray() {
+        int[][] dist = new int[side][side];
+        for (int[] row : dist) {
+            Arrays.fill(row, -1);
+        }
+        Deque<int[]> queue = new ArrayDeque<>();
+        dist[0][0] = 0;
+        queue.add(new int[] {0, 0});
+        while (!queue.isEmpty()) {
+            int[] cur = queue.poll();
+            for (int k = 0; k < 4; k++) {
+                int nr = cur[0] + DR[k];
+                int nc = cur[1] + DC[k];
+                if (nr < 0 || nr >= side || nc < 0 || nc >= side) continue;
+                if (open[nr * side + nc] == 0 || dist[nr][nc] >= 0) continue;
+                dist[nr][nc] = dist[cur[0]][cur[1]] + 1;
+                queue.add(new int[] {nr, nc});
+            }
+        }
+        return dist[side - 1][side - 1];
+    }
+
+    @Benchmark
+    public int bfsPacked() {
+        return gridBfs.bfs(open, 0, 0)[side * side - 1];
+    }
+
+    @Benchmark
+    public int zeroOneIntArray() {
+        int[][] dist = new int[side][side];
+        for (int[] row : dist) {
+            Arrays.fill(row, Integer.MAX_VALUE);
+        }
+        Deque<int[]> deque = new ArrayDeque<>();
+        dist[0][0] = 0;
+        deque.add(new int[] {0, 0});
+        while (!deque.isEmpty()) {
+            int[] cur = deque.pollFirst();
+            for (int k = 0; k < 4; k++) {
+                int nr = cur[0] + DR[k];
+                int nc = cur[1] + DC[k];
+                if (nr < 0 || nr >= side || nc < 0 || nc >= side) continue;
+                int w = cost[nr * side + nc];
+                int d = dist[cur[0]][cur[1]] + w;
+                if (d < dist[nr][nc]) {
+                    dist[nr][nc] = d;
+                    if (w == 0) {
+                        deque.addFirst(new int[] {nr, nc});
+                    } else {
+                        deque.addLast(new int[] {nr, nc});
+                    }
+                }
+            }
+        }
+        return dist[side - 1][side - 1];
+    }
+
+    @Benchmark
+    public int zeroOnePacked() {
+        return gridBfs.zeroOneBfs(cost, 0)[side * side - 1];
+    }
+}
@@ -0,0 +1,134 @@
+package s07_queue_stack;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 다익스트라 우선순위 큐 비교 (LongIntHeapTest.다익스트라_결과가_같다)
+ *
+ * 연산 1번 = 정점 n개, 간선 m개 (가중치 1 ~ 1000) 무작위 그래프에서 0번 정점 다익스트라 한 번.
+ * 그래프는 CSR 배열 (head / to / weight)로 미리 만들어 두고 큐만 바꾼다.
+ * - priorityQueue: PriorityQueue<int[]> + 람다 비교자, push마다 new int[] {dist, node}
+ * - binaryHeap: LongIntHeap (이진)
+ * - quaternaryHeap: LongIntHeap (QUATERNARY)
+ *
+ * 세 방식 모두 지연 삭제 (꺼낸 거리가 dist보다 크면 건너뜀)라 큐 연산 횟수는 같다.
+ * -prof gc의 gc.alloc.rate.norm으로 push당 배열 할당 차이를 본다.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=HeapBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HeapBenchmark {
+
+    @Param({"100000"})
+    int n;
+
+    @Param({"1000000"})
+    int m;
+
+    private int[] head; // head[u] ~ head[u + 1] - 1: u에서 나가는 간선
+    private int[] to;
+    private int[] weight;
+    private int[] dist;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        int[] from = new int[m];
+        int[] target = new int[m];
+        int[] cost = new int[m];
+        head = new int[n + 1];
+        for (int i = 0; i < m; i++) {
+            from[i] = random.nextInt(n);
+            target[i] = random.nextInt(n);
+            cost[i] = random.nextInt(1, 1001);
+            head[from[i] + 1]++;
+        }
+        for (int u = 0; u < n; u++) {
+            head[u + 1] += head[u];
+        }
+        to = new int[m];
+        weight = new int[m];
+        int[] next = Arrays.copyOf(head, n);
+        for (int i = 0; i < m; i++) {
+            int slot = next[from[i]]++;
+            to[slot] = target[i];
+            weight[slot] = cost[i];
+        }
+        dist = new int[n];
+    }
+
+    @Benchmark
+    public long priorityQueue() {
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        dist[0] = 0;
+        PriorityQueue<int[]> pq = new PriorityQueue<>((x, y) -> Integer.compare(x[0], y[0]));
+        pq.add(new int[] {0, 0});
+        while (!pq.isEmpty()) {
+            int[] top = pq.poll();
+            int u = top[1];
+            if (top[0] > dist[u]) {
+                continue;
+            }
+            for (int e = head[u]; e < head[u + 1]; e++) {
+                int next = top[0] + weight[e];
+                if (next < dist[to[e]]) {
+                    dist[to[e]] = next;
+                    pq.add(new int[] {next, to[e]});
+                }
+            }
+        }
+        return checksum();
+    }
+
+    @Benchmark
+    public long binaryHeap() {
+        return dijkstra(new LongIntHeap(16, 0));
+    }
+
+    @Benchmark
+    public long quaternaryHeap() {
+        return dijkstra(new LongIntHeap(16, LongIntHeap.QUATERNARY));
+    }
+
+    private long dijkstra(LongIntHeap pq) {
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        dist[0] = 0;
+        pq.add(0, 0);
+        while (!pq.isEmpty()) {
+            int d = (int) pq.peekPriority();
+            int u = pq.poll();
+            if (d > dist[u]) {
+                continue;
+            }
+            for (int e = head[u]; e < head[u + 1]; e++) {
+                int next = d + weight[e];
+                if (next < dist[to[e]]) {
+                    dist[to[e]] = next;
+                    pq.add(next, to[e]);
+                }
+            }
+        }
+        return checksum();
+    }
+
+    private long checksum() {
+        long sum = 0;
+        for (int d : dist) {
+            sum += d;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,122 @@
+package s07_queue_stack;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 밀집 그래프 다익스트라: 지연 삭제 vs decreaseKey (IndexedLongHeapTest.밀집_그래프_다익스트라가_지연_삭제와_같다)
+ *
+ * 연산 1번 = 정점 n개 완전 그래프 (가중치 1 ~ 1000, n * n 행렬)에서 0번 정점 다익스트라 한 번.
+ * - lazyPriorityQueue: PriorityQueue<int[]> + 람다 비교자, 거리가 줄 때마다 새 쌍
+ * - lazyHeap: LongIntHeap, 거리가 줄 때마다 새 쌍 (할당은 없지만 힙이 O(E)까지 큰다)
+ * - indexedHeap: IndexedLongHeap.addOrDecrease (힙 크기 ≤ n, 생성 뒤 할당 없음)
+ *
+ * 간선 완화는 세 방식 모두 n^2번으로 같다. 차이는 큐 크기와 push당 비용.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=IndexedHeapBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IndexedHeapBenchmark {
+
+    @Param({"1000", "3000"})
+    int n;
+
+    private int[] weight; // weight[u * n + v]
+    private int[] dist;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        weight = new int[n * n];
+        for (int i = 0; i < weight.length; i++) {
+            weight[i] = random.nextInt(1, 1001);
+        }
+        dist = new int[n];
+    }
+
+    @Benchmark
+    public long lazyPriorityQueue() {
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        dist[0] = 0;
+        PriorityQueue<int[]> pq = new PriorityQueue<>((x, y) -> Integer.compare(x[0], y[0]));
+        pq.add(new int[] {0, 0});
+        while (!pq.isEmpty()) {
+            int[] top = pq.poll();
+            int u = top[1];
+            if (top[0] > dist[u]) {
+                continue;
+            }
+            for (int v = 0, row = u * n; v < n; v++) {
+                int next = top[0] + weight[row + v];
+                if (next < dist[v]) {
+                    dist[v] = next;
+                    pq.add(new int[] {next, v});
+                }
+            }
+        }
+        return checksum();
+    }
+
+    @Benchmark
+    public long lazyHeap() {
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        dist[0] = 0;
+        LongIntHeap pq = new LongIntHeap(n);
+        pq.add(0, 0);
+        while (!pq.isEmpty()) {
+            int d = (int) pq.peekPriority();
+            int u = pq.poll();
+            if (d > dist[u]) {
+                continue;
+            }
+            for (int v = 0, row = u * n; v < n; v++) {
+                int next = d + weight[row + v];
+                if (next < dist[v]) {
+                    dist[v] = next;
+                    pq.add(next, v);
+                }
+            }
+        }
+        return checksum();
+    }
+
+    @Benchmark
+    public long indexedHeap() {
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        dist[0] = 0;
+        IndexedLongHeap pq = new IndexedLongHeap(n);
+        pq.add(0, 0);
+        while (!pq.isEmpty()) {
+            int d = (int) pq.peekPriority();
+            int u = pq.poll();
+            for (int v = 0, row = u * n; v < n; v++) {
+                int next = d + weight[row + v];
+                if (next < dist[v]) {
+                    dist[v] = next;
+                    pq.addOrDecrease(v, next);
+                }
+            }
+        }
+        return checksum();
+    }
+
+    private long checksum() {
+        long sum = 0;
+        for (int d : dist) {
+            sum += d;
+        }
+        return sum;
+    }
+}
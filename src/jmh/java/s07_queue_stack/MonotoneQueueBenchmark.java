@@ -0,0 +1,158 @@
+package s07_queue_stack;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 격자 최단 경로: 비교 기반 힙 vs 단조 큐 (BucketQueueTest.격자_최단_거리가_PriorityQueue와_같다)
+ *
+ * 연산 1번 = side * side 격자 (기본 10^6칸), 칸에 들어가는 비용 1 ~ maxWeight,
+ * 왼쪽 위에서 4방향 다익스트라 한 번. 모두 지연 삭제.
+ * - priorityQueue: PriorityQueue<int[]> + 람다 비교자
+ * - quaternaryHeap: LongIntHeap (QUATERNARY)
+ * - radixHeap: RadixHeap
+ * - bucketQueue: BucketQueue(maxWeight) (다이얼 알고리즘)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=MonotoneQueueBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MonotoneQueueBenchmark {
+
+    @Param({"1000"})
+    int side;
+
+    @Param({"9"})
+    int maxWeight;
+
+    private int[] cost;
+    private int[] dist;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        cost = new int[side * side];
+        for (int i = 0; i < cost.length; i++) {
+            cost[i] = random.nextInt(1, maxWeight + 1);
+        }
+        dist = new int[side * side];
+    }
+
+    @Benchmark
+    public long priorityQueue() {
+        reset();
+        PriorityQueue<int[]> pq = new PriorityQueue<>((x, y) -> Integer.compare(x[0], y[0]));
+        pq.add(new int[] {0, 0});
+        while (!pq.isEmpty()) {
+            int[] top = pq.poll();
+            int d = top[0];
+            int cell = top[1];
+            if (d > dist[cell]) {
+                continue;
+            }
+            int r = cell / side;
+            int c = cell - r * side;
+            if (r > 0 && relax(d, cell - side)) pq.add(new int[] {dist[cell - side], cell - side});
+            if (r + 1 < side && relax(d, cell + side)) pq.add(new int[] {dist[cell + side], cell + side});
+            if (c > 0 && relax(d, cell - 1)) pq.add(new int[] {dist[cell - 1], cell - 1});
+            if (c + 1 < side && relax(d, cell + 1)) pq.add(new int[] {dist[cell + 1], cell + 1});
+        }
+        return checksum();
+    }
+
+    @Benchmark
+    public long quaternaryHeap() {
+        reset();
+        LongIntHeap pq = new LongIntHeap(side, LongIntHeap.QUATERNARY);
+        pq.add(0, 0);
+        while (!pq.isEmpty()) {
+            int d = (int) pq.peekPriority();
+            int cell = pq.poll();
+            if (d > dist[cell]) {
+                continue;
+            }
+            int r = cell / side;
+            int c = cell - r * side;
+            if (r > 0 && relax(d, cell - side)) pq.add(dist[cell - side], cell - side);
+            if (r + 1 < side && relax(d, cell + side)) pq.add(dist[cell + side], cell + side);
+            if (c > 0 && relax(d, cell - 1)) pq.add(dist[cell - 1], cell - 1);
+            if (c + 1 < side && relax(d, cell + 1)) pq.add(dist[cell + 1], cell + 1);
+        }
+        return checksum();
+    }
+
+    @Benchmark
+    public long radixHeap() {
+        reset();
+        RadixHeap pq = new RadixHeap();
+        pq.add(0, 0);
+        while (!pq.isEmpty()) {
+            int d = (int) pq.peekKey();
+            int cell = pq.poll();
+            if (d > dist[cell]) {
+                continue;
+            }
+            int r = cell / side;
+            int c = cell - r * side;
+            if (r > 0 && relax(d, cell - side)) pq.add(dist[cell - side], cell - side);
+            if (r + 1 < side && relax(d, cell + side)) pq.add(dist[cell + side], cell + side);
+            if (c > 0 && relax(d, cell - 1)) pq.add(dist[cell - 1], cell - 1);
+            if (c + 1 < side && relax(d, cell + 1)) pq.add(dist[cell + 1], cell + 1);
+        }
+        return checksum();
+    }
+
+    @Benchmark
+    public long bucketQueue() {
+        reset();
+        BucketQueue pq = new BucketQueue(maxWeight);
+        pq.add(0, 0);
+        while (!pq.isEmpty()) {
+            int d = pq.peekKey();
+            int cell = pq.poll();
+            if (d > dist[cell]) {
+                continue;
+            }
+            int r = cell / side;
+            int c = cell - r * side;
+            if (r > 0 && relax(d, cell - side)) pq.add(dist[cell - side], cell - side);
+            if (r + 1 < side && relax(d, cell + side)) pq.add(dist[cell + side], cell + side);
+            if (c > 0 && relax(d, cell - 1)) pq.add(dist[cell - 1], cell - 1);
+            if (c + 1 < side && relax(d, cell + 1)) pq.add(dist[cell + 1], cell + 1);
+        }
+        return checksum();
+    }
+
+    private boolean relax(int d, int next) {
+        int candidate = d + cost[next];
+        if (candidate < dist[next]) {
+            dist[next] = candidate;
+            return true;
+        }
+        return false;
+    }
+
+    private void reset() {
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        dist[0] = 0;
+    }
+
+    private long checksum() {
+        long sum = 0;
+        for (int d : dist) {
+            sum += d;
+        }
+        return sum;
+    }
+}
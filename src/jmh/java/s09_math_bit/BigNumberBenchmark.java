@@ -0,0 +1,81 @@
+package s09_math_bit;
+
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 큰 수 10진 입출력: BigInteger vs BigNumber (10^9 진법 자리)
+ *
+ * 연산 1번 = digits자리 수 하나를 파싱 / 출력 / 변환
+ * - bigIntegerParse / bigNumberParse: new BigInteger(String) vs BigNumber.parse
+ * - bigIntegerToString / bigNumberToString: 10진 문자열로 출력
+ * - toBigInteger / ofBigInteger: BigNumber ↔ BigInteger 분할 정복 변환 비용
+ *
+ * 자릿수가 10배가 될 때 시간이 몇 배가 되는지 보면 선형인지 알 수 있다.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=BigNumberBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BigNumberBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    int digits;
+
+    private String text;
+    private BigInteger bigInteger;
+    private BigNumber bigNumber;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        StringBuilder sb = new StringBuilder(digits);
+        sb.append((char) ('1' + random.nextInt(9)));
+        for (int i = 1; i < digits; i++) {
+            sb.append((char) ('0' + random.nextInt(10)));
+        }
+        text = sb.toString();
+        bigInteger = new BigInteger(text);
+        bigNumber = BigNumber.parse(text);
+    }
+
+    @Benchmark
+    public BigInteger bigIntegerParse() {
+        return new BigInteger(text);
+    }
+
+    @Benchmark
+    public BigNumber bigNumberParse() {
+        return BigNumber.parse(text);
+    }
+
+    @Benchmark
+    public String bigIntegerToString() {
+        return bigInteger.toString();
+    }
+
+    @Benchmark
+    public String bigNumberToString() {
+        return bigNumber.toString();
+    }
+
+    @Benchmark
+    public BigInteger toBigInteger() {
+        return bigNumber.toBigInteger();
+    }
+
+    @Benchmark
+    public BigNumber ofBigInteger() {
+        return BigNumber.of(bigInteger);
+    }
+}
@@ -0,0 +1,132 @@
+package s09_math_bit;
+
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 큰 수 곱셈 교차점: 학교 곱셈 vs 카라츠바 vs NTT vs BigInteger.multiply
+ *
+ * 연산 1번 = digits자리 x digits자리 곱셈 한 번 (limbs = digits / 9)
+ * - schoolbook / karatsuba / ntt: LimbMultiplier의 각 알고리즘을 강제로 사용
+ * - multiply: 임계값으로 고르는 BigNumber.multiply
+ * - bigInteger: BigInteger.multiply (2진 자리, Karatsuba / Toom-Cook 3, 10진 변환 비용 없음)
+ *
+ * 크기는 두 구간으로 나눈다:
+ * - Small (180 ~ 36000자리): 다섯 방식 모두. 학교 곱셈 / 카라츠바 교차점과 카라츠바 / NTT 교차점
+ * - Large (36000 ~ 10^6자리): ntt / multiply / bigInteger만 (…Large 메서드).
+ *   학교 곱셈은 10^6자리면 10^5 x 10^5 자리 곱이라 한 번에 수십 초 → 여기서는 돌리지 않는다
+ *
+ * 한 번이 수백 ms인 크기가 있어 반복 시간은 2초로 줄였다 (전체 약 10분).
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=LimbMultiplierBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(time = 2)
+@Measurement(time = 2)
+public class LimbMultiplierBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Small {
+
+        @Param({"180", "360", "900", "3600", "9000", "36000"})
+        int digits;
+
+        final Operands operands = new Operands();
+
+        @Setup
+        public void setUp() {
+            operands.fill(digits);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Large {
+
+        @Param({"36000", "100000", "1000000"})
+        int digits;
+
+        final Operands operands = new Operands();
+
+        @Setup
+        public void setUp() {
+            operands.fill(digits);
+        }
+    }
+
+    static final class Operands {
+
+        BigNumber x;
+        BigNumber y;
+        BigInteger bigX;
+        BigInteger bigY;
+
+        void fill(int digits) {
+            SplittableRandom random = new SplittableRandom(42);
+            x = BigNumber.parse(randomDigits(random, digits));
+            y = BigNumber.parse(randomDigits(random, digits));
+            bigX = x.toBigInteger();
+            bigY = y.toBigInteger();
+        }
+
+        private static String randomDigits(SplittableRandom random, int digits) {
+            StringBuilder sb = new StringBuilder(digits);
+            sb.append((char) ('1' + random.nextInt(9)));
+            for (int i = 1; i < digits; i++) {
+                sb.append((char) ('0' + random.nextInt(10)));
+            }
+            return sb.toString();
+        }
+    }
+
+    @Benchmark
+    public int[] schoolbook(Small s) {
+        return LimbMultiplier.schoolbook(s.operands.x.limbs(), s.operands.y.limbs());
+    }
+
+    @Benchmark
+    public int[] karatsuba(Small s) {
+        return LimbMultiplier.karatsuba(s.operands.x.limbs(), s.operands.y.limbs());
+    }
+
+    @Benchmark
+    public int[] ntt(Small s) {
+        return LimbMultiplier.ntt(s.operands.x.limbs(), s.operands.y.limbs());
+    }
+
+    @Benchmark
+    public BigNumber multiply(Small s) {
+        return s.operands.x.multiply(s.operands.y);
+    }
+
+    @Benchmark
+    public BigInteger bigInteger(Small s) {
+        return s.operands.bigX.multiply(s.operands.bigY);
+    }
+
+    @Benchmark
+    public int[] nttLarge(Large l) {
+        return LimbMultiplier.ntt(l.operands.x.limbs(), l.operands.y.limbs());
+    }
+
+    @Benchmark
+    public BigNumber multiplyLarge(Large l) {
+        return l.operands.x.multiply(l.operands.y);
+    }
+
+    @Benchmark
+    public BigInteger bigIntegerLarge(Large l) {
+        return l.operands.bigX.multiply(l.operands.bigY);
+    }
+}
@@ -0,0 +1,130 @@
+package s10_gotchas;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import s05_list.IntList;
+import s06_set_map.IntIntHashMap;
+import s07_queue_stack.IntHeap;
+
+/**
+ * PS 관용구별 박싱 비용 (AutoboxingTest.할당량_측정)
+ *
+ * 연산 1번 = 값 n개로 관용구 한 번 (gc.alloc.rate.norm / n = 원소당 할당 바이트)
+ * - list: ArrayList<Integer>에 add 후 합계 vs IntList
+ * - map: HashMap<Integer, Integer>.merge 카운팅 vs IntIntHashMap.addTo (서로 다른 키 n / 10개)
+ * - heap: PriorityQueue<Integer>에 전부 넣고 전부 꺼내기 vs IntHeap
+ *
+ * values:
+ * - cached: 0 ~ 127 (Integer 캐시 안, 박싱해도 새 객체 없음 → 남는 차이는 언박싱과 포인터 비용)
+ * - large: 0 ~ 10^9 (add마다 Integer 16바이트)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=BoxingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BoxingBenchmark {
+
+    @Param({"1000000"})
+    int n;
+
+    @Param({"cached", "large"})
+    String values;
+
+    private int[] data;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        int bound = values.equals("cached") ? 128 : 1_000_000_000;
+        data = new int[n];
+        for (int i = 0; i < n; i++) {
+            data[i] = random.nextInt(bound);
+        }
+    }
+
+    @Benchmark
+    public long listBoxed() {
+        List<Integer> list = new ArrayList<>();
+        for (int v : data) {
+            list.add(v);
+        }
+        long sum = 0;
+        for (int i = 0; i < list.size(); i++) {
+            sum += list.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long listPrimitive() {
+        IntList list = new IntList();
+        for (int v : data) {
+            list.add(v);
+        }
+        long sum = 0;
+        for (int i = 0; i < list.size(); i++) {
+            sum += list.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int mapBoxed() {
+        Map<Integer, Integer> count = new HashMap<>();
+        int keys = Math.max(1, n / 10);
+        for (int v : data) {
+            count.merge(v % keys, 1, Integer::sum);
+        }
+        return count.size();
+    }
+
+    @Benchmark
+    public int mapPrimitive() {
+        IntIntHashMap count = new IntIntHashMap();
+        int keys = Math.max(1, n / 10);
+        for (int v : data) {
+            count.addTo(v % keys, 1);
+        }
+        return count.size();
+    }
+
+    @Benchmark
+    public long heapBoxed() {
+        PriorityQueue<Integer> pq = new PriorityQueue<>();
+        for (int v : data) {
+            pq.add(v);
+        }
+        long sum = 0;
+        while (!pq.isEmpty()) {
+            sum = sum * 31 + pq.poll();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long heapPrimitive() {
+        IntHeap heap = new IntHeap();
+        for (int v : data) {
+            heap.add(v);
+        }
+        long sum = 0;
+        while (!heap.isEmpty()) {
+            sum = sum * 31 + heap.poll();
+        }
+        return sum;
+    }
+}
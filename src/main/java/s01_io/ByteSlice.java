@@ -0,0 +1,89 @@
+package s01_io;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * byte[]의 한 구간을 가리키는 CharSequence (복사 없음)
+ *
+ * LineReader.nextLine(), ByteTokenizer.nextToken()이 같은 인스턴스를 계속 재사용한다.
+ * → 다음 호출 전까지만 유효하다. 보관하려면 toString()으로 복사한다.
+ *
+ * - charAt은 바이트 하나를 문자 하나로 본다 (ASCII 입력 기준, PS 입력은 대부분 ASCII)
+ * - toString()은 UTF-8로 디코딩한 새 String
+ * - parseInt()/parseLong()/parseDouble()은 String 없이 NumberParser로 바로 변환
+ */
+public final class ByteSlice implements CharSequence {
+
+    byte[] array;
+    int offset;
+    int length;
+
+    public ByteSlice() {
+        this(new byte[0], 0, 0);
+    }
+
+    public ByteSlice(byte[] array, int offset, int length) {
+        set(array, offset, length);
+    }
+
+    ByteSlice set(byte[] array, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, array.length);
+        this.array = array;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Objects.checkIndex(index, length);
+        return (char) (array[offset + index] & 0xff);
+    }
+
+    /**
+     * 같은 배열을 가리키는 새 ByteSlice (복사 없음, 객체 하나 할당)
+     */
+    @Override
+    public ByteSlice subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, length);
+        return new ByteSlice(array, offset + start, end - start);
+    }
+
+    public int parseInt() {
+        return NumberParser.parseInt(array, offset, length);
+    }
+
+    public long parseLong() {
+        return NumberParser.parseLong(array, offset, length);
+    }
+
+    public double parseDouble() {
+        return NumberParser.parseDouble(array, offset, length);
+    }
+
+    /**
+     * 내용이 같은지 비교한다 (String.contentEquals와 같은 용도, 문자열 생성 없음)
+     */
+    public boolean contentEquals(CharSequence other) {
+        if (other.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if ((array[offset + i] & 0xff) != other.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return new String(array, offset, length, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,152 @@
+package s01_io;
+
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+
+/**
+ * byte[] 구간 위에서 도는 StringTokenizer (토큰마다 String을 만들지 않음)
+ *
+ * StringTokenizer(line)은 줄마다 객체를 만들고, nextToken()마다 substring을 만든다.
+ * ByteTokenizer는 한 번 만들어 reset(line)으로 재사용하고, nextToken()은 ByteSlice 하나를 재사용한다.
+ *
+ * 구분자 (StringTokenizerTest.커스텀_구분자와 같은 규칙):
+ * - 기본은 StringTokenizer와 같은 " \t\n\r\f", 연속 구분자는 무시 (빈 토큰 없음)
+ * - delim 문자열은 "문자들의 집합" → 256칸 boolean 표로 만들어 두고 바이트마다 표 한 번 조회
+ *   (StringTokenizer는 문자마다 delim 문자열을 훑는다)
+ * - returnDelims = true면 구분자 하나하나도 길이 1 토큰으로 반환
+ * - 바이트 단위로 비교하므로 구분자는 ASCII 문자만 허용
+ *
+ * 사용 패턴 (LineReader와 함께):
+ * ByteTokenizer st = new ByteTokenizer();
+ * st.reset(in.nextLine());
+ * int from = st.nextInt(), to = st.nextInt(), weight = st.nextInt();
+ *
+ * ByteTokenizer expr = new ByteTokenizer("+-*", true); // 수식: "10+20*30" → 10, +, 20, *, 30
+ */
+public final class ByteTokenizer {
+
+    private final boolean[] delimiters;
+    private final boolean returnDelims;
+    private final ByteSlice token = new ByteSlice();
+    private byte[] array = new byte[0];
+    private int pos;
+    private int end;
+
+    public ByteTokenizer() {
+        this.delimiters = FastReader.DELIMITER;
+        this.returnDelims = false;
+    }
+
+    /**
+     * reset()으로 재사용할 커스텀 구분자 토크나이저
+     */
+    public ByteTokenizer(String delim, boolean returnDelims) {
+        this.delimiters = table(delim);
+        this.returnDelims = returnDelims;
+    }
+
+    public ByteTokenizer(CharSequence text) {
+        this();
+        reset(text);
+    }
+
+    public ByteTokenizer(CharSequence text, String delim) {
+        this(text, delim, false);
+    }
+
+    public ByteTokenizer(CharSequence text, String delim, boolean returnDelims) {
+        this(delim, returnDelims);
+        reset(text);
+    }
+
+    /**
+     * ByteSlice면 복사 없이 그 구간을, 아니면 (String 등) 바이트로 바꿔서 토큰화한다
+     */
+    public ByteTokenizer reset(CharSequence text) {
+        if (text instanceof ByteSlice) {
+            ByteSlice slice = (ByteSlice) text;
+            return reset(slice.array, slice.offset, slice.length);
+        }
+        byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+        return reset(bytes, 0, bytes.length);
+    }
+
+    public ByteTokenizer reset(byte[] src, int offset, int length) {
+        token.set(src, offset, length); // 범위 검사
+        this.array = src;
+        this.pos = offset;
+        this.end = offset + length;
+        return this;
+    }
+
+    public boolean hasMoreTokens() {
+        if (!returnDelims) {
+            skipDelimiters();
+        }
+        return pos < end;
+    }
+
+    /**
+     * 다음 토큰. 없으면 NoSuchElementException (StringTokenizer와 동일)
+     * 반환값은 재사용되므로 다음 호출 전까지만 유효하다.
+     */
+    public ByteSlice nextToken() {
+        if (!returnDelims) {
+            skipDelimiters();
+        }
+        if (pos == end) {
+            throw new NoSuchElementException();
+        }
+        int start = pos;
+        if (delimiters[array[pos] & 0xff]) { // returnDelims: 구분자 하나가 토큰
+            pos++;
+            return token.set(array, start, 1);
+        }
+        while (pos < end && !delimiters[array[pos] & 0xff]) {
+            pos++;
+        }
+        return token.set(array, start, pos - start);
+    }
+
+    public int nextInt() {
+        return nextToken().parseInt();
+    }
+
+    public long nextLong() {
+        return nextToken().parseLong();
+    }
+
+    /**
+     * 남은 토큰 수 (StringTokenizer.countTokens와 동일, 위치는 그대로)
+     */
+    public int countTokens() {
+        int count = 0;
+        boolean inToken = false;
+        for (int i = pos; i < end; i++) {
+            boolean delimiter = delimiters[array[i] & 0xff];
+            if (delimiter ? returnDelims : !inToken) {
+                count++;
+            }
+            inToken = !delimiter;
+        }
+        return count;
+    }
+
+    private void skipDelimiters() {
+        while (pos < end && delimiters[array[pos] & 0xff]) {
+            pos++;
+        }
+    }
+
+    private static boolean[] table(String delim) {
+        boolean[] table = new boolean[256];
+        for (int i = 0; i < delim.length(); i++) {
+            char c = delim.charAt(i);
+            if (c >= 128) {
+                throw new IllegalArgumentException("delimiter must be ASCII: " + c);
+            }
+            table[c] = true;
+        }
+        return table;
+    }
+}
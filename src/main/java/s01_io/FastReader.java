@@ -0,0 +1,455 @@
+package s01_io;
+
+import java.io.Closeable;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * 바이트 단위 고속 입력
+ *
+ * BufferedReader + StringTokenizer 패턴의 비용:
+ * - readLine(): 줄마다 String 생성
+ * - new StringTokenizer(line): 줄마다 객체 생성
+ * - nextToken() + parseInt(): 토큰마다 String 생성 후 다시 순회
+ *
+ * FastReader는 재사용하는 byte[] 버퍼에서 바로 숫자를 만든다 → 숫자 토큰당 할당 0
+ * (토큰을 버퍼 안에 연속으로 모은 뒤 NumberParser로 파싱)
+ *
+ * 구분자 규칙 (StringTokenizer 기본 구분자와 동일):
+ * - 공백, 탭, LF, CR, 폼피드
+ * - 연속 구분자는 무시 (빈 토큰 없음)
+ *
+ * 개행 규칙 (BufferedReader.readLine()과 동일):
+ * - LF, CRLF, CR 모두 한 줄의 끝
+ * - 토큰 바로 뒤의 개행은 토큰과 함께 소비 → nextInt() 후 nextLine()이 다음 줄을 읽는다
+ *
+ * 입력 모드:
+ * - new FastReader(): System.in 스트림
+ * - FastReader.open(path): 파일 메모리 매핑 (수백 MB 입력 파일용)
+ * - FastReader.stdin(): 리다이렉트된 파일이면 매핑, 파이프면 스트림
+ *
+ * 벌크 입력 (격자, 배열을 한 번에):
+ * - nextInts(dst, offset, length): 미리 만든 int[]를 채운다. 토큰마다 스캔과 파싱을 한 번에 한다
+ * - nextMatrix(rows, cols): int[][], 평탄 배열(행 우선)은 nextInts(new int[rows * cols])
+ * - nextDigitGrid(rows, cols): "01011"처럼 구분자 없는 숫자 줄을 한 글자씩 칸으로 나눈다
+ *
+ * 사용 패턴:
+ * FastReader in = new FastReader();
+ * int n = in.nextInt();
+ */
+public class FastReader implements Closeable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    // StringTokenizer 기본 구분자 " \t\n\r\f"
+    static final boolean[] DELIMITER = new boolean[256];
+
+    static {
+        DELIMITER[' '] = true;
+        DELIMITER['\t'] = true;
+        DELIMITER['\n'] = true;
+        DELIMITER['\r'] = true;
+        DELIMITER['\f'] = true;
+    }
+
+    private static final boolean[] LINE_END = new boolean[256];
+
+    static {
+        LINE_END['\n'] = true;
+        LINE_END['\r'] = true;
+    }
+
+    private final InputStream in;
+    private byte[] buffer; // 버퍼보다 긴 토큰을 만나면 커진다
+    private int pos;
+    private int limit;
+
+    public FastReader() {
+        this(System.in);
+    }
+
+    public FastReader(InputStream in) {
+        this(in, DEFAULT_BUFFER_SIZE);
+    }
+
+    public FastReader(InputStream in, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be positive: " + bufferSize);
+        }
+        this.in = in;
+        this.buffer = new byte[bufferSize];
+    }
+
+    /**
+     * 파일을 메모리 매핑해서 읽는다. 일반 파일이 아니면 (파이프 등) 스트림으로 읽는다.
+     */
+    public static FastReader open(Path path) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return new FastReader(Files.newInputStream(path));
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        return new FastReader(new MappedInputStream(channel, channel.position(), MappedInputStream.WINDOW_SIZE));
+    }
+
+    /**
+     * 표준 입력이 파일로 리다이렉트되었으면 (java Main < input.txt) 메모리 매핑,
+     * 파이프나 터미널이면 System.in 스트림으로 읽는다.
+     */
+    public static FastReader stdin() throws IOException {
+        FileChannel channel = new FileInputStream(FileDescriptor.in).getChannel();
+        long size;
+        long position;
+        try {
+            size = channel.size(); // 파이프, 터미널은 0
+            position = channel.position(); // 파이프는 "Illegal seek" 예외
+        } catch (IOException e) {
+            return new FastReader(System.in);
+        }
+        if (size <= 0 || size <= position) {
+            return new FastReader(System.in);
+        }
+        return new FastReader(new MappedInputStream(channel, position, MappedInputStream.WINDOW_SIZE));
+    }
+
+    public int nextInt() throws IOException {
+        int start = readToken();
+        int value = NumberParser.parseInt(buffer, start, pos - start);
+        consumeLineBreak();
+        return value;
+    }
+
+    public long nextLong() throws IOException {
+        int start = readToken();
+        long value = NumberParser.parseLong(buffer, start, pos - start);
+        consumeLineBreak();
+        return value;
+    }
+
+    /**
+     * radix 진법 정수를 읽는다 (Integer.parseInt(next(), radix)와 같음)
+     */
+    public int nextInt(int radix) throws IOException {
+        int start = readToken();
+        int value = NumberParser.parseInt(buffer, start, pos - start, radix);
+        consumeLineBreak();
+        return value;
+    }
+
+    public long nextLong(int radix) throws IOException {
+        int start = readToken();
+        long value = NumberParser.parseLong(buffer, start, pos - start, radix);
+        consumeLineBreak();
+        return value;
+    }
+
+    /**
+     * 부호 없는 64비트 정수를 읽는다. 64자리 2진수 마스크, 16자리 16진수 해시 등
+     */
+    public long nextUnsignedLong(int radix) throws IOException {
+        int start = readToken();
+        long value = NumberParser.parseUnsignedLong(buffer, start, pos - start, radix);
+        consumeLineBreak();
+        return value;
+    }
+
+    /**
+     * 정수 n개를 읽어 새 배열로 반환한다.
+     */
+    public int[] nextInts(int n) throws IOException {
+        int[] result = new int[n];
+        nextInts(result, 0, n);
+        return result;
+    }
+
+    /**
+     * dst를 처음부터 끝까지 정수로 채운다. 행 우선 평탄 격자(grid[r * cols + c])에도 쓴다.
+     */
+    public void nextInts(int[] dst) throws IOException {
+        nextInts(dst, 0, dst.length);
+    }
+
+    /**
+     * dst[offset, offset + length)를 정수로 채운다. 줄 구분은 보지 않는다 (nextInt()를 length번 부른 것과 같다)
+     */
+    public void nextInts(int[] dst, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, dst.length);
+        for (int i = offset, end = offset + length; i < end; i++) {
+            dst[i] = readInt();
+        }
+        consumeLineBreak();
+    }
+
+    /**
+     * rows x cols 정수 격자를 읽는다.
+     */
+    public int[][] nextMatrix(int rows, int cols) throws IOException {
+        int[][] matrix = new int[rows][cols];
+        for (int[] row : matrix) {
+            for (int j = 0; j < cols; j++) {
+                row[j] = readInt();
+            }
+        }
+        consumeLineBreak();
+        return matrix;
+    }
+
+    /**
+     * "01011"처럼 구분자 없이 붙은 숫자 rows줄을 읽는다. 한 글자가 한 칸 (0 ~ 9)
+     */
+    public int[][] nextDigitGrid(int rows, int cols) throws IOException {
+        int[][] grid = new int[rows][cols];
+        for (int[] row : grid) {
+            readDigitRow(row, 0, cols);
+        }
+        return grid;
+    }
+
+    /**
+     * nextDigitGrid의 평탄 배열 버전. dst[r * cols + c]에 채운다.
+     */
+    public void nextDigitGrid(int[] dst, int rows, int cols) throws IOException {
+        Objects.checkFromIndexSize(0, Math.multiplyExact(rows, cols), dst.length);
+        for (int r = 0; r < rows; r++) {
+            readDigitRow(dst, r * cols, cols);
+        }
+    }
+
+    public double nextDouble() throws IOException {
+        int start = readToken();
+        double value = NumberParser.parseDouble(buffer, start, pos - start);
+        consumeLineBreak();
+        return value;
+    }
+
+    /**
+     * 다음 토큰을 문자열로 반환한다. 토큰이 없으면 NoSuchElementException (StringTokenizer와 동일)
+     */
+    public String next() throws IOException {
+        int start = readToken();
+        String token = new String(buffer, start, pos - start, StandardCharsets.UTF_8);
+        consumeLineBreak();
+        return token;
+    }
+
+    /**
+     * 현재 위치부터 줄 끝까지 반환한다. 개행 문자는 제외, EOF면 null (BufferedReader.readLine()과 동일)
+     */
+    public String nextLine() throws IOException {
+        if (peek() < 0) {
+            return null;
+        }
+        int start = scanUntil(LINE_END);
+        String line = new String(buffer, start, pos - start, StandardCharsets.UTF_8);
+        consumeLineBreak();
+        return line;
+    }
+
+    /**
+     * 남은 토큰이 있는지 확인한다. 앞쪽 구분자는 건너뛴다.
+     */
+    public boolean hasNext() throws IOException {
+        return skipDelimiters() >= 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    // 다음 토큰을 buffer[start, pos)에 연속으로 놓고 start를 반환한다
+    private int readToken() throws IOException {
+        if (skipDelimiters() < 0) {
+            throw new NoSuchElementException();
+        }
+        return scanUntil(DELIMITER);
+    }
+
+    // 토큰이 버퍼 안에서 끝나고 9자리 이하면 스캔하면서 바로 값을 만든다 (오버플로우 불가)
+    // 버퍼 경계에 걸치거나, 10자리 이상이거나, 숫자가 아닌 문자가 있으면 readToken + NumberParser로 처리
+    private int readInt() throws IOException {
+        if (skipDelimiters() < 0) {
+            throw new NoSuchElementException();
+        }
+        byte[] buf = buffer;
+        int p = pos;
+        int end = Math.min(limit, p + 10); // 부호 + 9자리
+        boolean negative = buf[p] == '-';
+        if (negative || buf[p] == '+') {
+            p++;
+        }
+        int digitsStart = p;
+        int result = 0;
+        while (p < end) {
+            int digit = buf[p] - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            result = result * 10 + digit;
+            p++;
+        }
+        if (p > digitsStart && p - digitsStart <= 9 && p < limit && DELIMITER[buf[p] & 0xff]) {
+            pos = p;
+            return negative ? -result : result;
+        }
+        int start = scanUntil(DELIMITER);
+        return NumberParser.parseInt(buffer, start, pos - start);
+    }
+
+    private void readDigitRow(int[] dst, int offset, int cols) throws IOException {
+        int start = readToken();
+        if (pos - start != cols) {
+            throw invalidDigitRow(start, cols);
+        }
+        for (int j = 0; j < cols; j++) {
+            int digit = buffer[start + j] - '0';
+            if (digit < 0 || digit > 9) {
+                throw invalidDigitRow(start, cols);
+            }
+            dst[offset + j] = digit;
+        }
+        consumeLineBreak();
+    }
+
+    private NumberFormatException invalidDigitRow(int start, int cols) {
+        String row = new String(buffer, start, pos - start, StandardCharsets.UTF_8);
+        return new NumberFormatException("Expected " + cols + " digits: \"" + row + "\"");
+    }
+
+    // stop 문자 직전까지 pos를 옮긴다. 버퍼 끝에 걸리면 읽던 부분을 앞으로 당겨서 이어 읽는다
+    private int scanUntil(boolean[] stop) throws IOException {
+        int start = pos;
+        while (true) {
+            while (pos < limit && !stop[buffer[pos] & 0xff]) {
+                pos++;
+            }
+            if (pos < limit) {
+                return start;
+            }
+            if (!refill(start)) {
+                return 0; // EOF: 남은 토큰은 buffer[0, pos)
+            }
+            start = 0;
+        }
+    }
+
+    private int skipDelimiters() throws IOException {
+        int b = peek();
+        while (b >= 0 && DELIMITER[b]) {
+            pos++;
+            b = peek();
+        }
+        return b;
+    }
+
+    // LF, CRLF, CR 중 하나를 한 번만 소비한다
+    private void consumeLineBreak() throws IOException {
+        int b = peek();
+        if (b == '\n') {
+            pos++;
+        } else if (b == '\r') {
+            pos++;
+            if (peek() == '\n') {
+                pos++;
+            }
+        }
+    }
+
+    private int peek() throws IOException {
+        if (pos == limit && !refill(pos)) {
+            return -1;
+        }
+        return buffer[pos] & 0xff;
+    }
+
+    // buffer[start, limit)를 앞으로 당기고 뒤를 채운다. 가득 차 있으면 버퍼를 키운다
+    private boolean refill(int start) throws IOException {
+        int kept = limit - start;
+        if (kept == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length << 1);
+        } else if (kept > 0) {
+            System.arraycopy(buffer, start, buffer, 0, kept);
+        }
+        pos = kept;
+        limit = kept;
+        int read = in.read(buffer, kept, buffer.length - kept);
+        if (read > 0) {
+            limit += read;
+        }
+        return read > 0;
+    }
+
+    /**
+     * FileChannel.map으로 파일을 구간(window)별로 매핑해서 읽는 스트림
+     *
+     * - read() 시스템 호출 없이 페이지 캐시에서 바로 복사한다
+     * - 토크나이저는 그대로 byte[] 버퍼 위에서 돈다 (ByteBuffer.get을 바이트마다 부르지 않음)
+     * - 매핑 하나는 2GB 미만이어야 하므로 큰 파일은 구간을 옮겨 가며 매핑한다
+     */
+    static final class MappedInputStream extends InputStream {
+
+        static final int WINDOW_SIZE = 1 << 30;
+
+        private final FileChannel channel;
+        private final long size;
+        private final int windowSize;
+        private long mappedUntil;
+        private MappedByteBuffer window;
+
+        MappedInputStream(FileChannel channel, long position, int windowSize) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+            this.windowSize = windowSize;
+            this.mappedUntil = position;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!ensureWindow()) {
+                return -1;
+            }
+            return window.get() & 0xff;
+        }
+
+        @Override
+        public int read(byte[] dst, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!ensureWindow()) {
+                return -1;
+            }
+            int n = Math.min(length, window.remaining());
+            window.get(dst, offset, n);
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+
+        private boolean ensureWindow() throws IOException {
+            if (window != null && window.hasRemaining()) {
+                return true;
+            }
+            if (mappedUntil >= size) {
+                return false;
+            }
+            long length = Math.min(windowSize, size - mappedUntil);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, mappedUntil, length);
+            mappedUntil += length;
+            return true;
+        }
+    }
+}
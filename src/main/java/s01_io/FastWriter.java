@@ -0,0 +1,358 @@
+package s01_io;
+
+import java.io.Closeable;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+
+/**
+ * 바이트 단위 고속 출력
+ *
+ * StringBuilder에 모아서 한 번에 출력하는 패턴의 비용:
+ * - 10^6줄이면 거대한 char[]가 계속 커진다 (복사 반복)
+ * - 마지막에 toString() + 인코딩으로 같은 내용을 한 번 더 만든다 → 최대 메모리 2배
+ *
+ * FastWriter는 고정 크기 byte[]에 ASCII 숫자를 바로 쓰고, 가득 차면 내보낸다.
+ *
+ * 메서드 이름은 PrintWriter와 같다 (print / println, 체이닝 가능).
+ * 쓰기 실패는 UncheckedIOException으로 감싼다.
+ *
+ * 실수는 print(value, precision)으로 String.format("%.6f", value)와 같은 문자열을 쓴다.
+ * - 대부분은 value * 10^precision을 long으로 반올림해서 정수처럼 출력 (Formatter, String 생성 없음)
+ * - 반올림 경계(.5) 근처, 큰 값, NaN/Infinity는 String.format에 맡겨 결과를 똑같이 맞춘다
+ *
+ * 2진수/16진수는 printBinary / printHex (Long.toBinaryString / toHexString과 같은 부호 없는 표기).
+ * width를 주면 하위 width자리만 앞을 0으로 채워 쓴다 → 비트마스크를 고정 폭으로 출력
+ *
+ * BufferedWriter.write(int) 함정이 없다:
+ * - print(65)  → "65"
+ * - print('A') → "A"
+ *
+ * 사용 패턴:
+ * FastWriter out = new FastWriter();
+ * out.println(answer);
+ * out.flush(); // 마지막에 한 번
+ */
+public class FastWriter implements Closeable, Flushable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    // long 최댓값 19자리 + 부호
+    private static final int MAX_LONG_LENGTH = 20;
+
+    // 10^precision이 정확하고, 반올림 오차(ulp)가 0.5 판정을 흐리지 않는 범위
+    private static final int MAX_FAST_PRECISION = 15;
+    private static final double MAX_FAST_SCALED = 1e14;
+
+    private static final long[] POW10 = new long[MAX_FAST_PRECISION + 1];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
+
+    private static final byte[] DIGITS = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'
+    };
+
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int pos;
+
+    // System.out(PrintStream)을 거치지 않고 표준 출력의 FileOutputStream에 바로 쓴다
+    public FastWriter() {
+        this(new FileOutputStream(FileDescriptor.out));
+    }
+
+    public FastWriter(OutputStream out) {
+        this(out, DEFAULT_BUFFER_SIZE);
+    }
+
+    public FastWriter(OutputStream out, int bufferSize) {
+        if (bufferSize < MAX_LONG_LENGTH) {
+            throw new IllegalArgumentException("bufferSize must be at least " + MAX_LONG_LENGTH + ": " + bufferSize);
+        }
+        this.out = out;
+        this.buffer = new byte[bufferSize];
+    }
+
+    public FastWriter print(int value) {
+        ensure(MAX_LONG_LENGTH);
+        if (value < 0) {
+            buffer[pos++] = '-';
+        } else {
+            value = -value;
+        }
+        // 음수 쪽에서 자릿수를 뽑아야 MIN_VALUE도 처리된다 (Integer.toString과 같은 방식)
+        int end = pos + digitCount(value);
+        int i = end;
+        do {
+            buffer[--i] = (byte) ('0' - value % 10);
+            value /= 10;
+        } while (value != 0);
+        pos = end;
+        return this;
+    }
+
+    public FastWriter print(long value) {
+        if (value == (int) value) {
+            return print((int) value);
+        }
+        ensure(MAX_LONG_LENGTH);
+        if (value < 0) {
+            buffer[pos++] = '-';
+        } else {
+            value = -value;
+        }
+        int end = pos + digitCount(value);
+        int i = end;
+        do {
+            buffer[--i] = (byte) ('0' - value % 10);
+            value /= 10;
+        } while (value != 0);
+        pos = end;
+        return this;
+    }
+
+    /**
+     * String.format(Locale.ROOT, "%." + precision + "f", value)와 같은 문자열을 쓴다.
+     * 음수 쪽에서 0으로 반올림되면 Formatter처럼 "-0.00"이 된다.
+     */
+    public FastWriter print(double value, int precision) {
+        if (precision < 0) {
+            throw new IllegalArgumentException("precision must not be negative: " + precision);
+        }
+        if (precision <= MAX_FAST_PRECISION && !Double.isNaN(value)) {
+            double scaled = Math.abs(value) * POW10[precision];
+            if (scaled < MAX_FAST_SCALED) {
+                long units = (long) scaled;
+                double fraction = scaled - units; // scaled < 2^53이므로 정확
+                // Formatter는 Double.toString 자릿수를 HALF_UP으로 자른다.
+                // 곱셈 오차와 자릿수 근사 오차는 합쳐서 3 ulp 미만 → 0.5에서 그보다 멀면 같은 쪽으로 반올림된다
+                double margin = 4 * Math.ulp(scaled);
+                if (Math.abs(fraction - 0.5) > margin) {
+                    if (fraction > 0.5) {
+                        units++;
+                    }
+                    if (Double.doubleToRawLongBits(value) < 0) {
+                        print('-');
+                    }
+                    printFixed(units, precision);
+                    return this;
+                }
+            }
+        }
+        return print(String.format(Locale.ROOT, "%." + precision + "f", value));
+    }
+
+    /**
+     * Long.toBinaryString(value)와 같다 (부호 없음, 앞쪽 0 없음)
+     */
+    public FastWriter printBinary(long value) {
+        return printUnsigned(value, digitCount(value, 1), 1);
+    }
+
+    /**
+     * 하위 width비트를 앞을 0으로 채워 쓴다 (0 ≤ width ≤ 64). 마스크 (1 << n) - 1 → width = n
+     */
+    public FastWriter printBinary(long value, int width) {
+        checkWidth(width, Long.SIZE);
+        return printUnsigned(value, width, 1);
+    }
+
+    /**
+     * Long.toHexString(value)와 같다 (부호 없음, 소문자, 앞쪽 0 없음)
+     */
+    public FastWriter printHex(long value) {
+        return printUnsigned(value, digitCount(value, 4), 4);
+    }
+
+    /**
+     * 하위 width자리 16진수를 앞을 0으로 채워 쓴다 (0 ≤ width ≤ 16)
+     */
+    public FastWriter printHex(long value, int width) {
+        checkWidth(width, Long.SIZE / 4);
+        return printUnsigned(value, width, 4);
+    }
+
+    public FastWriter print(char c) {
+        if (c < 0x80) {
+            ensure(1);
+            buffer[pos++] = (byte) c;
+            return this;
+        }
+        return print(String.valueOf(c));
+    }
+
+    public FastWriter print(CharSequence s) {
+        int length = s.length();
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                ensure(1);
+                buffer[pos++] = (byte) c;
+            } else {
+                i = writeUtf8(s, i);
+            }
+        }
+        return this;
+    }
+
+    public FastWriter println() {
+        return print('\n');
+    }
+
+    public FastWriter println(int value) {
+        return print(value).print('\n');
+    }
+
+    public FastWriter println(long value) {
+        return print(value).print('\n');
+    }
+
+    public FastWriter println(double value, int precision) {
+        return print(value, precision).print('\n');
+    }
+
+    public FastWriter println(char c) {
+        return print(c).print('\n');
+    }
+
+    public FastWriter println(CharSequence s) {
+        return print(s).print('\n');
+    }
+
+    @Override
+    public void flush() {
+        flushBuffer();
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+        try {
+            out.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 남은 공간이 size보다 작으면 버퍼를 비운다
+    private void ensure(int size) {
+        if (pos + size > buffer.length) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() {
+        if (pos == 0) {
+            return;
+        }
+        try {
+            out.write(buffer, 0, pos);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        pos = 0;
+    }
+
+    // 2^shift 진법 digits자리를 위쪽 자리부터 쓴다. 64자리는 최소 버퍼(20)보다 길 수 있어 자리마다 공간을 확인한다
+    private FastWriter printUnsigned(long value, int digits, int shift) {
+        int mask = (1 << shift) - 1;
+        for (int bit = (digits - 1) * shift; bit >= 0; bit -= shift) {
+            if (pos == buffer.length) {
+                flushBuffer();
+            }
+            buffer[pos++] = DIGITS[(int) (value >>> bit) & mask];
+        }
+        return this;
+    }
+
+    // 부호 없는 value를 2^shift 진법으로 쓸 때의 자릿수 (0은 1자리)
+    private static int digitCount(long value, int shift) {
+        int bits = Long.SIZE - Long.numberOfLeadingZeros(value);
+        return Math.max(1, (bits + shift - 1) / shift);
+    }
+
+    private static void checkWidth(int width, int max) {
+        if (width < 0 || width > max) {
+            throw new IllegalArgumentException("width must be between 0 and " + max + ": " + width);
+        }
+    }
+
+    // units / 10^precision을 "정수부.소수부"로 쓴다. 소수부는 앞을 0으로 채운다
+    private void printFixed(long units, int precision) {
+        print(units / POW10[precision]);
+        if (precision == 0) {
+            return;
+        }
+        ensure(precision + 1);
+        buffer[pos++] = '.';
+        long fraction = units % POW10[precision];
+        for (int i = pos + precision - 1; i >= pos; i--) {
+            buffer[i] = (byte) ('0' + fraction % 10);
+            fraction /= 10;
+        }
+        pos += precision;
+    }
+
+    // s[i]부터 시작하는 비 ASCII 문자 하나를 UTF-8로 쓰고, 마지막으로 소비한 인덱스를 반환한다
+    private int writeUtf8(CharSequence s, int i) {
+        ensure(4);
+        int c = s.charAt(i);
+        if (Character.isHighSurrogate((char) c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+            c = Character.toCodePoint((char) c, s.charAt(++i));
+        } else if (Character.isSurrogate((char) c)) {
+            c = '?'; // 짝이 없는 서로게이트는 String.getBytes(UTF_8)와 같이 '?'로 바꾼다
+        }
+        if (c < 0x80) {
+            buffer[pos++] = (byte) c;
+        } else if (c < 0x800) {
+            buffer[pos++] = (byte) (0xc0 | (c >> 6));
+            buffer[pos++] = (byte) (0x80 | (c & 0x3f));
+        } else if (c < 0x10000) {
+            buffer[pos++] = (byte) (0xe0 | (c >> 12));
+            buffer[pos++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+            buffer[pos++] = (byte) (0x80 | (c & 0x3f));
+        } else {
+            buffer[pos++] = (byte) (0xf0 | (c >> 18));
+            buffer[pos++] = (byte) (0x80 | ((c >> 12) & 0x3f));
+            buffer[pos++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+            buffer[pos++] = (byte) (0x80 | (c & 0x3f));
+        }
+        return i;
+    }
+
+    // value <= 0의 자릿수
+    private static int digitCount(int value) {
+        int p = -10;
+        for (int count = 1; count < 10; count++) {
+            if (value > p) {
+                return count;
+            }
+            p *= 10;
+        }
+        return 10;
+    }
+
+    private static int digitCount(long value) {
+        long p = -10;
+        for (int count = 1; count < 19; count++) {
+            if (value > p) {
+                return count;
+            }
+            p *= 10;
+        }
+        return 19;
+    }
+}
@@ -0,0 +1,107 @@
+package s01_io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * 줄마다 String을 만들지 않는 줄 단위 입력
+ *
+ * BufferedReaderTest.EOF_처리의 while ((line = br.readLine()) != null) 패턴은
+ * 줄마다 char[] 복사 + String을 만든다 → 10^7줄이면 String 10^7개
+ *
+ * LineReader.nextLine()은 내부 버퍼를 가리키는 ByteSlice 하나를 재사용한다 → 줄당 할당 0
+ * - 반환된 ByteSlice는 다음 nextLine() 전까지만 유효하다
+ * - 숫자는 line.parseInt(), 여러 토큰은 ByteTokenizer로 나눈다
+ *
+ * 개행 규칙 (BufferedReaderTest.개행_문자_처리와 동일):
+ * - LF, CRLF, CR 모두 한 줄의 끝, 개행 문자는 결과에 포함하지 않는다
+ * - 마지막 줄에 개행이 없어도 한 줄, EOF면 null
+ *
+ * 사용 패턴:
+ * LineReader in = new LineReader(System.in);
+ * ByteTokenizer st = new ByteTokenizer();
+ * for (ByteSlice line; (line = in.nextLine()) != null; ) {
+ *     st.reset(line);
+ *     int a = st.nextInt();
+ * }
+ */
+public class LineReader implements Closeable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private final InputStream in;
+    private final ByteSlice line = new ByteSlice();
+    private byte[] buffer; // 버퍼보다 긴 줄을 만나면 커진다
+    private int pos;
+    private int limit;
+    private boolean skipLf; // 앞 줄이 CR로 끝났으면 바로 다음 LF는 같은 개행
+
+    public LineReader(InputStream in) {
+        this(in, DEFAULT_BUFFER_SIZE);
+    }
+
+    public LineReader(InputStream in, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be positive: " + bufferSize);
+        }
+        this.in = in;
+        this.buffer = new byte[bufferSize];
+    }
+
+    /**
+     * 다음 줄 (개행 제외). EOF면 null (BufferedReader.readLine()과 동일)
+     * 반환값은 재사용되므로 다음 호출 전까지만 유효하다.
+     */
+    public ByteSlice nextLine() throws IOException {
+        if (skipLf) {
+            skipLf = false;
+            if ((pos < limit || refill(pos)) && buffer[pos] == '\n') {
+                pos++;
+            }
+        }
+        if (pos == limit && !refill(pos)) {
+            return null;
+        }
+        int start = pos;
+        while (true) {
+            while (pos < limit) {
+                byte b = buffer[pos];
+                if (b == '\n' || b == '\r') {
+                    line.set(buffer, start, pos - start);
+                    pos++;
+                    skipLf = b == '\r';
+                    return line;
+                }
+                pos++;
+            }
+            if (!refill(start)) {
+                return line.set(buffer, 0, pos); // 개행 없이 끝난 마지막 줄
+            }
+            start = 0;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    // buffer[start, limit)를 앞으로 당기고 뒤를 채운다. 가득 차 있으면 버퍼를 키운다 (FastReader.refill과 동일)
+    private boolean refill(int start) throws IOException {
+        int kept = limit - start;
+        if (kept == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length << 1);
+        } else if (kept > 0) {
+            System.arraycopy(buffer, start, buffer, 0, kept);
+        }
+        pos = kept;
+        limit = kept;
+        int read = in.read(buffer, kept, buffer.length - kept);
+        if (read > 0) {
+            limit += read;
+        }
+        return read > 0;
+    }
+}
@@ -0,0 +1,349 @@
+package s01_io;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 할당 없는 정수 파서
+ *
+ * Integer.parseInt(String)의 비용:
+ * - 토큰마다 String이 있어야 호출 가능
+ * - 공백이 있으면 예외 → trim()으로 String을 하나 더 만든다 (ParsingTest.공백_처리_핵심)
+ *
+ * NumberParser는 byte[] 또는 CharSequence의 범위(offset, length)를 바로 읽는다.
+ * - 앞뒤 공백 허용 (String.trim()과 같은 기준: ' ' 이하 문자)
+ * - 부호(+, -)와 오버플로우 처리는 Integer.parseInt / Long.parseLong과 동일
+ * - 성공 경로에서는 객체를 만들지 않는다 (예외 메시지를 만들 때만 할당)
+ *
+ * 진법 (radix 2 ~ 36):
+ * - parseInt / parseLong(..., radix)는 Integer.parseInt(s, radix)와 같은 규칙 (대소문자 무관)
+ * - parseUnsignedLong(..., radix)는 Long.parseUnsignedLong과 같다. 2, 8, 16진수 등 2의 거듭제곱 진법은
+ *   곱셈 대신 시프트로 쌓는다 → 64비트 마스크 (2진수 64자, 16진수 16자)를 String 없이 읽는다
+ *
+ * 실수 (parseDouble):
+ * - 결과는 Double.parseDouble과 비트 단위로 같다 (부호, 소수점, 지수 표기 e/E)
+ * - 흔한 입력은 double 연산 한 번으로 끝낸다 (아래 Clinger 빠른 경로)
+ * - 나머지 (긴 가수, 큰 지수, NaN, Infinity, 16진수, 잘못된 형식)는 Double.parseDouble에 맡긴다
+ *
+ * 사용 패턴:
+ * int v = NumberParser.parseInt(buffer, start, length);
+ */
+public final class NumberParser {
+
+    // 10^0 ~ 10^22: double로 정확히 표현되는 10의 거듭제곱 (5^22 < 2^53)
+    private static final double[] POW10 = new double[23];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
+
+    // 18자리까지는 long에 넘치지 않는다. 어차피 2^53(약 9 * 10^15)을 넘는 가수는 느린 경로로 간다
+    private static final int MAX_FAST_DIGITS = 18;
+
+    // Character.digit(c, 36)의 ASCII 표: '0'~'9' → 0~9, 'a'~'z' / 'A'~'Z' → 10~35, 나머지 -1
+    private static final byte[] DIGIT = new byte[256];
+
+    static {
+        Arrays.fill(DIGIT, (byte) -1);
+        for (int c = '0'; c <= '9'; c++) {
+            DIGIT[c] = (byte) (c - '0');
+        }
+        for (int c = 'a'; c <= 'z'; c++) {
+            DIGIT[c] = (byte) (c - 'a' + 10);
+            DIGIT[c - 'a' + 'A'] = (byte) (c - 'a' + 10);
+        }
+    }
+
+    private NumberParser() {}
+
+    public static int parseInt(byte[] source, int offset, int length) {
+        return (int) parse(source, offset, length, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    public static long parseLong(byte[] source, int offset, int length) {
+        return parse(source, offset, length, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    public static int parseInt(byte[] source, int offset, int length, int radix) {
+        return (int) parse(source, offset, length, radix, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    public static long parseLong(byte[] source, int offset, int length, int radix) {
+        return parse(source, offset, length, radix, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * 부호 없는 64비트 정수로 파싱한다 (Long.parseUnsignedLong(s, radix)와 같음, '-'는 예외)
+     * 2의 거듭제곱 진법은 자릿수마다 시프트 + OR, 위쪽 비트가 밀려 나가면 오버플로우로 본다.
+     */
+    public static long parseUnsignedLong(byte[] source, int offset, int length, int radix) {
+        checkRadix(radix);
+        Objects.checkFromIndexSize(offset, length, source.length);
+        if (Integer.bitCount(radix) != 1) {
+            return Long.parseUnsignedLong(new String(source, offset, length, StandardCharsets.UTF_8).trim(), radix);
+        }
+        int i = offset;
+        int end = offset + length;
+        while (i < end && source[i] <= ' ' && source[i] >= 0) {
+            i++;
+        }
+        while (end > i && source[end - 1] <= ' ' && source[end - 1] >= 0) {
+            end--;
+        }
+        if (i < end && source[i] == '+') {
+            i++;
+        }
+        if (i == end) {
+            throw invalid(source, offset, length);
+        }
+        int shift = Integer.numberOfTrailingZeros(radix);
+        long result = 0;
+        while (i < end) {
+            int digit = DIGIT[source[i++] & 0xff];
+            if (digit < 0 || digit >= radix || result >>> (Long.SIZE - shift) != 0) {
+                throw invalid(source, offset, length);
+            }
+            result = result << shift | digit;
+        }
+        return result;
+    }
+
+    public static int parseInt(CharSequence source) {
+        return parseInt(source, 0, source.length());
+    }
+
+    public static int parseInt(CharSequence source, int offset, int length) {
+        return (int) parse(source, offset, length, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    public static long parseLong(CharSequence source) {
+        return parseLong(source, 0, source.length());
+    }
+
+    public static long parseLong(CharSequence source, int offset, int length) {
+        return parse(source, offset, length, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * 가수 2^53 이하, 10의 지수 |e| 22 이하면 (Clinger 빠른 경로)
+     * 가수와 10^|e|가 둘 다 double로 정확하므로 곱셈/나눗셈 한 번의 IEEE 반올림이 곧 올바른 반올림이다.
+     * 조건을 벗어나면 String을 만들어 Double.parseDouble을 부른다 (예외도 그쪽에서 던진다).
+     */
+    public static double parseDouble(byte[] source, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, source.length);
+        int i = offset;
+        int end = offset + length;
+        while (i < end && source[i] <= ' ' && source[i] >= 0) {
+            i++;
+        }
+        while (end > i && source[end - 1] <= ' ' && source[end - 1] >= 0) {
+            end--;
+        }
+        boolean negative = false;
+        if (i < end && (source[i] == '-' || source[i] == '+')) {
+            negative = source[i++] == '-';
+        }
+        long mantissa = 0;
+        int digits = 0; // 가수에 넣은 유효 숫자 수 (앞쪽 0 제외)
+        int exponent = 0;
+        boolean sawDigit = false;
+        int digit;
+        while (i < end && (digit = source[i] - '0') >= 0 && digit <= 9) {
+            if (mantissa != 0 || digit != 0) {
+                if (digits++ == MAX_FAST_DIGITS) {
+                    return parseDoubleSlow(source, offset, length);
+                }
+                mantissa = mantissa * 10 + digit;
+            }
+            sawDigit = true;
+            i++;
+        }
+        if (i < end && source[i] == '.') {
+            i++;
+            while (i < end && (digit = source[i] - '0') >= 0 && digit <= 9) {
+                if (mantissa != 0 || digit != 0) {
+                    if (digits++ == MAX_FAST_DIGITS) {
+                        return parseDoubleSlow(source, offset, length);
+                    }
+                    mantissa = mantissa * 10 + digit;
+                }
+                exponent--;
+                sawDigit = true;
+                i++;
+            }
+        }
+        if (!sawDigit) {
+            return parseDoubleSlow(source, offset, length);
+        }
+        if (i < end && (source[i] == 'e' || source[i] == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (source[i] == '-' || source[i] == '+')) {
+                negativeExponent = source[i++] == '-';
+            }
+            int start = i;
+            int value = 0;
+            while (i < end && (digit = source[i] - '0') >= 0 && digit <= 9) {
+                if (value < 100_000) { // 그 이상은 어차피 느린 경로 (0이 아니면 오버/언더플로우)
+                    value = value * 10 + digit;
+                }
+                i++;
+            }
+            if (i == start) {
+                return parseDoubleSlow(source, offset, length);
+            }
+            exponent += negativeExponent ? -value : value;
+        }
+        if (i != end) { // 'd', 'f' 접미사나 잘못된 문자
+            return parseDoubleSlow(source, offset, length);
+        }
+        if (mantissa == 0) {
+            return negative ? -0.0 : 0.0;
+        }
+        if (mantissa > 1L << 53 || exponent < -22 || exponent > 22) {
+            return parseDoubleSlow(source, offset, length);
+        }
+        double value = exponent >= 0 ? mantissa * POW10[exponent] : mantissa / POW10[-exponent];
+        return negative ? -value : value;
+    }
+
+    private static double parseDoubleSlow(byte[] source, int offset, int length) {
+        return Double.parseDouble(new String(source, offset, length, StandardCharsets.UTF_8));
+    }
+
+    // Integer.parseInt와 같은 방식: 음수 쪽으로 누적해야 MIN_VALUE까지 오버플로우 없이 표현된다
+    private static long parse(byte[] source, int offset, int length, long min, long max) {
+        Objects.checkFromIndexSize(offset, length, source.length);
+        int i = offset;
+        int end = offset + length;
+        while (i < end && source[i] <= ' ' && source[i] >= 0) {
+            i++;
+        }
+        while (end > i && source[end - 1] <= ' ' && source[end - 1] >= 0) {
+            end--;
+        }
+        if (i == end) {
+            throw invalid(source, offset, length);
+        }
+        boolean negative = false;
+        byte first = source[i];
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++i == end) {
+                throw invalid(source, offset, length);
+            }
+        }
+        long bound = negative ? min : -max;
+        long multMin = bound / 10;
+        long result = 0;
+        while (i < end) {
+            int digit = source[i++] - '0';
+            if (digit < 0 || digit > 9 || result < multMin) {
+                throw invalid(source, offset, length);
+            }
+            result *= 10;
+            if (result < bound + digit) {
+                throw invalid(source, offset, length);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    // 10진수 parse와 같은 방식에 DIGIT 표와 radix만 다르다
+    private static long parse(byte[] source, int offset, int length, int radix, long min, long max) {
+        checkRadix(radix);
+        Objects.checkFromIndexSize(offset, length, source.length);
+        int i = offset;
+        int end = offset + length;
+        while (i < end && source[i] <= ' ' && source[i] >= 0) {
+            i++;
+        }
+        while (end > i && source[end - 1] <= ' ' && source[end - 1] >= 0) {
+            end--;
+        }
+        if (i == end) {
+            throw invalid(source, offset, length);
+        }
+        boolean negative = false;
+        byte first = source[i];
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++i == end) {
+                throw invalid(source, offset, length);
+            }
+        }
+        long bound = negative ? min : -max;
+        long multMin = bound / radix;
+        long result = 0;
+        while (i < end) {
+            int digit = DIGIT[source[i++] & 0xff];
+            if (digit < 0 || digit >= radix || result < multMin) {
+                throw invalid(source, offset, length);
+            }
+            result *= radix;
+            if (result < bound + digit) {
+                throw invalid(source, offset, length);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private static void checkRadix(int radix) {
+        if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX) {
+            throw new NumberFormatException("radix " + radix + " out of range");
+        }
+    }
+
+    private static long parse(CharSequence source, int offset, int length, long min, long max) {
+        Objects.checkFromIndexSize(offset, length, source.length());
+        int i = offset;
+        int end = offset + length;
+        while (i < end && source.charAt(i) <= ' ') {
+            i++;
+        }
+        while (end > i && source.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (i == end) {
+            throw invalid(source, offset, length);
+        }
+        boolean negative = false;
+        char first = source.charAt(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++i == end) {
+                throw invalid(source, offset, length);
+            }
+        }
+        long bound = negative ? min : -max;
+        long multMin = bound / 10;
+        long result = 0;
+        while (i < end) {
+            int digit = source.charAt(i++) - '0';
+            if (digit < 0 || digit > 9 || result < multMin) {
+                throw invalid(source, offset, length);
+            }
+            result *= 10;
+            if (result < bound + digit) {
+                throw invalid(source, offset, length);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private static NumberFormatException invalid(byte[] source, int offset, int length) {
+        return new NumberFormatException(
+                "For input string: \"" + new String(source, offset, length, StandardCharsets.UTF_8) + "\"");
+    }
+
+    private static NumberFormatException invalid(CharSequence source, int offset, int length) {
+        return new NumberFormatException("For input string: \"" + source.subSequence(offset, offset + length) + "\"");
+    }
+}
@@ -0,0 +1,249 @@
+package s01_io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 큰 입력을 여러 코어로 나눠 파싱하는 정수 토크나이저
+ *
+ * FastReader는 한 스레드가 처음부터 끝까지 읽는다. 수백 MB 오프라인 입력 (간선 목록 등)에서는
+ * 파싱 자체가 병목이 되므로:
+ * 1. 입력을 chunkSize 근처의 개행 위치에서 자른다 (토큰이 청크 경계에 걸리지 않음)
+ * 2. 청크마다 ForkJoinPool 작업으로 int[] 조각을 만든다
+ * 3. 조각을 입력 순서대로 이어 붙인다 → 순차 파싱과 같은 배열
+ *
+ * 구분자와 숫자 규칙은 FastReader와 같다 (공백, 탭, 개행, 폼피드 / NumberParser).
+ * 한 줄이 아주 길면 (N개를 한 줄에 주는 입력) 개행 대신 공백에서 자른다.
+ *
+ * 사용 패턴:
+ * int[] values = new ParallelTokenizer().parseInts(Path.of("edges.txt"));
+ * for (int i = 1; i < values.length; i += 3) { int u = values[i], v = values[i + 1], w = values[i + 2]; }
+ */
+public final class ParallelTokenizer {
+
+    static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    // 청크 끝에서 개행을 찾는 최대 거리. 넘으면 아무 구분자에서 자른다
+    private static final int LINE_LOOKAHEAD = 1 << 12;
+
+    private static final long WINDOW_SIZE = 1L << 30;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public ParallelTokenizer() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ParallelTokenizer(ForkJoinPool pool) {
+        this(pool, DEFAULT_CHUNK_SIZE);
+    }
+
+    public ParallelTokenizer(ForkJoinPool pool, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 메모리에 있는 입력의 모든 정수 토큰을 순서대로 반환한다
+     */
+    public int[] parseInts(byte[] data) {
+        return parse(new Source(new ByteBuffer[] {ByteBuffer.wrap(data)}, Long.MAX_VALUE, data.length));
+    }
+
+    /**
+     * 파일을 메모리 매핑해서 모든 정수 토큰을 순서대로 반환한다
+     */
+    public int[] parseInts(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer[] windows = new ByteBuffer[(int) ((size + WINDOW_SIZE - 1) / WINDOW_SIZE)];
+            for (int w = 0; w < windows.length; w++) {
+                long offset = w * WINDOW_SIZE;
+                windows[w] = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(WINDOW_SIZE, size - offset));
+            }
+            return parse(new Source(windows, WINDOW_SIZE, size)); // 매핑은 채널을 닫아도 유효하다
+        }
+    }
+
+    private int[] parse(Source source) {
+        long[] bounds = split(source);
+        int chunks = bounds.length - 1;
+        int[][] slabs = new int[chunks][];
+        int[] counts = new int[chunks];
+        if (chunks > 0) {
+            pool.invoke(new ParseTask(source, bounds, slabs, counts, 0, chunks));
+        }
+
+        long total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("too many integers for one array: " + total);
+        }
+        int[] result = new int[(int) total];
+        int offset = 0;
+        for (int c = 0; c < chunks; c++) {
+            System.arraycopy(slabs[c], 0, result, offset, counts[c]);
+            offset += counts[c];
+        }
+        return result;
+    }
+
+    // 청크 경계 [bounds[c], bounds[c + 1]). 경계 바로 앞 바이트는 구분자다
+    private long[] split(Source source) {
+        long size = source.size;
+        long[] bounds = new long[(int) Math.min(size / chunkSize + 2, Integer.MAX_VALUE - 8)];
+        int count = 0;
+        long start = 0;
+        bounds[count++] = 0;
+        while (start < size) {
+            long end = Math.min(start + chunkSize, size);
+            if (end < size) {
+                end = boundaryAfter(source, end);
+            }
+            if (count == bounds.length) {
+                bounds = Arrays.copyOf(bounds, count << 1);
+            }
+            bounds[count++] = end;
+            start = end;
+        }
+        return Arrays.copyOf(bounds, count);
+    }
+
+    private long boundaryAfter(Source source, long from) {
+        long limit = Math.min(from + LINE_LOOKAHEAD, source.size);
+        for (long i = from; i < limit; i++) {
+            if (source.byteAt(i - 1) == '\n') {
+                return i;
+            }
+        }
+        for (long i = from; i < source.size; i++) {
+            if (FastReader.DELIMITER[source.byteAt(i - 1) & 0xff]) {
+                return i;
+            }
+        }
+        return source.size;
+    }
+
+    // buf[from, to)의 정수 토큰을 slabs[c]에 담는다
+    private static void parseChunk(byte[] buf, int from, int to, int[][] slabs, int[] counts, int c) {
+        int[] out = new int[Math.max(16, (to - from) >>> 3)];
+        int n = 0;
+        int i = from;
+        while (true) {
+            while (i < to && FastReader.DELIMITER[buf[i] & 0xff]) {
+                i++;
+            }
+            if (i == to) {
+                break;
+            }
+            int start = i;
+            while (i < to && !FastReader.DELIMITER[buf[i] & 0xff]) {
+                i++;
+            }
+            if (n == out.length) {
+                out = Arrays.copyOf(out, n << 1);
+            }
+            out[n++] = NumberParser.parseInt(buf, start, i - start);
+        }
+        slabs[c] = out;
+        counts[c] = n;
+    }
+
+    // 청크 구간 [lo, hi)를 반씩 나눠 병렬로 처리한다 (ForkJoinTask는 Serializable이지만 직렬화하지 않는다)
+    @SuppressWarnings("serial")
+    private static final class ParseTask extends RecursiveAction {
+
+        private final Source source;
+        private final long[] bounds;
+        private final int[][] slabs;
+        private final int[] counts;
+        private final int lo;
+        private final int hi;
+
+        ParseTask(Source source, long[] bounds, int[][] slabs, int[] counts, int lo, int hi) {
+            this.source = source;
+            this.bounds = bounds;
+            this.slabs = slabs;
+            this.counts = counts;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo == 1) {
+                parseOne(lo);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(
+                    new ParseTask(source, bounds, slabs, counts, lo, mid),
+                    new ParseTask(source, bounds, slabs, counts, mid, hi));
+        }
+
+        private void parseOne(int c) {
+            long from = bounds[c];
+            int length = (int) (bounds[c + 1] - from);
+            ByteBuffer window = source.windowOf(from);
+            long windowStart = source.windowStart(from);
+            if (window.hasArray() && from + length <= windowStart + window.limit()) {
+                int offset = window.arrayOffset() + (int) (from - windowStart);
+                parseChunk(window.array(), offset, offset + length, slabs, counts, c);
+                return;
+            }
+            byte[] copy = new byte[length];
+            source.copy(from, copy);
+            parseChunk(copy, 0, length, slabs, counts, c);
+        }
+    }
+
+    // 하나 이상의 ByteBuffer 구간(window)을 이어 붙인 입력
+    private static final class Source {
+
+        private final ByteBuffer[] windows;
+        private final long windowSize;
+        private final long size;
+
+        Source(ByteBuffer[] windows, long windowSize, long size) {
+            this.windows = windows;
+            this.windowSize = windowSize;
+            this.size = size;
+        }
+
+        byte byteAt(long i) {
+            return windows[(int) (i / windowSize)].get((int) (i % windowSize));
+        }
+
+        ByteBuffer windowOf(long i) {
+            return windows[(int) (i / windowSize)];
+        }
+
+        long windowStart(long i) {
+            return i / windowSize * windowSize;
+        }
+
+        void copy(long from, byte[] dst) {
+            int copied = 0;
+            while (copied < dst.length) {
+                long at = from + copied;
+                ByteBuffer window = windowOf(at);
+                int index = (int) (at - windowStart(at));
+                int n = Math.min(dst.length - copied, window.limit() - index);
+                window.duplicate().position(index).get(dst, copied, n); // 절대 위치 get(int, byte[], ...)은 Java 13+
+                copied += n;
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package s03_string;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * String.split 대체: 정규식이 필요 없으면 정규식을 쓰지 않는 split
+ *
+ * String.split의 함정 (StringTokenizerTest.split과의_차이_핵심, 주의사항):
+ * - 인자가 정규식 → "a.b".split(".")은 빈 배열, ", " 같은 두 글자 구분자는 매번 Pattern 컴파일
+ * - 연속/앞쪽 구분자는 빈 문자열을 만들고, 뒤쪽 빈 문자열만 말없이 지운다
+ *
+ * FastSplit:
+ * - split(s, char), splitLiteral(s, String): 정규식 없이 indexOf로 자른다 (. | 등 그대로 문자)
+ * - splitRegex(s, regex): 진짜 정규식만 Pattern으로, 컴파일한 Pattern은 LRU 캐시에 보관
+ *   (한 글자 등 String.split이 정규식 없이 처리하는 경우는 똑같이 빠른 경로)
+ * - 빈 토큰 처리는 flags로 명시한다. 기본값 0은 String.split(regex)과 같다
+ *
+ * 구분자를 하나도 못 찾으면 String.split처럼 원본 하나짜리 배열 (DROP_ALL_EMPTY면 빈 입력은 빈 배열)
+ */
+public final class FastSplit {
+
+    /** 뒤쪽 빈 토큰을 남긴다 (String.split(regex, -1)) */
+    public static final int KEEP_TRAILING_EMPTY = 1;
+
+    /** 앞쪽 빈 토큰을 지운다 ("  hello" → ["hello"]) */
+    public static final int DROP_LEADING_EMPTY = 1 << 1;
+
+    /** 모든 빈 토큰을 지운다 (StringTokenizer처럼 연속 구분자를 하나로) */
+    public static final int DROP_ALL_EMPTY = 1 << 2;
+
+    static final int CACHE_SIZE = 64;
+
+    private static final String REGEX_META = ".$|()[{^?*+\\";
+
+    // 접근 순서 LinkedHashMap = LRU. 여러 스레드에서 부를 수 있으므로 synchronized
+    private static final Map<String, Pattern> PATTERNS = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private FastSplit() {}
+
+    public static String[] split(String s, char delimiter) {
+        return split(s, delimiter, 0);
+    }
+
+    public static String[] split(String s, char delimiter, int flags) {
+        int count = 0;
+        for (int i = s.indexOf(delimiter); i >= 0; i = s.indexOf(delimiter, i + 1)) {
+            count++;
+        }
+        if (count == 0) {
+            return noMatch(s, flags);
+        }
+        String[] tokens = new String[count + 1];
+        int start = 0;
+        for (int t = 0; t < count; t++) {
+            int end = s.indexOf(delimiter, start);
+            tokens[t] = s.substring(start, end);
+            start = end + 1;
+        }
+        tokens[count] = s.substring(start);
+        return applyFlags(tokens, flags);
+    }
+
+    /**
+     * 문자열 그대로를 구분자로 자른다 (정규식 아님: "." "|" "[]"도 글자 그대로)
+     */
+    public static String[] splitLiteral(String s, String delimiter) {
+        return splitLiteral(s, delimiter, 0);
+    }
+
+    public static String[] splitLiteral(String s, String delimiter, int flags) {
+        if (delimiter.isEmpty()) {
+            throw new IllegalArgumentException("delimiter must not be empty");
+        }
+        if (delimiter.length() == 1) {
+            return split(s, delimiter.charAt(0), flags);
+        }
+        int step = delimiter.length();
+        int count = 0;
+        for (int i = s.indexOf(delimiter); i >= 0; i = s.indexOf(delimiter, i + step)) {
+            count++;
+        }
+        if (count == 0) {
+            return noMatch(s, flags);
+        }
+        String[] tokens = new String[count + 1];
+        int start = 0;
+        for (int t = 0; t < count; t++) {
+            int end = s.indexOf(delimiter, start);
+            tokens[t] = s.substring(start, end);
+            start = end + step;
+        }
+        tokens[count] = s.substring(start);
+        return applyFlags(tokens, flags);
+    }
+
+    /**
+     * 정규식으로 자른다. flags가 0이면 String.split(regex)과 같은 결과
+     */
+    public static String[] splitRegex(String s, String regex) {
+        return splitRegex(s, regex, 0);
+    }
+
+    public static String[] splitRegex(String s, String regex, int flags) {
+        int literal = literalChar(regex);
+        if (literal >= 0) {
+            return split(s, (char) literal, flags);
+        }
+        String[] tokens = pattern(regex).split(s, -1);
+        if (tokens.length == 1) {
+            return noMatch(s, flags);
+        }
+        return applyFlags(tokens, flags);
+    }
+
+    // 캐시에 있으면 재사용, 없으면 컴파일해서 넣는다 (가장 오래 안 쓴 것부터 밀려남)
+    static Pattern pattern(String regex) {
+        synchronized (PATTERNS) {
+            Pattern pattern = PATTERNS.get(regex);
+            if (pattern == null) {
+                pattern = Pattern.compile(regex);
+                PATTERNS.put(regex, pattern);
+            }
+            return pattern;
+        }
+    }
+
+    static int cachedPatternCount() {
+        synchronized (PATTERNS) {
+            return PATTERNS.size();
+        }
+    }
+
+    // String.split의 빠른 경로와 같은 조건: 메타 문자가 아닌 한 글자, 또는 \ + 영숫자가 아닌 글자
+    private static int literalChar(String regex) {
+        if (regex.length() == 1 && REGEX_META.indexOf(regex.charAt(0)) < 0) {
+            return regex.charAt(0);
+        }
+        if (regex.length() == 2 && regex.charAt(0) == '\\') {
+            char c = regex.charAt(1);
+            boolean alnum = (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+            if (!alnum && !Character.isSurrogate(c)) {
+                return c;
+            }
+        }
+        return -1;
+    }
+
+    private static String[] noMatch(String s, int flags) {
+        if (s.isEmpty() && (flags & (DROP_ALL_EMPTY | DROP_LEADING_EMPTY)) != 0) {
+            return new String[0];
+        }
+        return new String[] {s};
+    }
+
+    private static String[] applyFlags(String[] tokens, int flags) {
+        int from = 0;
+        int to = tokens.length;
+        if ((flags & DROP_ALL_EMPTY) != 0) {
+            int n = 0;
+            for (String token : tokens) {
+                if (!token.isEmpty()) {
+                    tokens[n++] = token;
+                }
+            }
+            return n == tokens.length ? tokens : Arrays.copyOf(tokens, n);
+        }
+        if ((flags & KEEP_TRAILING_EMPTY) == 0) {
+            while (to > 0 && tokens[to - 1].isEmpty()) {
+                to--;
+            }
+        }
+        if ((flags & DROP_LEADING_EMPTY) != 0) {
+            while (from < to && tokens[from].isEmpty()) {
+                from++;
+            }
+        }
+        return from == 0 && to == tokens.length ? tokens : Arrays.copyOfRange(tokens, from, to);
+    }
+}
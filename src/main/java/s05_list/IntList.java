@@ -0,0 +1,150 @@
+package s05_list;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * 박싱 없는 int 가변 배열
+ *
+ * ArrayList<Integer>의 비용 (원소 하나당):
+ * - Integer 객체 16바이트 (-128 ~ 127 캐시 밖이면 add마다 생성)
+ * - Object[] 슬롯 4~8바이트 + 꺼낼 때마다 언박싱
+ * → int 4바이트의 약 5배, 그리고 포인터를 따라가는 캐시 미스
+ *
+ * IntList는 int[] 하나에 직접 저장하고, 가득 차면 1.5배로 늘린다 (ArrayList와 같은 비율)
+ *
+ * ArrayList<Integer> 함정이 없다:
+ * - list.remove(1): 인덱스 1 삭제인지 값 1 삭제인지 헷갈림 → removeAt(index)만 제공
+ * - list.get(i) == list.get(j): Integer 참조 비교 → get은 int를 반환
+ *
+ * 사용 패턴:
+ * IntList adj = new IntList();
+ * adj.add(v);
+ * for (int i = 0; i < adj.size(); i++) { int next = adj.get(i); }
+ */
+public class IntList {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private int[] elements;
+    private int size;
+
+    public IntList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+        }
+        elements = new int[initialCapacity];
+    }
+
+    public void add(int value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    public void addAll(int... values) {
+        if (size + values.length > elements.length) {
+            grow(size + values.length);
+        }
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+    }
+
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    /**
+     * index 자리의 값을 바꾸고 이전 값을 반환한다 (ArrayList.set과 같음)
+     */
+    public int set(int index, int value) {
+        Objects.checkIndex(index, size);
+        int old = elements[index];
+        elements[index] = value;
+        return old;
+    }
+
+    /**
+     * index 자리를 삭제하고 뒤를 당긴다 (O(n)). 삭제한 값을 반환한다
+     */
+    public int removeAt(int index) {
+        Objects.checkIndex(index, size);
+        int old = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return old;
+    }
+
+    /**
+     * 마지막 원소를 꺼낸다 (O(1), 스택처럼 사용). 비어 있으면 NoSuchElementException
+     */
+    public int removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return elements[--size];
+    }
+
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 크기만 0으로 만든다. 배열은 그대로 두어 다시 채울 때 할당이 없다
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * 오름차순 정렬 (Arrays.sort(int[]): 기본형 듀얼 피벗 퀵정렬, Comparator 박싱 없음)
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private void grow(int minCapacity) {
+        int capacity = Math.max(minCapacity, elements.length + (elements.length >> 1));
+        elements = Arrays.copyOf(elements, capacity);
+    }
+}
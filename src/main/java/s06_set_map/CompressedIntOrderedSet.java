@@ -0,0 +1,142 @@
+package s06_set_map;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * 좌표 압축 정렬 집합: 들어올 수 있는 값(후보)을 미리 알 때의 TreeSet<Integer> 대체
+ *
+ * - 후보를 정렬/중복 제거해서 순위(0, 1, 2, ...)로 바꾸고 IntOrderedSet에 저장한다
+ * - 질의 값 x는 후보가 아니어도 된다 → 이분 탐색으로 순위를 찾은 뒤 IntOrderedSet에 묻는다
+ * - 오프라인 PS 문제 (쿼리를 다 읽은 뒤 처리)에서 값 범위가 ±10^9일 때 쓴다
+ *
+ * 결과가 없으면 NONE = Integer.MIN_VALUE (음수도 원소가 될 수 있으므로 -1을 못 쓴다)
+ * → Integer.MIN_VALUE는 후보로 받지 않는다
+ */
+public class CompressedIntOrderedSet {
+
+    /** floor/ceiling/lower/higher/poll 결과가 없을 때 (TreeSet의 null) */
+    public static final int NONE = Integer.MIN_VALUE;
+
+    private final int[] values; // 정렬된 서로 다른 후보, 순위 → 값
+    private final IntOrderedSet ranks;
+
+    public CompressedIntOrderedSet(int[] candidates) {
+        int[] sorted = candidates.clone();
+        Arrays.sort(sorted);
+        int n = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[n++] = sorted[i];
+            }
+        }
+        if (n > 0 && sorted[0] == NONE) {
+            throw new IllegalArgumentException("Integer.MIN_VALUE is reserved for NONE");
+        }
+        this.values = Arrays.copyOf(sorted, n);
+        this.ranks = new IntOrderedSet(n);
+    }
+
+    /**
+     * 원소를 추가한다. 새 원소면 true. 후보가 아니면 IllegalArgumentException
+     */
+    public boolean add(int x) {
+        int rank = Arrays.binarySearch(values, x);
+        if (rank < 0) {
+            throw new IllegalArgumentException("not a candidate: " + x);
+        }
+        return ranks.add(rank);
+    }
+
+    public boolean remove(int x) {
+        int rank = Arrays.binarySearch(values, x);
+        return rank >= 0 && ranks.remove(rank);
+    }
+
+    public boolean contains(int x) {
+        int rank = Arrays.binarySearch(values, x);
+        return rank >= 0 && ranks.contains(rank);
+    }
+
+    public int size() {
+        return ranks.size();
+    }
+
+    public boolean isEmpty() {
+        return ranks.isEmpty();
+    }
+
+    public void clear() {
+        ranks.clear();
+    }
+
+    /**
+     * 최솟값. 비어있으면 NoSuchElementException
+     */
+    public int first() {
+        if (ranks.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return values[ranks.first()];
+    }
+
+    /**
+     * 최댓값. 비어있으면 NoSuchElementException
+     */
+    public int last() {
+        if (ranks.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return values[ranks.last()];
+    }
+
+    /**
+     * 최솟값을 꺼내고 삭제한다. 비어있으면 NONE
+     */
+    public int pollFirst() {
+        return valueOf(ranks.pollFirst());
+    }
+
+    /**
+     * 최댓값을 꺼내고 삭제한다. 비어있으면 NONE
+     */
+    public int pollLast() {
+        return valueOf(ranks.pollLast());
+    }
+
+    /**
+     * x 이하 중 최대 (≤). 없으면 NONE
+     */
+    public int floor(int x) {
+        int r = Arrays.binarySearch(values, x);
+        return valueOf(ranks.floor(r >= 0 ? r : -r - 2));
+    }
+
+    /**
+     * x 이상 중 최소 (≥). 없으면 NONE
+     */
+    public int ceiling(int x) {
+        int r = Arrays.binarySearch(values, x);
+        return valueOf(ranks.ceiling(r >= 0 ? r : -r - 1));
+    }
+
+    /**
+     * x 미만 중 최대 (<). 없으면 NONE
+     */
+    public int lower(int x) {
+        int r = Arrays.binarySearch(values, x);
+        return valueOf(ranks.floor(r >= 0 ? r - 1 : -r - 2));
+    }
+
+    /**
+     * x 초과 중 최소 (>). 없으면 NONE
+     */
+    public int higher(int x) {
+        int r = Arrays.binarySearch(values, x);
+        return valueOf(ranks.ceiling(r >= 0 ? r + 1 : -r - 1));
+    }
+
+    private int valueOf(int rank) {
+        return rank == IntOrderedSet.NONE ? NONE : values[rank];
+    }
+}
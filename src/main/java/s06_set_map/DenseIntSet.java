@@ -0,0 +1,222 @@
+package s06_set_map;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * [0, universe) 범위의 빽빽한 정수 집합 (long[] 비트셋)
+ *
+ * 노드 번호 0..N처럼 값 범위가 좁고 빽빽하면:
+ * - HashSet<Integer>: 원소마다 Integer + Node, 집합 연산은 원소 하나씩 해시 조회
+ * - DenseIntSet: 원소당 1비트, 집합 연산은 long 하나(64개)씩 AND/OR
+ *
+ * HashSetTest.집합_연산 대응 (모두 this를 바꾸고, 바뀌었으면 true):
+ * - addAll → union
+ * - retainAll → intersect
+ * - removeAll → subtract
+ * - containsAll → containsAll
+ *
+ * 크기는 저장하지 않고 cardinality()가 Long.bitCount로 센다 → 집합 연산 후에도 추가 비용 없음
+ */
+public class DenseIntSet {
+
+    private final int universe;
+    private final long[] words;
+
+    public DenseIntSet(int universe) {
+        if (universe < 0) {
+            throw new IllegalArgumentException("universe must not be negative: " + universe);
+        }
+        this.universe = universe;
+        this.words = new long[(universe + 63) >>> 6];
+    }
+
+    private DenseIntSet(DenseIntSet source) {
+        this.universe = source.universe;
+        this.words = source.words.clone();
+    }
+
+    /**
+     * 원소를 추가한다. 새 원소면 true (HashSet.add와 동일)
+     */
+    public boolean add(int x) {
+        Objects.checkIndex(x, universe);
+        long before = words[x >>> 6];
+        words[x >>> 6] = before | (1L << x);
+        return words[x >>> 6] != before;
+    }
+
+    /**
+     * 원소를 삭제한다. 있었으면 true (HashSet.remove와 동일)
+     */
+    public boolean remove(int x) {
+        if (x < 0 || x >= universe) {
+            return false;
+        }
+        long before = words[x >>> 6];
+        words[x >>> 6] = before & ~(1L << x);
+        return words[x >>> 6] != before;
+    }
+
+    public boolean contains(int x) {
+        return x >= 0 && x < universe && (words[x >>> 6] & (1L << x)) != 0;
+    }
+
+    /**
+     * 합집합 (addAll). other의 원소는 모두 이 집합의 범위 안에 있어야 한다
+     */
+    public boolean union(DenseIntSet other) {
+        long[] src = other.words;
+        for (int i = Math.max(words.length - 1, 0); i < src.length; i++) { // 마지막 칸부터만 범위를 넘을 수 있다
+            long outside = src[i] & ~allowedBits(i);
+            if (outside != 0) {
+                throw new IllegalArgumentException("element out of universe " + universe + ": "
+                        + ((i << 6) + Long.numberOfTrailingZeros(outside)));
+            }
+        }
+        boolean changed = false;
+        for (int i = 0, n = Math.min(words.length, src.length); i < n; i++) {
+            long merged = words[i] | src[i];
+            changed |= merged != words[i];
+            words[i] = merged;
+        }
+        return changed;
+    }
+
+    /**
+     * 교집합 (retainAll)
+     */
+    public boolean intersect(DenseIntSet other) {
+        long[] src = other.words;
+        boolean changed = false;
+        for (int i = 0; i < words.length; i++) {
+            long kept = i < src.length ? words[i] & src[i] : 0;
+            changed |= kept != words[i];
+            words[i] = kept;
+        }
+        return changed;
+    }
+
+    /**
+     * 차집합 this - other (removeAll)
+     */
+    public boolean subtract(DenseIntSet other) {
+        long[] src = other.words;
+        boolean changed = false;
+        for (int i = 0, n = Math.min(words.length, src.length); i < n; i++) {
+            long kept = words[i] & ~src[i];
+            changed |= kept != words[i];
+            words[i] = kept;
+        }
+        return changed;
+    }
+
+    /**
+     * other가 이 집합의 부분집합이면 true (containsAll)
+     */
+    public boolean containsAll(DenseIntSet other) {
+        long[] src = other.words;
+        for (int i = 0; i < src.length; i++) {
+            long mine = i < words.length ? words[i] : 0;
+            if ((src[i] & ~mine) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 원소 개수 (HashSet.size). 호출할 때마다 long[]을 한 번 훑는다
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int universe() {
+        return universe;
+    }
+
+    public void clear() {
+        Arrays.fill(words, 0);
+    }
+
+    /**
+     * 집합 연산 전에 원본을 남겨야 할 때 (new HashSet<>(set)과 같은 용도)
+     */
+    public DenseIntSet copy() {
+        return new DenseIntSet(this);
+    }
+
+    /**
+     * from 이상인 가장 작은 원소. 없으면 -1 (BitSet.nextSetBit과 동일)
+     */
+    public int nextSetBit(int from) {
+        if (from < 0) {
+            from = 0;
+        }
+        int i = from >>> 6;
+        if (i >= words.length) {
+            return -1;
+        }
+        long word = words[i] & (-1L << from);
+        while (word == 0) {
+            if (++i == words.length) {
+                return -1;
+            }
+            word = words[i];
+        }
+        return (i << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * 오름차순으로 순회한다
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                action.accept((i << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1; // 가장 낮은 1비트 지우기
+            }
+        }
+    }
+
+    public int[] toArray() {
+        int[] result = new int[cardinality()];
+        int idx = 0;
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                result[idx++] = (i << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return result;
+    }
+
+    // words[i]에서 universe 안쪽에 해당하는 비트
+    private long allowedBits(int i) {
+        if (i < words.length - 1) {
+            return -1L;
+        }
+        if (i > words.length - 1) {
+            return 0;
+        }
+        int used = universe & 63;
+        return used == 0 ? -1L : (1L << used) - 1;
+    }
+}
@@ -0,0 +1,44 @@
+package s06_set_map;
+
+/**
+ * 기본형 해시 자료구조가 함께 쓰는 해시/용량 계산
+ *
+ * - 열린 주소법 + 선형 탐사는 비슷한 키가 몰리면 느려진다 (예: 0, 1, 2, ... 연속 키)
+ * - 황금비 상수를 곱해 비트를 섞은 뒤 하위 비트를 인덱스로 쓴다
+ */
+final class Hashing {
+
+    // java.util.HashMap 기본 부하율과 동일
+    static final float LOAD_FACTOR = 0.75f;
+
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private Hashing() {}
+
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        return (int) (h ^ (h >>> 16));
+    }
+
+    // expectedSize개를 넣어도 rehash가 일어나지 않는 2의 거듭제곱 용량
+    static int capacityFor(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative: " + expectedSize);
+        }
+        long needed = (long) Math.ceil(Math.max(expectedSize, 2) / (double) LOAD_FACTOR);
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("expectedSize too large: " + expectedSize);
+        }
+        return Math.max(Integer.highestOneBit((int) needed - 1) << 1, 4);
+    }
+
+    static int maxFill(int capacity) {
+        return Math.min((int) (capacity * LOAD_FACTOR), capacity - 1);
+    }
+}
@@ -0,0 +1,187 @@
+package s06_set_map;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * 박싱 없는 int 해시 집합
+ *
+ * HashSet<Integer>의 비용 (원소 하나당):
+ * - Integer 객체 16바이트 (-128 ~ 127 캐시 밖이면 매번 생성)
+ * - HashMap.Node 32바이트 + 테이블 슬롯 4~8바이트
+ * → 약 50바이트, 그리고 포인터를 따라가는 캐시 미스
+ *
+ * IntHashSet:
+ * - int[] 하나에 키를 직접 저장 (열린 주소법, 선형 탐사)
+ * - 용량은 2의 거듭제곱 → 나머지 연산 대신 비트 AND
+ * - 0은 빈 칸 표시로 쓰므로 별도 플래그로 관리
+ *
+ * add/remove 반환값은 HashSet과 동일 (HashSetTest.add_반환값_핵심)
+ * - add: 새 원소면 true, 이미 있으면 false
+ * - remove: 삭제했으면 true, 없었으면 false
+ *
+ * 순회 순서는 HashSet처럼 보장하지 않는다.
+ */
+public class IntHashSet {
+
+    private static final int EMPTY = 0;
+
+    private int[] keys;
+    private boolean hasZero;
+    private int size;
+    private int mask;
+    private int maxFill;
+
+    public IntHashSet() {
+        this(16);
+    }
+
+    public IntHashSet(int expectedSize) {
+        allocate(Hashing.capacityFor(expectedSize));
+    }
+
+    public boolean add(int key) {
+        if (key == EMPTY) {
+            if (hasZero) {
+                return false;
+            }
+            hasZero = true;
+            size++;
+            return true;
+        }
+        int i = Hashing.mix(key) & mask;
+        int current;
+        while ((current = keys[i]) != EMPTY) {
+            if (current == key) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        if (++size > maxFill) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    public boolean contains(int key) {
+        if (key == EMPTY) {
+            return hasZero;
+        }
+        int i = Hashing.mix(key) & mask;
+        int current;
+        while ((current = keys[i]) != EMPTY) {
+            if (current == key) {
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    public boolean remove(int key) {
+        if (key == EMPTY) {
+            if (!hasZero) {
+                return false;
+            }
+            hasZero = false;
+            size--;
+            return true;
+        }
+        int i = Hashing.mix(key) & mask;
+        int current;
+        while ((current = keys[i]) != EMPTY) {
+            if (current == key) {
+                shiftKeys(i);
+                size--;
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        hasZero = false;
+        size = 0;
+    }
+
+    public void forEach(IntConsumer action) {
+        if (hasZero) {
+            action.accept(EMPTY);
+        }
+        for (int key : keys) {
+            if (key != EMPTY) {
+                action.accept(key);
+            }
+        }
+    }
+
+    public int[] toArray() {
+        int[] result = new int[size];
+        int idx = 0;
+        if (hasZero) {
+            result[idx++] = EMPTY;
+        }
+        for (int key : keys) {
+            if (key != EMPTY) {
+                result[idx++] = key;
+            }
+        }
+        return result;
+    }
+
+    // 선형 탐사에서 칸을 그냥 비우면 뒤에 밀려난 키를 못 찾는다 → 뒤쪽 키를 당겨 채운다
+    private void shiftKeys(int pos) {
+        while (true) {
+            int last = pos;
+            pos = (pos + 1) & mask;
+            int current;
+            while (true) {
+                if ((current = keys[pos]) == EMPTY) {
+                    keys[last] = EMPTY;
+                    return;
+                }
+                int slot = Hashing.mix(current) & mask;
+                // slot이 (last, pos] 구간 밖이면 last 자리로 옮겨도 찾을 수 있다
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            keys[last] = current;
+        }
+    }
+
+    private void rehash(int capacity) {
+        if (capacity > Hashing.MAX_CAPACITY) {
+            throw new IllegalStateException("IntHashSet is full: " + size);
+        }
+        int[] old = keys;
+        allocate(capacity);
+        for (int key : old) {
+            if (key != EMPTY) {
+                int i = Hashing.mix(key) & mask;
+                while (keys[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        mask = capacity - 1;
+        maxFill = Hashing.maxFill(capacity);
+    }
+}
@@ -0,0 +1,263 @@
+package s06_set_map;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 박싱 없는 int → int 해시 맵
+ *
+ * HashMap<Integer, Integer>로 카운팅하면 (map.merge(key, 1, Integer::sum)):
+ * - merge 한 번마다 값 Integer를 새로 만든다 (127 초과부터는 캐시 없음)
+ * - 키 Integer + HashMap.Node → 원소당 약 50~60바이트
+ *
+ * IntIntHashMap:
+ * - keys[], values[] 두 배열에 직접 저장 (IntHashSet과 같은 열린 주소법)
+ * - 0 키는 별도 필드로 관리
+ *
+ * HashMap 메서드 대응:
+ * - getOrDefault(key, d) → getOrDefault(key, d)
+ * - merge(key, delta, Integer::sum) → addTo(key, delta)
+ * - computeIfAbsent(key, f) → computeIfAbsent(key, f)
+ *
+ * 값이 null일 수 없으므로 "없음"은 containsKey 또는 getOrDefault의 기본값으로 구분한다.
+ */
+public class IntIntHashMap {
+
+    private static final int EMPTY = 0;
+
+    private int[] keys;
+    private int[] values;
+    private boolean hasZeroKey;
+    private int zeroValue;
+    private int size;
+    private int mask;
+    private int maxFill;
+
+    public IntIntHashMap() {
+        this(16);
+    }
+
+    public IntIntHashMap(int expectedSize) {
+        allocate(Hashing.capacityFor(expectedSize));
+    }
+
+    public int getOrDefault(int key, int defaultValue) {
+        if (key == EMPTY) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int i = indexOf(key);
+        return i < 0 ? defaultValue : values[i];
+    }
+
+    public boolean containsKey(int key) {
+        return key == EMPTY ? hasZeroKey : indexOf(key) >= 0;
+    }
+
+    /**
+     * 값을 저장한다. 이전 값이 있었으면 true (HashMap.put의 반환값이 null이 아닌 경우)
+     */
+    public boolean put(int key, int value) {
+        if (key == EMPTY) {
+            boolean existed = hasZeroKey;
+            zeroValue = value;
+            if (!existed) {
+                hasZeroKey = true;
+                size++;
+            }
+            return existed;
+        }
+        int i = Hashing.mix(key) & mask;
+        int current;
+        while ((current = keys[i]) != EMPTY) {
+            if (current == key) {
+                values[i] = value;
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        insertAt(i, key, value);
+        return false;
+    }
+
+    /**
+     * merge(key, delta, Integer::sum)과 같다. 없던 키는 0에서 시작한다. 더한 뒤의 값을 반환한다.
+     */
+    public int addTo(int key, int delta) {
+        if (key == EMPTY) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            return zeroValue += delta;
+        }
+        int i = Hashing.mix(key) & mask;
+        int current;
+        while ((current = keys[i]) != EMPTY) {
+            if (current == key) {
+                return values[i] += delta;
+            }
+            i = (i + 1) & mask;
+        }
+        insertAt(i, key, delta);
+        return delta;
+    }
+
+    /**
+     * 키가 없을 때만 mappingFunction으로 값을 만들어 저장한다. 저장된 값을 반환한다.
+     *
+     * HashMap.computeIfAbsent와 달리 mappingFunction 안에서 이 맵을 수정해도 된다
+     * (재귀 메모이제이션: memo.computeIfAbsent(n, k -> f(k - 1) + f(k - 2))).
+     * 값을 계산한 뒤 자리를 다시 찾아서 넣기 때문이다.
+     */
+    public int computeIfAbsent(int key, IntUnaryOperator mappingFunction) {
+        if (key == EMPTY) {
+            if (hasZeroKey) {
+                return zeroValue;
+            }
+        } else {
+            int i = indexOf(key);
+            if (i >= 0) {
+                return values[i];
+            }
+        }
+        int value = mappingFunction.applyAsInt(key);
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * 키를 삭제한다. 삭제했으면 true
+     */
+    public boolean remove(int key) {
+        if (key == EMPTY) {
+            if (!hasZeroKey) {
+                return false;
+            }
+            hasZeroKey = false;
+            zeroValue = 0;
+            size--;
+            return true;
+        }
+        int i = indexOf(key);
+        if (i < 0) {
+            return false;
+        }
+        shiftKeys(i);
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        hasZeroKey = false;
+        zeroValue = 0;
+        size = 0;
+    }
+
+    public void forEach(EntryConsumer action) {
+        if (hasZeroKey) {
+            action.accept(EMPTY, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    public int[] keys() {
+        int[] result = new int[size];
+        int idx = 0;
+        if (hasZeroKey) {
+            result[idx++] = EMPTY;
+        }
+        for (int key : keys) {
+            if (key != EMPTY) {
+                result[idx++] = key;
+            }
+        }
+        return result;
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(int key, int value);
+    }
+
+    private int indexOf(int key) {
+        int i = Hashing.mix(key) & mask;
+        int current;
+        while ((current = keys[i]) != EMPTY) {
+            if (current == key) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insertAt(int i, int key, int value) {
+        keys[i] = key;
+        values[i] = value;
+        if (++size > maxFill) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    // IntHashSet.shiftKeys와 같은 뒤쪽 당기기, 값도 함께 옮긴다
+    private void shiftKeys(int pos) {
+        while (true) {
+            int last = pos;
+            pos = (pos + 1) & mask;
+            int current;
+            while (true) {
+                if ((current = keys[pos]) == EMPTY) {
+                    keys[last] = EMPTY;
+                    return;
+                }
+                int slot = Hashing.mix(current) & mask;
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            keys[last] = current;
+            values[last] = values[pos];
+        }
+    }
+
+    private void rehash(int capacity) {
+        if (capacity > Hashing.MAX_CAPACITY) {
+            throw new IllegalStateException("IntIntHashMap is full: " + size);
+        }
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int j = 0; j < oldKeys.length; j++) {
+            int key = oldKeys[j];
+            if (key != EMPTY) {
+                int i = Hashing.mix(key) & mask;
+                while (keys[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        maxFill = Hashing.maxFill(capacity);
+    }
+}
@@ -0,0 +1,241 @@
+package s06_set_map;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * 삽입 순서를 유지하는 박싱 없는 int 집합 (LinkedHashSet<Integer> 대체)
+ *
+ * LinkedHashSet<Integer>의 비용 (원소 하나당):
+ * - Integer 16바이트 + LinkedHashMap.Entry 40바이트 (before/after 포인터 포함) + 테이블 슬롯
+ * → 10^7개면 힙 600MB 이상
+ *
+ * IntLinkedHashSet:
+ * - order[]: 원소를 삽입 순서대로 저장 (순회는 이 배열을 앞에서부터)
+ * - index[]: 열린 주소법 해시 테이블, 키 대신 order 위치 + 1을 저장 (0 = 빈 칸)
+ * - 삭제는 order에 묘비(tombstone) 비트만 남긴다 → O(1)
+ * - 묘비가 살아있는 원소보다 많아지면 order를 당겨서 압축하고 index를 다시 만든다
+ * → 10^7개면 약 100MB
+ *
+ * 이미 있는 원소를 다시 add해도 순서는 바뀌지 않는다 (LinkedHashSetTest와 동일)
+ * 순회 중에 add/remove하면 안 된다.
+ */
+public class IntLinkedHashSet {
+
+    private static final int EMPTY = 0;
+    private static final int MIN_COMPACT = 16;
+
+    private int[] order;
+    private long[] dead; // order[i]가 삭제되었으면 i번째 비트 1
+    private int used; // order에 쓴 칸 수 (묘비 포함)
+    private int size;
+    private int[] index;
+    private int mask;
+    private int maxFill;
+
+    public IntLinkedHashSet() {
+        this(16);
+    }
+
+    public IntLinkedHashSet(int expectedSize) {
+        int capacity = Hashing.capacityFor(expectedSize);
+        order = new int[Math.max(expectedSize, 4)];
+        dead = new long[(order.length + 63) >>> 6];
+        allocateIndex(capacity);
+    }
+
+    /**
+     * 원소를 맨 뒤에 추가한다. 새 원소면 true, 이미 있으면 false (순서 유지)
+     */
+    public boolean add(int key) {
+        int i = Hashing.mix(key) & mask;
+        int slot;
+        while ((slot = index[i]) != EMPTY) {
+            if (order[slot - 1] == key) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        if (used == order.length) {
+            if (used - size >= size) {
+                compact();
+                return add(key); // 위치가 바뀌었으니 다시 찾는다
+            }
+            order = Arrays.copyOf(order, Math.max(used << 1, 4));
+            dead = Arrays.copyOf(dead, (order.length + 63) >>> 6);
+        }
+        order[used] = key;
+        index[i] = ++used;
+        if (++size > maxFill) {
+            rebuildIndex(index.length << 1);
+        }
+        return true;
+    }
+
+    public boolean contains(int key) {
+        return slotOf(key) >= 0;
+    }
+
+    /**
+     * 원소를 삭제한다. 있었으면 true
+     */
+    public boolean remove(int key) {
+        int i = slotOf(key);
+        if (i < 0) {
+            return false;
+        }
+        int position = index[i] - 1;
+        dead[position >>> 6] |= 1L << position;
+        shiftSlots(i);
+        size--;
+        int tombstones = used - size;
+        if (tombstones > MIN_COMPACT && tombstones > size) {
+            compact();
+        }
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(index, EMPTY);
+        Arrays.fill(dead, 0);
+        used = 0;
+        size = 0;
+    }
+
+    /**
+     * 삽입 순서대로 순회한다
+     */
+    public void forEach(IntConsumer action) {
+        for (int p = 0; p < used; p++) {
+            if ((dead[p >>> 6] & (1L << p)) == 0) {
+                action.accept(order[p]);
+            }
+        }
+    }
+
+    /**
+     * 삽입 순서대로 담은 배열
+     */
+    public int[] toArray() {
+        int[] result = new int[size];
+        int idx = 0;
+        for (int p = 0; p < used; p++) {
+            if ((dead[p >>> 6] & (1L << p)) == 0) {
+                result[idx++] = order[p];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 삽입 순서 순회. 박싱을 피하려면 next() 대신 nextInt()를 쓴다
+     *
+     * Iterable<Integer>는 구현하지 않는다: forEach(Consumer)와 forEach(IntConsumer)가 겹쳐서
+     * set.forEach(x -> ...) 람다가 모호해진다.
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int p = skipDead(0);
+
+            @Override
+            public boolean hasNext() {
+                return p < used;
+            }
+
+            @Override
+            public int nextInt() {
+                if (p >= used) {
+                    throw new NoSuchElementException();
+                }
+                int key = order[p];
+                p = skipDead(p + 1);
+                return key;
+            }
+        };
+    }
+
+    private int skipDead(int p) {
+        while (p < used && (dead[p >>> 6] & (1L << p)) != 0) {
+            p++;
+        }
+        return p;
+    }
+
+    private int slotOf(int key) {
+        int i = Hashing.mix(key) & mask;
+        int slot;
+        while ((slot = index[i]) != EMPTY) {
+            if (order[slot - 1] == key) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    // IntHashSet.shiftKeys와 같은 뒤쪽 당기기, 해시는 order에서 키를 꺼내 계산
+    private void shiftSlots(int pos) {
+        while (true) {
+            int last = pos;
+            pos = (pos + 1) & mask;
+            int current;
+            while (true) {
+                if ((current = index[pos]) == EMPTY) {
+                    index[last] = EMPTY;
+                    return;
+                }
+                int home = Hashing.mix(order[current - 1]) & mask;
+                if (last <= pos ? last >= home || home > pos : last >= home && home > pos) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            index[last] = current;
+        }
+    }
+
+    // 묘비를 빼고 order를 앞으로 당긴 뒤 index를 다시 만든다
+    private void compact() {
+        int write = 0;
+        for (int p = 0; p < used; p++) {
+            if ((dead[p >>> 6] & (1L << p)) == 0) {
+                order[write++] = order[p];
+            }
+        }
+        Arrays.fill(dead, 0);
+        used = write;
+        rebuildIndex(index.length);
+    }
+
+    private void rebuildIndex(int capacity) {
+        if (capacity > Hashing.MAX_CAPACITY) {
+            throw new IllegalStateException("IntLinkedHashSet is full: " + size);
+        }
+        allocateIndex(capacity);
+        for (int p = 0; p < used; p++) {
+            if ((dead[p >>> 6] & (1L << p)) == 0) {
+                int i = Hashing.mix(order[p]) & mask;
+                while (index[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                index[i] = p + 1;
+            }
+        }
+    }
+
+    private void allocateIndex(int capacity) {
+        index = new int[capacity];
+        mask = capacity - 1;
+        maxFill = Hashing.maxFill(capacity);
+    }
+}
@@ -0,0 +1,219 @@
+package s06_set_map;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * 범위가 정해진 정수 [0, universe)의 정렬 집합 (TreeSet<Integer> 대체)
+ *
+ * TreeSet<Integer>의 비용:
+ * - 원소마다 TreeMap.Entry (약 40바이트) + Integer
+ * - floor/ceiling마다 포인터를 따라 log n 단계 → 캐시 미스
+ *
+ * IntOrderedSet: 64갈래 다단계 비트셋
+ * - 맨 아래 단계: 원소 x가 있으면 x번째 비트가 1
+ * - 윗 단계: 아래 단계 long 하나(64칸)가 비어있지 않으면 비트 1
+ * - floor/ceiling은 단계마다 long 하나에서 numberOfTrailingZeros/LeadingZeros
+ *   → O(log_64 universe), universe = 10^6이면 4단계
+ * - 메모리: universe비트 (10^6 → 약 125KB)
+ *
+ * TreeSet과 다른 점 (TreeSetTest.floor_ceiling_lower_higher_핵심):
+ * - 박싱을 피하려고 null 대신 NONE(-1)을 반환한다
+ * - first/last는 TreeSet처럼 비어있으면 NoSuchElementException
+ * - pollFirst/pollLast는 비어있으면 NONE (TreeSet은 null)
+ *
+ * 값 범위가 크거나 음수가 있으면 CompressedIntOrderedSet
+ */
+public class IntOrderedSet {
+
+    /** floor/ceiling/lower/higher/poll 결과가 없을 때 (TreeSet의 null) */
+    public static final int NONE = -1;
+
+    private final int universe;
+    private final long[][] levels; // levels[0]이 맨 아래
+    private int size;
+
+    public IntOrderedSet(int universe) {
+        if (universe < 0) {
+            throw new IllegalArgumentException("universe must not be negative: " + universe);
+        }
+        this.universe = universe;
+        int height = 0;
+        long[][] built = new long[6][]; // 64^6 > 2^31
+        int m = universe;
+        do {
+            m = Math.max((m + 63) >>> 6, 1);
+            built[height++] = new long[m];
+        } while (m > 1);
+        this.levels = new long[height][];
+        System.arraycopy(built, 0, levels, 0, height);
+    }
+
+    /**
+     * 원소를 추가한다. 새 원소면 true (TreeSet.add와 동일)
+     */
+    public boolean add(int x) {
+        Objects.checkIndex(x, universe);
+        if (contains(x)) {
+            return false;
+        }
+        for (long[] level : levels) {
+            level[x >>> 6] |= 1L << x;
+            x >>>= 6;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * 원소를 삭제한다. 있었으면 true (TreeSet.remove와 동일)
+     */
+    public boolean remove(int x) {
+        if (!contains(x)) {
+            return false;
+        }
+        for (long[] level : levels) {
+            level[x >>> 6] &= ~(1L << x);
+            if (level[x >>> 6] != 0) {
+                break; // 같은 칸에 다른 원소가 남아 있으면 윗 단계는 그대로
+            }
+            x >>>= 6;
+        }
+        size--;
+        return true;
+    }
+
+    public boolean contains(int x) {
+        return x >= 0 && x < universe && (levels[0][x >>> 6] & (1L << x)) != 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int universe() {
+        return universe;
+    }
+
+    public void clear() {
+        for (long[] level : levels) {
+            Arrays.fill(level, 0);
+        }
+        size = 0;
+    }
+
+    /**
+     * 최솟값. 비어있으면 NoSuchElementException
+     */
+    public int first() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return ceiling(0);
+    }
+
+    /**
+     * 최댓값. 비어있으면 NoSuchElementException
+     */
+    public int last() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return floor(universe - 1);
+    }
+
+    /**
+     * 최솟값을 꺼내고 삭제한다. 비어있으면 NONE
+     */
+    public int pollFirst() {
+        if (size == 0) {
+            return NONE;
+        }
+        int x = ceiling(0);
+        remove(x);
+        return x;
+    }
+
+    /**
+     * 최댓값을 꺼내고 삭제한다. 비어있으면 NONE
+     */
+    public int pollLast() {
+        if (size == 0) {
+            return NONE;
+        }
+        int x = floor(universe - 1);
+        remove(x);
+        return x;
+    }
+
+    /**
+     * x 이하 중 최대 (≤). 없으면 NONE
+     */
+    public int floor(int x) {
+        if (x < 0) {
+            return NONE;
+        }
+        if (x >= universe) {
+            x = universe - 1;
+        }
+        for (int h = 0; h < levels.length && x >= 0; h++) {
+            // x번 비트 위쪽을 밀어내고 남은 비트 중 가장 높은 것
+            long word = levels[h][x >>> 6] << (63 - (x & 63));
+            if (word == 0) {
+                x = (x >>> 6) - 1;
+                continue;
+            }
+            x -= Long.numberOfLeadingZeros(word);
+            for (int g = h - 1; g >= 0; g--) {
+                x = (x << 6) + 63 - Long.numberOfLeadingZeros(levels[g][x]);
+            }
+            return x;
+        }
+        return NONE;
+    }
+
+    /**
+     * x 이상 중 최소 (≥). 없으면 NONE
+     */
+    public int ceiling(int x) {
+        if (x >= universe) {
+            return NONE;
+        }
+        if (x < 0) {
+            x = 0;
+        }
+        for (int h = 0; h < levels.length && (x >>> 6) < levels[h].length; h++) {
+            // x번 비트 아래쪽을 밀어내고 남은 비트 중 가장 낮은 것
+            long word = levels[h][x >>> 6] >>> x;
+            if (word == 0) {
+                x = (x >>> 6) + 1;
+                continue;
+            }
+            x += Long.numberOfTrailingZeros(word);
+            for (int g = h - 1; g >= 0; g--) {
+                x = (x << 6) + Long.numberOfTrailingZeros(levels[g][x]);
+            }
+            return x;
+        }
+        return NONE;
+    }
+
+    /**
+     * x 미만 중 최대 (<). 없으면 NONE
+     */
+    public int lower(int x) {
+        return x <= 0 ? NONE : floor(x - 1);
+    }
+
+    /**
+     * x 초과 중 최소 (>). 없으면 NONE
+     */
+    public int higher(int x) {
+        return x == Integer.MAX_VALUE ? NONE : ceiling(x + 1);
+    }
+}
@@ -0,0 +1,261 @@
+package s06_set_map;
+
+import java.util.Arrays;
+import java.util.function.LongToIntFunction;
+
+/**
+ * 박싱 없는 long → int 해시 맵
+ *
+ * 키가 int 범위를 넘는 카운팅/메모이제이션용 (두 int를 합친 키, 큰 좌표, 해시값)
+ * - 두 int 합치기: ((long) a << 32) | (b & 0xffffffffL)
+ *   (long) a << 32 | b는 음수 b가 부호 확장되어 위 32비트를 덮는다 → (0, -1)과 (-1, -1)이 같은 키
+ * - HashMap<Long, Integer>는 Long 키를 매번 새로 만든다 (-128 ~ 127 밖)
+ * - 동작과 메서드는 IntIntHashMap과 같고 키 배열만 long[]
+ *
+ * HashMap 메서드 대응:
+ * - getOrDefault(key, d) → getOrDefault(key, d)
+ * - merge(key, delta, Integer::sum) → addTo(key, delta)
+ * - computeIfAbsent(key, f) → computeIfAbsent(key, f)
+ *
+ * 값이 null일 수 없으므로 "없음"은 containsKey 또는 getOrDefault의 기본값으로 구분한다.
+ */
+public class LongIntHashMap {
+
+    private static final long EMPTY = 0;
+
+    private long[] keys;
+    private int[] values;
+    private boolean hasZeroKey;
+    private int zeroValue;
+    private int size;
+    private int mask;
+    private int maxFill;
+
+    public LongIntHashMap() {
+        this(16);
+    }
+
+    public LongIntHashMap(int expectedSize) {
+        allocate(Hashing.capacityFor(expectedSize));
+    }
+
+    public int getOrDefault(long key, int defaultValue) {
+        if (key == EMPTY) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int i = indexOf(key);
+        return i < 0 ? defaultValue : values[i];
+    }
+
+    public boolean containsKey(long key) {
+        return key == EMPTY ? hasZeroKey : indexOf(key) >= 0;
+    }
+
+    /**
+     * 값을 저장한다. 이전 값이 있었으면 true (HashMap.put의 반환값이 null이 아닌 경우)
+     */
+    public boolean put(long key, int value) {
+        if (key == EMPTY) {
+            boolean existed = hasZeroKey;
+            zeroValue = value;
+            if (!existed) {
+                hasZeroKey = true;
+                size++;
+            }
+            return existed;
+        }
+        int i = Hashing.mix(key) & mask;
+        long current;
+        while ((current = keys[i]) != EMPTY) {
+            if (current == key) {
+                values[i] = value;
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        insertAt(i, key, value);
+        return false;
+    }
+
+    /**
+     * merge(key, delta, Integer::sum)과 같다. 없던 키는 0에서 시작한다. 더한 뒤의 값을 반환한다.
+     */
+    public int addTo(long key, int delta) {
+        if (key == EMPTY) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            return zeroValue += delta;
+        }
+        int i = Hashing.mix(key) & mask;
+        long current;
+        while ((current = keys[i]) != EMPTY) {
+            if (current == key) {
+                return values[i] += delta;
+            }
+            i = (i + 1) & mask;
+        }
+        insertAt(i, key, delta);
+        return delta;
+    }
+
+    /**
+     * 키가 없을 때만 mappingFunction으로 값을 만들어 저장한다. 저장된 값을 반환한다.
+     *
+     * HashMap.computeIfAbsent와 달리 mappingFunction 안에서 이 맵을 수정해도 된다
+     * (재귀 메모이제이션: memo.computeIfAbsent(n, k -> f(k - 1) + f(k - 2))).
+     * 값을 계산한 뒤 자리를 다시 찾아서 넣기 때문이다.
+     */
+    public int computeIfAbsent(long key, LongToIntFunction mappingFunction) {
+        if (key == EMPTY) {
+            if (hasZeroKey) {
+                return zeroValue;
+            }
+        } else {
+            int i = indexOf(key);
+            if (i >= 0) {
+                return values[i];
+            }
+        }
+        int value = mappingFunction.applyAsInt(key);
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * 키를 삭제한다. 삭제했으면 true
+     */
+    public boolean remove(long key) {
+        if (key == EMPTY) {
+            if (!hasZeroKey) {
+                return false;
+            }
+            hasZeroKey = false;
+            zeroValue = 0;
+            size--;
+            return true;
+        }
+        int i = indexOf(key);
+        if (i < 0) {
+            return false;
+        }
+        shiftKeys(i);
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        hasZeroKey = false;
+        zeroValue = 0;
+        size = 0;
+    }
+
+    public void forEach(EntryConsumer action) {
+        if (hasZeroKey) {
+            action.accept(EMPTY, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    public long[] keys() {
+        long[] result = new long[size];
+        int idx = 0;
+        if (hasZeroKey) {
+            result[idx++] = EMPTY;
+        }
+        for (long key : keys) {
+            if (key != EMPTY) {
+                result[idx++] = key;
+            }
+        }
+        return result;
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, int value);
+    }
+
+    private int indexOf(long key) {
+        int i = Hashing.mix(key) & mask;
+        long current;
+        while ((current = keys[i]) != EMPTY) {
+            if (current == key) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insertAt(int i, long key, int value) {
+        keys[i] = key;
+        values[i] = value;
+        if (++size > maxFill) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    // IntIntHashMap.shiftKeys와 동일
+    private void shiftKeys(int pos) {
+        while (true) {
+            int last = pos;
+            pos = (pos + 1) & mask;
+            long current;
+            while (true) {
+                if ((current = keys[pos]) == EMPTY) {
+                    keys[last] = EMPTY;
+                    return;
+                }
+                int slot = Hashing.mix(current) & mask;
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            keys[last] = current;
+            values[last] = values[pos];
+        }
+    }
+
+    private void rehash(int capacity) {
+        if (capacity > Hashing.MAX_CAPACITY) {
+            throw new IllegalStateException("LongIntHashMap is full: " + size);
+        }
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int j = 0; j < oldKeys.length; j++) {
+            long key = oldKeys[j];
+            if (key != EMPTY) {
+                int i = Hashing.mix(key) & mask;
+                while (keys[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        maxFill = Hashing.maxFill(capacity);
+    }
+}
@@ -0,0 +1,106 @@
+package s07_queue_stack;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * 다이얼 (Dial) 알고리즘용 원형 버킷 큐: 간선 가중치가 0 ~ maxWeight인 최단 경로 전용
+ *
+ * 다익스트라에서 큐에 있는 거리는 항상 [last, last + maxWeight] 안에 있다 (last = 마지막으로 꺼낸 거리).
+ * 그래서 거리 d를 버킷 d % (maxWeight + 1)에 넣으면 버킷마다 거리가 하나뿐이고,
+ * 꺼낼 때는 last부터 버킷을 차례로 보면 된다.
+ * - add: O(1), poll: 분할 상환 O(1) (전체 O(V + E + 최대 거리))
+ * - 비교 연산이 전혀 없다
+ *
+ * 제약 (어기면 IllegalArgumentException):
+ * - 키는 last 이상, last + maxWeight 이하
+ *
+ * 가중치가 0/1뿐이면 덱으로 하는 0-1 BFS가 더 단순하다.
+ */
+public class BucketQueue {
+
+    private static final int INITIAL_BUCKET_CAPACITY = 4;
+
+    private final int span; // maxWeight + 1 = 버킷 수
+    private final int[][] buckets; // 버킷마다 값 스택
+    private final int[] sizes;
+    private int last; // 마지막으로 꺼낸 키 (다음 최소 키 후보)
+    private int size;
+
+    public BucketQueue(int maxWeight) {
+        if (maxWeight < 0 || maxWeight == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("maxWeight: " + maxWeight);
+        }
+        span = maxWeight + 1;
+        buckets = new int[span][];
+        for (int i = 0; i < span; i++) {
+            buckets[i] = new int[INITIAL_BUCKET_CAPACITY];
+        }
+        sizes = new int[span];
+    }
+
+    /** key가 [lastKey(), lastKey() + maxWeight] 밖이면 IllegalArgumentException */
+    public void add(int key, int value) {
+        if (key < last || key - last >= span) {
+            throw new IllegalArgumentException(
+                    "key " + key + " is outside [" + last + ", " + (last + (span - 1)) + "]");
+        }
+        int b = key % span;
+        int n = sizes[b];
+        if (n == buckets[b].length) {
+            buckets[b] = Arrays.copyOf(buckets[b], n << 1);
+        }
+        buckets[b][n] = value;
+        sizes[b] = n + 1;
+        size++;
+    }
+
+    public int peekKey() {
+        advance();
+        return last;
+    }
+
+    public int peekValue() {
+        advance();
+        int b = last % span;
+        return buckets[b][sizes[b] - 1];
+    }
+
+    /** 키가 가장 작은 쌍을 꺼내고 값을 반환한다. 키가 필요하면 먼저 peekKey */
+    public int poll() {
+        advance();
+        int b = last % span;
+        size--;
+        return buckets[b][--sizes[b]];
+    }
+
+    /** 마지막으로 꺼낸 (꺼낼) 키. 넣을 수 있는 키의 하한 */
+    public int lastKey() {
+        return last;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** 비우고 키 하한도 0으로 되돌린다 */
+    public void clear() {
+        Arrays.fill(sizes, 0);
+        size = 0;
+        last = 0;
+    }
+
+    // last부터 한 칸씩 (최대 span칸) 비어 있지 않은 버킷을 찾는다
+    private void advance() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        while (sizes[last % span] == 0) {
+            last++;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package s07_queue_stack;
+
+import java.util.Arrays;
+
+/**
+ * 격자 BFS / 0-1 BFS. 좌표를 int 하나 (r * cols + c)로 묶어 할당 없이 탐색한다
+ *
+ * 흔한 BFS 코드:
+ * Queue<int[]> q = new ArrayDeque<>(); q.add(new int[] {r, c}); int[][] dist = ...
+ * - 칸마다 int[2] 배열 (24바이트) 하나
+ * - dist[r][c]는 행마다 배열 → 포인터 한 번 더
+ *
+ * GridBfs:
+ * - 칸 번호 cell = r * cols + c. 큐에는 int만 (IntQueue / IntDeque)
+ * - 격자와 거리는 길이 rows * cols인 1차원 배열 (FastReader.nextDigitGrid(int[], rows, cols)로 바로 읽는다)
+ * - 큐와 거리 배열은 인스턴스가 들고 재사용 → 테스트 케이스가 여러 개여도 할당 없음
+ *   (0-1 BFS 덱만 첫 탐색에서 필요한 크기까지 늘어난다)
+ *
+ * 반환하는 거리 배열은 내부 배열이다. 다음 bfs / zeroOneBfs 호출에서 덮어쓴다.
+ * 도달할 수 없는 칸은 UNREACHABLE (-1). 이동은 상하좌우 4방향.
+ */
+public class GridBfs {
+
+    public static final int UNREACHABLE = -1;
+
+    private final int rows;
+    private final int cols;
+    private final int[] dist;
+    private final IntQueue queue; // BFS: 칸마다 한 번만 넣는다
+    private final IntDeque deque; // 0-1 BFS: 같은 칸이 여러 번 들어갈 수 있다
+
+    public GridBfs(int rows, int cols) {
+        if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("grid size: " + rows + " x " + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        dist = new int[rows * cols];
+        queue = new IntQueue(rows * cols);
+        deque = new IntDeque(); // 첫 탐색에서 필요한 만큼 늘고 clear 후에도 유지
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    public int pack(int r, int c) {
+        return r * cols + c;
+    }
+
+    public int row(int cell) {
+        return cell / cols;
+    }
+
+    public int col(int cell) {
+        return cell % cols;
+    }
+
+    /** 마지막 탐색에서 (r, c)까지의 거리, 없으면 UNREACHABLE */
+    public int distance(int r, int c) {
+        return dist[pack(r, c)];
+    }
+
+    /**
+     * source에서 grid[cell] != wall인 칸으로만 움직이는 최단 이동 횟수
+     *
+     * @param grid 길이 rows * cols
+     * @return 칸 번호별 거리 (내부 배열)
+     */
+    public int[] bfs(int[] grid, int wall, int source) {
+        checkGrid(grid);
+        Arrays.fill(dist, UNREACHABLE);
+        queue.clear();
+        dist[source] = 0;
+        queue.add(source);
+        return runBfs(grid, wall);
+    }
+
+    /** 여러 칸에서 동시에 시작하는 BFS (각 칸까지 가장 가까운 시작점의 거리) */
+    public int[] bfs(int[] grid, int wall, int[] sources) {
+        checkGrid(grid);
+        Arrays.fill(dist, UNREACHABLE);
+        queue.clear();
+        for (int source : sources) {
+            if (dist[source] == UNREACHABLE) {
+                dist[source] = 0;
+                queue.add(source);
+            }
+        }
+        return runBfs(grid, wall);
+    }
+
+    /**
+     * 칸에 들어가는 비용이 cost[cell] (0 또는 1)일 때 source에서의 최소 비용.
+     * 0이면 덱 앞, 1이면 덱 뒤에 넣는다 → 덱 안의 거리는 항상 (d, d + 1) 두 종류뿐
+     *
+     * @return 칸 번호별 최소 비용 (내부 배열). source 자신의 비용은 세지 않는다
+     */
+    public int[] zeroOneBfs(int[] cost, int source) {
+        checkGrid(cost);
+        Arrays.fill(dist, UNREACHABLE);
+        deque.clear();
+        dist[source] = 0;
+        deque.offerLast(source);
+        while (!deque.isEmpty()) {
+            int cell = deque.pollFirst();
+            int r = cell / cols;
+            int c = cell - r * cols;
+            if (r > 0) {
+                relax(cost, cell, cell - cols);
+            }
+            if (r + 1 < rows) {
+                relax(cost, cell, cell + cols);
+            }
+            if (c > 0) {
+                relax(cost, cell, cell - 1);
+            }
+            if (c + 1 < cols) {
+                relax(cost, cell, cell + 1);
+            }
+        }
+        return dist;
+    }
+
+    private int[] runBfs(int[] grid, int wall) {
+        while (!queue.isEmpty()) {
+            int cell = queue.poll();
+            int next = dist[cell] + 1;
+            int r = cell / cols;
+            int c = cell - r * cols;
+            if (r > 0) {
+                visit(grid, wall, cell - cols, next);
+            }
+            if (r + 1 < rows) {
+                visit(grid, wall, cell + cols, next);
+            }
+            if (c > 0) {
+                visit(grid, wall, cell - 1, next);
+            }
+            if (c + 1 < cols) {
+                visit(grid, wall, cell + 1, next);
+            }
+        }
+        return dist;
+    }
+
+    private void visit(int[] grid, int wall, int cell, int d) {
+        if (dist[cell] == UNREACHABLE && grid[cell] != wall) {
+            dist[cell] = d;
+            queue.add(cell);
+        }
+    }
+
+    private void relax(int[] cost, int from, int to) {
+        int w = cost[to];
+        if (w != 0 && w != 1) {
+            throw new IllegalArgumentException("cost must be 0 or 1: " + w + " at " + to);
+        }
+        int d = dist[from] + w;
+        if (dist[to] == UNREACHABLE || d < dist[to]) {
+            dist[to] = d;
+            if (w == 0) {
+                deque.offerFirst(to);
+            } else {
+                deque.offerLast(to);
+            }
+        }
+    }
+
+    private void checkGrid(int[] grid) {
+        if (grid.length != dist.length) {
+            throw new IllegalArgumentException("grid length " + grid.length + " != " + rows + " * " + cols);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package s07_queue_stack;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * 번호 0 ~ n-1 원소에 long 우선순위를 매기는 인덱스 최소 힙 (decreaseKey 지원)
+ *
+ * PriorityQueue로 하는 다익스트라/프림의 관용구는 지연 삭제다:
+ * 거리가 줄 때마다 새 쌍을 또 넣고, 꺼낸 쌍이 낡았으면 건너뛴다.
+ * → 큐에 간선 수 O(E)만큼 쌓이고, 밀집 그래프 (E ≈ V^2)에서는 힙이 V^2 크기가 된다.
+ *
+ * IndexedLongHeap은 원소마다 힙 안의 위치를 기억한다 (pos[]).
+ * - 같은 원소는 힙에 한 번만 → 크기는 항상 n 이하
+ * - decreaseKey / remove: 위치를 바로 찾아 O(log n)
+ * - contains: O(1)
+ * - 배열은 생성할 때 한 번만 잡는다 (이후 할당 없음)
+ *
+ * 사용 패턴 (다익스트라):
+ * IndexedLongHeap pq = new IndexedLongHeap(n);
+ * pq.add(source, 0);
+ * while (!pq.isEmpty()) {
+ *     long d = pq.peekPriority();
+ *     int u = pq.poll();
+ *     for (...) if (d + w < dist[v]) { dist[v] = d + w; pq.addOrDecrease(v, dist[v]); }
+ * }
+ */
+public class IndexedLongHeap {
+
+    private static final int ABSENT = -1;
+
+    private final int[] heap; // heap[i] = i번째 자리의 원소
+    private final int[] pos; // pos[v] = 원소 v의 자리, 없으면 ABSENT
+    private final long[] priorities; // priorities[v] = 원소 v의 우선순위 (자리가 아니라 원소 번호로)
+    private int size;
+
+    public IndexedLongHeap(int n) {
+        heap = new int[n];
+        pos = new int[n];
+        priorities = new long[n];
+        Arrays.fill(pos, ABSENT);
+    }
+
+    /** 원소 번호의 범위 (0 ~ capacity - 1) */
+    public int capacity() {
+        return pos.length;
+    }
+
+    public boolean contains(int v) {
+        return pos[v] != ABSENT;
+    }
+
+    /** v가 이미 있으면 IllegalArgumentException */
+    public void add(int v, long priority) {
+        if (pos[v] != ABSENT) {
+            throw new IllegalArgumentException("already in heap: " + v);
+        }
+        priorities[v] = priority;
+        siftUp(size++, v);
+    }
+
+    /** v의 우선순위를 priority로 낮춘다. v가 없거나 priority가 더 크면 IllegalArgumentException */
+    public void decreaseKey(int v, long priority) {
+        if (pos[v] == ABSENT) {
+            throw new IllegalArgumentException("not in heap: " + v);
+        }
+        if (priority > priorities[v]) {
+            throw new IllegalArgumentException("priority increased: " + priorities[v] + " -> " + priority);
+        }
+        priorities[v] = priority;
+        siftUp(pos[v], v);
+    }
+
+    /**
+     * v가 없으면 넣고, 있으면 priority가 더 작을 때만 낮춘다.
+     *
+     * @return 넣거나 낮췄으면 true
+     */
+    public boolean addOrDecrease(int v, long priority) {
+        if (pos[v] == ABSENT) {
+            add(v, priority);
+            return true;
+        }
+        if (priority < priorities[v]) {
+            priorities[v] = priority;
+            siftUp(pos[v], v);
+            return true;
+        }
+        return false;
+    }
+
+    /** 힙 안에 있는 v의 우선순위. 없으면 NoSuchElementException */
+    public long priorityOf(int v) {
+        if (pos[v] == ABSENT) {
+            throw new NoSuchElementException("not in heap: " + v);
+        }
+        return priorities[v];
+    }
+
+    /** 우선순위가 가장 작은 원소 */
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return heap[0];
+    }
+
+    public long peekPriority() {
+        return priorities[peek()];
+    }
+
+    /** 우선순위가 가장 작은 원소를 꺼낸다. 우선순위가 필요하면 먼저 peekPriority */
+    public int poll() {
+        int top = peek();
+        removeAt(0);
+        return top;
+    }
+
+    /** @return v가 있었으면 true */
+    public boolean remove(int v) {
+        int index = pos[v];
+        if (index == ABSENT) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // 남아 있는 원소만 지운다 → O(size)
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            pos[heap[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    // 마지막 원소를 빈자리에 넣고, 자리에 따라 올리거나 내린다
+    private void removeAt(int index) {
+        pos[heap[index]] = ABSENT;
+        int last = heap[--size];
+        if (index == size) {
+            return;
+        }
+        if (index > 0 && priorities[last] < priorities[heap[(index - 1) >>> 1]]) {
+            siftUp(index, last);
+        } else {
+            siftDown(index, last);
+        }
+    }
+
+    private void siftUp(int index, int v) {
+        long priority = priorities[v];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            int p = heap[parent];
+            if (priorities[p] <= priority) {
+                break;
+            }
+            heap[index] = p;
+            pos[p] = index;
+            index = parent;
+        }
+        heap[index] = v;
+        pos[v] = index;
+    }
+
+    private void siftDown(int index, int v) {
+        long priority = priorities[v];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && priorities[heap[right]] < priorities[heap[child]]) {
+                child = right;
+            }
+            int c = heap[child];
+            if (priority <= priorities[c]) {
+                break;
+            }
+            heap[index] = c;
+            pos[c] = index;
+            index = child;
+        }
+        heap[index] = v;
+        pos[v] = index;
+    }
+}
@@ -0,0 +1,127 @@
+package s07_queue_stack;
+
+import java.util.NoSuchElementException;
+
+/**
+ * 박싱 없는 int 덱 (원형 버퍼). ArrayDeque<Integer> 대체
+ *
+ * ArrayDeque는 LinkedList보다 빠르지만 (노드 할당 없음) 원소는 여전히 Integer다:
+ * 4000 * 4000 격자 BFS면 offer 1.6 * 10^7번 = Integer 1.6 * 10^7개 (약 256MB 할당).
+ *
+ * IntDeque는 ArrayDeque와 같은 구조를 int[]로 만든다.
+ * - 용량은 2의 거듭제곱 → 인덱스 순환을 나머지 대신 비트 AND로
+ * - 가득 차면 두 배로 늘리며 head부터 펼쳐 복사
+ *
+ * ArrayDeque 메서드 대응:
+ * - offerFirst / offerLast / pollFirst / pollLast / peekFirst / peekLast: 이름 그대로
+ * - 비어 있을 때 poll/peek은 null 대신 NoSuchElementException (IntHeap과 같다)
+ *
+ * 넣을 원소 수의 상한을 알고 한쪽으로만 쓰는 BFS라면 IntQueue가 더 단순하다.
+ */
+public class IntDeque {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] elements;
+    private int mask;
+    private int head; // 첫 원소 위치
+    private int size;
+
+    public IntDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntDeque(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(2, expectedSize) - 1) << 1;
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("expectedSize too large: " + expectedSize);
+        }
+        elements = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    public void offerFirst(int value) {
+        if (size == elements.length) {
+            grow();
+        }
+        head = (head - 1) & mask;
+        elements[head] = value;
+        size++;
+    }
+
+    public void offerLast(int value) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) & mask] = value;
+        size++;
+    }
+
+    public int pollFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int value = elements[head];
+        head = (head + 1) & mask;
+        size--;
+        return value;
+    }
+
+    public int pollLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        size--;
+        return elements[(head + size) & mask];
+    }
+
+    public int peekFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return elements[head];
+    }
+
+    public int peekLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return elements[(head + size - 1) & mask];
+    }
+
+    /** 앞에서 index번째 원소 (0 = peekFirst) */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return elements[(head + index) & mask];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    // head부터 끝까지, 0부터 head 앞까지 두 조각을 새 배열 앞쪽에 이어 붙인다
+    private void grow() {
+        int capacity = elements.length << 1;
+        if (capacity <= 0) {
+            throw new IllegalStateException("IntDeque is full: " + size);
+        }
+        int[] grown = new int[capacity];
+        int firstPart = elements.length - head;
+        System.arraycopy(elements, head, grown, 0, firstPart);
+        System.arraycopy(elements, 0, grown, firstPart, head);
+        elements = grown;
+        mask = capacity - 1;
+        head = 0;
+    }
+}
@@ -0,0 +1,130 @@
+package s07_queue_stack;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * 박싱 없는 int 힙 (기본은 최소 힙)
+ *
+ * PriorityQueue<Integer>의 비용:
+ * - offer마다 Integer 박싱 (-128 ~ 127 캐시 밖이면 16바이트씩 생성)
+ * - 비교마다 Integer.compareTo 호출 + 언박싱, 포인터를 따라가는 캐시 미스
+ *
+ * IntHeap은 int[] 하나에 힙을 직접 저장한다.
+ *
+ * 옵션 (flags, FastSplit처럼 OR로 조합):
+ * - MAX_HEAP: 최대 힙. new PriorityQueue<>(Collections.reverseOrder())에 해당
+ *   값을 ~v로 뒤집어 저장한다 → 비교는 그대로, -v와 달리 MIN_VALUE도 안전
+ * - QUATERNARY: 자식 4개 (4-ary 힙). 높이가 절반이라 poll의 캐시 미스가 줄고,
+ *   자식 4개가 한 캐시 라인에 붙어 있다. 대신 단계마다 비교가 3번
+ *
+ * PriorityQueue 메서드 대응:
+ * - offer / add → add
+ * - peek / poll → peek / poll (비어 있으면 null 대신 NoSuchElementException)
+ *
+ * 사용 패턴:
+ * IntHeap pq = new IntHeap();
+ * pq.add(x);
+ * while (!pq.isEmpty()) { int min = pq.poll(); }
+ */
+public class IntHeap {
+
+    /** 최대 힙 (poll이 가장 큰 값부터) */
+    public static final int MAX_HEAP = 1;
+
+    /** 자식 4개짜리 힙 */
+    public static final int QUATERNARY = 1 << 1;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int flip; // 최소 힙 0, 최대 힙 -1 (저장값 = value ^ flip)
+    private final int shift; // log2(자식 수)
+    private int[] heap;
+    private int size;
+
+    public IntHeap() {
+        this(DEFAULT_CAPACITY, 0);
+    }
+
+    public IntHeap(int initialCapacity) {
+        this(initialCapacity, 0);
+    }
+
+    public IntHeap(int initialCapacity, int flags) {
+        flip = (flags & MAX_HEAP) != 0 ? -1 : 0;
+        shift = (flags & QUATERNARY) != 0 ? 2 : 1;
+        heap = new int[Math.max(1, initialCapacity)];
+    }
+
+    public void add(int value) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size << 1);
+        }
+        siftUp(size++, value ^ flip);
+    }
+
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return heap[0] ^ flip;
+    }
+
+    public int poll() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int top = heap[0];
+        int last = heap[--size];
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        return top ^ flip;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    // 부모가 더 크면 부모를 내리고 빈자리를 올린다 (교환 대신 한 번씩만 쓰기)
+    private void siftUp(int index, int value) {
+        while (index > 0) {
+            int parent = (index - 1) >>> shift;
+            if (heap[parent] <= value) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    private void siftDown(int index, int value) {
+        int arity = 1 << shift;
+        int lastParent = (size - 2) >> shift; // 자식이 있는 마지막 위치 (index << shift 오버플로우 방지)
+        while (index <= lastParent) {
+            int first = (index << shift) + 1;
+            int child = first;
+            int end = Math.min(first + arity, size);
+            for (int c = first + 1; c < end; c++) {
+                if (heap[c] < heap[child]) {
+                    child = c;
+                }
+            }
+            if (value <= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+}
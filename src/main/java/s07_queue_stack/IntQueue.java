@@ -0,0 +1,77 @@
+package s07_queue_stack;
+
+import java.util.NoSuchElementException;
+
+/**
+ * 용량이 고정된 int FIFO 큐. 늘리지도, 순환하지도 않는 BFS 전용
+ *
+ * BFS는 칸 (정점)마다 한 번만 큐에 넣으므로 전체 add 횟수가 칸 수 이하다.
+ * 그러면 원형 버퍼도 필요 없이 배열 하나에 head, tail 두 인덱스만 있으면 된다.
+ * - add: elements[tail++] = v, poll: elements[head++]
+ * - 용량 검사 외에 분기 없음, 생성 뒤 할당 없음
+ * - poll한 원소도 배열에 남아 있다 → get(i)로 방문 순서를 다시 볼 수 있다
+ *
+ * clear 전까지 전체 add 횟수가 capacity를 넘으면 IllegalStateException
+ * (ArrayBlockingQueue.add와 같은 "Queue full"). 양쪽으로 쓰거나 상한을 모르면 IntDeque.
+ */
+public class IntQueue {
+
+    private final int[] elements;
+    private int head;
+    private int tail;
+
+    public IntQueue(int capacity) {
+        elements = new int[capacity];
+    }
+
+    public void add(int value) {
+        if (tail == elements.length) {
+            throw new IllegalStateException("Queue full");
+        }
+        elements[tail++] = value;
+    }
+
+    public int poll() {
+        if (head == tail) {
+            throw new NoSuchElementException();
+        }
+        return elements[head++];
+    }
+
+    public int peek() {
+        if (head == tail) {
+            throw new NoSuchElementException();
+        }
+        return elements[head];
+    }
+
+    /** 지금까지 add한 index번째 원소 (poll한 것 포함) */
+    public int get(int index) {
+        if (index < 0 || index >= tail) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Added: " + tail);
+        }
+        return elements[index];
+    }
+
+    /** 지금까지 add한 원소 수 (poll한 것 포함) */
+    public int added() {
+        return tail;
+    }
+
+    public int size() {
+        return tail - head;
+    }
+
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    public int capacity() {
+        return elements.length;
+    }
+
+    public void clear() {
+        head = 0;
+        tail = 0;
+    }
+}
@@ -0,0 +1,117 @@
+package s07_queue_stack;
+
+import java.util.NoSuchElementException;
+
+/**
+ * 박싱 없는 long 덱 (원형 버퍼). ArrayDeque<Long> 대체. IntDeque의 long 버전
+ *
+ * 격자 좌표를 ((long) r << 32) | (c & 0xffffffffL)로 묶거나, 0-1 BFS에서 (거리, 칸)을 한 값으로 넣을 때 쓴다.
+ * 구조와 메서드는 IntDeque와 같다 (2의 거듭제곱 용량, 비어 있으면 NoSuchElementException).
+ */
+public class LongDeque {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] elements;
+    private int mask;
+    private int head; // 첫 원소 위치
+    private int size;
+
+    public LongDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongDeque(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(2, expectedSize) - 1) << 1;
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("expectedSize too large: " + expectedSize);
+        }
+        elements = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    public void offerFirst(long value) {
+        if (size == elements.length) {
+            grow();
+        }
+        head = (head - 1) & mask;
+        elements[head] = value;
+        size++;
+    }
+
+    public void offerLast(long value) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) & mask] = value;
+        size++;
+    }
+
+    public long pollFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        long value = elements[head];
+        head = (head + 1) & mask;
+        size--;
+        return value;
+    }
+
+    public long pollLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        size--;
+        return elements[(head + size) & mask];
+    }
+
+    public long peekFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return elements[head];
+    }
+
+    public long peekLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return elements[(head + size - 1) & mask];
+    }
+
+    /** 앞에서 index번째 원소 (0 = peekFirst) */
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return elements[(head + index) & mask];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    // head부터 끝까지, 0부터 head 앞까지 두 조각을 새 배열 앞쪽에 이어 붙인다
+    private void grow() {
+        int capacity = elements.length << 1;
+        if (capacity <= 0) {
+            throw new IllegalStateException("LongDeque is full: " + size);
+        }
+        long[] grown = new long[capacity];
+        int firstPart = elements.length - head;
+        System.arraycopy(elements, head, grown, 0, firstPart);
+        System.arraycopy(elements, 0, grown, firstPart, head);
+        elements = grown;
+        mask = capacity - 1;
+        head = 0;
+    }
+}
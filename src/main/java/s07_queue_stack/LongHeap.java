@@ -0,0 +1,113 @@
+package s07_queue_stack;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * 박싱 없는 long 힙 (기본은 최소 힙). IntHeap의 long 버전
+ *
+ * PriorityQueue<Long>은 값마다 Long 객체 (-128 ~ 127 밖이면 16바이트씩)를 만든다.
+ * 거리 합이 int를 넘는 다익스트라나, ((long) 우선순위 << 32) | (번호 & 0xffffffffL)로 두 값을 묶어 넣을 때 쓴다.
+ *
+ * 옵션은 IntHeap과 같다: MAX_HEAP (~v로 뒤집어 저장), QUATERNARY (자식 4개)
+ */
+public class LongHeap {
+
+    /** 최대 힙 (poll이 가장 큰 값부터) */
+    public static final int MAX_HEAP = IntHeap.MAX_HEAP;
+
+    /** 자식 4개짜리 힙 */
+    public static final int QUATERNARY = IntHeap.QUATERNARY;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final long flip; // 최소 힙 0, 최대 힙 -1 (저장값 = value ^ flip)
+    private final int shift; // log2(자식 수)
+    private long[] heap;
+    private int size;
+
+    public LongHeap() {
+        this(DEFAULT_CAPACITY, 0);
+    }
+
+    public LongHeap(int initialCapacity) {
+        this(initialCapacity, 0);
+    }
+
+    public LongHeap(int initialCapacity, int flags) {
+        flip = (flags & MAX_HEAP) != 0 ? -1L : 0L;
+        shift = (flags & QUATERNARY) != 0 ? 2 : 1;
+        heap = new long[Math.max(1, initialCapacity)];
+    }
+
+    public void add(long value) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size << 1);
+        }
+        siftUp(size++, value ^ flip);
+    }
+
+    public long peek() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return heap[0] ^ flip;
+    }
+
+    public long poll() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        long top = heap[0];
+        long last = heap[--size];
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        return top ^ flip;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    private void siftUp(int index, long value) {
+        while (index > 0) {
+            int parent = (index - 1) >>> shift;
+            if (heap[parent] <= value) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    private void siftDown(int index, long value) {
+        int arity = 1 << shift;
+        int lastParent = (size - 2) >> shift;
+        while (index <= lastParent) {
+            int first = (index << shift) + 1;
+            int child = first;
+            int end = Math.min(first + arity, size);
+            for (int c = first + 1; c < end; c++) {
+                if (heap[c] < heap[child]) {
+                    child = c;
+                }
+            }
+            if (value <= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+}
@@ -0,0 +1,147 @@
+package s07_queue_stack;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * (long 우선순위, int 값) 쌍의 힙. PriorityQueue<int[]> / PriorityQueue<long[]> 대체
+ *
+ * 다익스트라의 흔한 코드:
+ * PriorityQueue<int[]> pq = new PriorityQueue<>((x, y) -> Integer.compare(x[0], y[0]));
+ * pq.add(new int[] {dist, node});
+ * - 넣을 때마다 배열 객체 하나 (헤더 16바이트 + 원소)
+ * - 비교마다 람다 호출 + 두 배열을 따라가는 캐시 미스
+ *
+ * LongIntHeap은 우선순위와 값을 두 개의 평행 배열 long[], int[]에 저장한다.
+ * 비교는 우선순위 배열만 보고, 값은 자리를 옮길 때만 같이 움직인다.
+ *
+ * 옵션은 IntHeap과 같다: MAX_HEAP (우선순위가 큰 것부터), QUATERNARY (자식 4개)
+ * 우선순위가 같은 쌍끼리의 순서는 정하지 않는다 (PriorityQueue도 마찬가지).
+ *
+ * 사용 패턴:
+ * pq.add(0, source);
+ * while (!pq.isEmpty()) {
+ *     long d = pq.peekPriority();
+ *     int u = pq.poll();
+ *     if (d > dist[u]) continue; // 지연 삭제: 이미 더 짧은 거리로 꺼낸 정점
+ *     ...
+ * }
+ */
+public class LongIntHeap {
+
+    /** 최대 힙 (poll이 우선순위가 가장 큰 쌍부터) */
+    public static final int MAX_HEAP = IntHeap.MAX_HEAP;
+
+    /** 자식 4개짜리 힙 */
+    public static final int QUATERNARY = IntHeap.QUATERNARY;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final long flip; // 최소 힙 0, 최대 힙 -1 (저장 우선순위 = priority ^ flip)
+    private final int shift; // log2(자식 수)
+    private long[] priorities;
+    private int[] values;
+    private int size;
+
+    public LongIntHeap() {
+        this(DEFAULT_CAPACITY, 0);
+    }
+
+    public LongIntHeap(int initialCapacity) {
+        this(initialCapacity, 0);
+    }
+
+    public LongIntHeap(int initialCapacity, int flags) {
+        flip = (flags & MAX_HEAP) != 0 ? -1L : 0L;
+        shift = (flags & QUATERNARY) != 0 ? 2 : 1;
+        int capacity = Math.max(1, initialCapacity);
+        priorities = new long[capacity];
+        values = new int[capacity];
+    }
+
+    public void add(long priority, int value) {
+        if (size == priorities.length) {
+            priorities = Arrays.copyOf(priorities, size << 1);
+            values = Arrays.copyOf(values, size << 1);
+        }
+        siftUp(size++, priority ^ flip, value);
+    }
+
+    /** 맨 앞 쌍의 우선순위 */
+    public long peekPriority() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return priorities[0] ^ flip;
+    }
+
+    /** 맨 앞 쌍의 값 */
+    public int peekValue() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return values[0];
+    }
+
+    /** 맨 앞 쌍을 꺼내고 값을 반환한다. 우선순위가 필요하면 먼저 peekPriority */
+    public int poll() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int top = values[0];
+        --size;
+        if (size > 0) {
+            siftDown(0, priorities[size], values[size]);
+        }
+        return top;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    private void siftUp(int index, long priority, int value) {
+        while (index > 0) {
+            int parent = (index - 1) >>> shift;
+            if (priorities[parent] <= priority) {
+                break;
+            }
+            priorities[index] = priorities[parent];
+            values[index] = values[parent];
+            index = parent;
+        }
+        priorities[index] = priority;
+        values[index] = value;
+    }
+
+    private void siftDown(int index, long priority, int value) {
+        int arity = 1 << shift;
+        int lastParent = (size - 2) >> shift;
+        while (index <= lastParent) {
+            int first = (index << shift) + 1;
+            int child = first;
+            int end = Math.min(first + arity, size);
+            for (int c = first + 1; c < end; c++) {
+                if (priorities[c] < priorities[child]) {
+                    child = c;
+                }
+            }
+            if (priority <= priorities[child]) {
+                break;
+            }
+            priorities[index] = priorities[child];
+            values[index] = values[child];
+            index = child;
+        }
+        priorities[index] = priority;
+        values[index] = value;
+    }
+}
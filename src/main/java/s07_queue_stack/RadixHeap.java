@@ -0,0 +1,129 @@
+package s07_queue_stack;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * 단조 (monotone) 우선순위 큐: (long 키, int 값) 쌍, 꺼내는 키가 줄어들지 않는 경우 전용
+ *
+ * 다익스트라는 꺼내는 거리가 줄어들지 않고, 새로 넣는 거리도 마지막으로 꺼낸 거리 이상이다.
+ * 이 성질만 있으면 비교 기반 힙 (O(log n)) 대신 비트 단위 버킷으로 분할 상환 O(log C)에 꺼낼 수 있다.
+ *
+ * 구조: 버킷 65개. 키 k는 마지막으로 꺼낸 키 last와 처음 다른 비트 위치로 버킷이 정해진다.
+ * - bucket(k) = k == last ? 0 : 64 - numberOfLeadingZeros(k ^ last)
+ * - 0번 버킷에는 키가 last인 쌍만 있다 → 바로 꺼낸다
+ * - 0번이 비면 첫 번째로 비어 있지 않은 버킷 i에서 최소 키를 새 last로 정하고
+ *   그 버킷을 다시 나눠 담는다. 다시 담긴 쌍은 항상 i보다 아래 버킷으로 간다
+ *   → 원소 하나가 옮겨지는 횟수는 최대 64번
+ *
+ * 제약 (어기면 IllegalArgumentException):
+ * - 키는 0 이상
+ * - 키는 마지막으로 꺼낸 키 이상 (PriorityQueue는 이런 제약이 없다)
+ *
+ * int 키도 그대로 넣으면 된다 (int 범위 키는 아래 32개 버킷만 쓴다).
+ */
+public class RadixHeap {
+
+    private static final int BUCKETS = 65;
+    private static final int INITIAL_BUCKET_CAPACITY = 4;
+
+    private final long[][] keys = new long[BUCKETS][];
+    private final int[][] values = new int[BUCKETS][];
+    private final int[] sizes = new int[BUCKETS];
+    private long last;
+    private int size;
+
+    public RadixHeap() {
+        for (int i = 0; i < BUCKETS; i++) {
+            keys[i] = new long[INITIAL_BUCKET_CAPACITY];
+            values[i] = new int[INITIAL_BUCKET_CAPACITY];
+        }
+    }
+
+    /** 키가 음수이거나 마지막으로 꺼낸 키보다 작으면 IllegalArgumentException */
+    public void add(long key, int value) {
+        if (key < last) {
+            throw new IllegalArgumentException("key " + key + " is less than last polled key " + last);
+        }
+        push(bucket(key), key, value);
+        size++;
+    }
+
+    public long peekKey() {
+        pullDown();
+        return last;
+    }
+
+    public int peekValue() {
+        pullDown();
+        return values[0][sizes[0] - 1];
+    }
+
+    /** 키가 가장 작은 쌍을 꺼내고 값을 반환한다. 키가 필요하면 먼저 peekKey */
+    public int poll() {
+        pullDown();
+        size--;
+        return values[0][--sizes[0]];
+    }
+
+    /** 마지막으로 꺼낸 (꺼낼) 키. 이보다 작은 키는 넣을 수 없다 */
+    public long lastKey() {
+        return last;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** 비우고 키 하한도 0으로 되돌린다 */
+    public void clear() {
+        Arrays.fill(sizes, 0);
+        size = 0;
+        last = 0;
+    }
+
+    private int bucket(long key) {
+        return key == last ? 0 : 64 - Long.numberOfLeadingZeros(key ^ last);
+    }
+
+    private void push(int bucket, long key, int value) {
+        int n = sizes[bucket];
+        if (n == keys[bucket].length) {
+            keys[bucket] = Arrays.copyOf(keys[bucket], n << 1);
+            values[bucket] = Arrays.copyOf(values[bucket], n << 1);
+        }
+        keys[bucket][n] = key;
+        values[bucket][n] = value;
+        sizes[bucket] = n + 1;
+    }
+
+    // 0번 버킷이 비어 있으면 최소 키가 든 버킷을 찾아 last를 올리고 다시 나눠 담는다
+    private void pullDown() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        if (sizes[0] > 0) {
+            return;
+        }
+        int i = 1;
+        while (sizes[i] == 0) {
+            i++;
+        }
+        long[] bucketKeys = keys[i];
+        int[] bucketValues = values[i];
+        int n = sizes[i];
+        long min = bucketKeys[0];
+        for (int j = 1; j < n; j++) {
+            min = Math.min(min, bucketKeys[j]);
+        }
+        last = min;
+        sizes[i] = 0;
+        for (int j = 0; j < n; j++) {
+            push(bucket(bucketKeys[j]), bucketKeys[j], bucketValues[j]); // 항상 i보다 아래 버킷
+        }
+    }
+}
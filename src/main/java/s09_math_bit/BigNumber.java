@@ -0,0 +1,339 @@
+package s09_math_bit;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 10^9 진법 int 자리(limb)로 저장하는 큰 정수 (10진 입출력 전용)
+ *
+ * BigInteger의 10진 입출력 비용:
+ * - new BigInteger(String): 9자리씩 읽을 때마다 지금까지의 값 전체에 10^9를 곱한다 → 자릿수의 제곱
+ * - toString(): 2진수를 10진수로 바꾸려면 큰 나눗셈이 필요하다
+ * 10^5 ~ 10^6자리 수를 읽고 그대로 (또는 조금 고쳐) 출력하는 문제에서는 이 변환이 병목이다.
+ *
+ * BigNumber는 10진 9자리를 int 하나(0 ~ 999,999,999)에 담는다.
+ * - parse: 9자리씩 잘라 바로 자리 값이 된다 → 선형 시간
+ * - toString: 자리마다 9자리씩 (맨 위 자리만 앞쪽 0 없이) 쓴다 → 선형 시간
+ * - toBigInteger / of(BigInteger): 반씩 나눠 곱하기/나누기 (분할 정복) → BigInteger의 빠른 곱셈, 나눗셈을 그대로 활용
+ *
+ * multiply는 10^9 진법 자리 배열을 직접 곱한다 (LimbMultiplier: 학교 곱셈 / 카라츠바 / NTT)
+ *
+ * 형식 규칙은 new BigInteger(String)과 같다: 앞쪽 부호(+, -) 하나, 그 뒤 숫자만 (공백 불가)
+ * CharSequence를 받으므로 LineReader의 ByteSlice도 String 없이 바로 파싱된다.
+ *
+ * 불변 객체이다.
+ */
+public final class BigNumber implements Comparable<BigNumber> {
+
+    static final int BASE = 1_000_000_000;
+    static final int BASE_DIGITS = 9;
+
+    public static final BigNumber ZERO = new BigNumber(0, new int[0]);
+
+    private static final BigInteger BIG_BASE = BigInteger.valueOf(BASE);
+
+    private final int signum;
+    private final int[] limbs; // 아래 자리부터, 맨 위 자리는 0이 아니다 (0이면 빈 배열)
+
+    BigNumber(int signum, int[] limbs) {
+        this.signum = signum;
+        this.limbs = limbs;
+    }
+
+    public static BigNumber parse(CharSequence s) {
+        return parse(s, 0, s.length());
+    }
+
+    public static BigNumber parse(CharSequence s, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, s.length());
+        int i = offset;
+        int end = offset + length;
+        int signum = 1;
+        if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+            signum = s.charAt(i++) == '-' ? -1 : 1;
+        }
+        if (i == end) {
+            throw invalid(s, offset, length);
+        }
+        while (i < end - 1 && s.charAt(i) == '0') { // 앞쪽 0 (마지막 한 자리는 남긴다)
+            i++;
+        }
+        int digits = end - i;
+        int[] limbs = new int[(digits + BASE_DIGITS - 1) / BASE_DIGITS];
+        // 맨 위 자리는 digits % 9자리, 나머지는 9자리씩
+        int chunk = digits - (limbs.length - 1) * BASE_DIGITS;
+        for (int k = limbs.length - 1; k >= 0; k--) {
+            int value = 0;
+            for (int stop = i + chunk; i < stop; i++) {
+                int digit = s.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    throw invalid(s, offset, length);
+                }
+                value = value * 10 + digit;
+            }
+            limbs[k] = value;
+            chunk = BASE_DIGITS;
+        }
+        return create(signum, limbs, limbs.length);
+    }
+
+    public static BigNumber parse(byte[] source, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, source.length);
+        return parse(new AsciiView(source, offset, length));
+    }
+
+    public static BigNumber valueOf(long value) {
+        if (value == 0) {
+            return ZERO;
+        }
+        int signum = value < 0 ? -1 : 1;
+        int[] limbs = new int[3]; // |Long.MIN_VALUE| < 10^27
+        int n = 0;
+        // 음수 쪽에서 자리를 뽑아야 MIN_VALUE도 처리된다
+        long v = value < 0 ? value : -value;
+        while (v != 0) {
+            limbs[n++] = (int) -(v % BASE);
+            v /= BASE;
+        }
+        return new BigNumber(signum, Arrays.copyOf(limbs, n));
+    }
+
+    /**
+     * BigInteger → BigNumber. 10^(9 * 2^k)로 나눠 몫과 나머지를 따로 변환한다 (분할 정복)
+     */
+    public static BigNumber of(BigInteger value) {
+        if (value.signum() == 0) {
+            return ZERO;
+        }
+        BigInteger abs = value.abs();
+        // 10^(9 * 2^(level + 1)) > abs가 되는 가장 작은 level까지의 거듭제곱
+        List<BigInteger> powers = new ArrayList<>();
+        powers.add(BIG_BASE);
+        while (powers.get(powers.size() - 1).bitLength() * 2 <= abs.bitLength() + 1) {
+            BigInteger last = powers.get(powers.size() - 1);
+            powers.add(last.multiply(last));
+        }
+        int[] limbs = new int[2 << (powers.size() - 1)];
+        split(abs, limbs, 0, powers.size() - 1, powers);
+        int length = limbs.length;
+        while (length > 0 && limbs[length - 1] == 0) {
+            length--;
+        }
+        return create(value.signum(), limbs, length);
+    }
+
+    // value < 10^(9 * 2^(level + 1))를 limbs[offset, offset + 2^(level + 1))에 채운다
+    private static void split(BigInteger value, int[] limbs, int offset, int level, List<BigInteger> powers) {
+        if (level == 0) { // 2자리: long으로 충분 (< 10^18)
+            long v = value.longValue();
+            limbs[offset] = (int) (v % BASE);
+            limbs[offset + 1] = (int) (v / BASE);
+            return;
+        }
+        if (value.signum() == 0) {
+            return;
+        }
+        BigInteger[] qr = value.divideAndRemainder(powers.get(level));
+        split(qr[1], limbs, offset, level - 1, powers);
+        split(qr[0], limbs, offset + (1 << level), level - 1, powers);
+    }
+
+    /**
+     * BigNumber → BigInteger. 아래 절반 2^k자리와 위쪽을 따로 만들어 high * 10^(9 * 2^k) + low (분할 정복)
+     */
+    public BigInteger toBigInteger() {
+        if (signum == 0) {
+            return BigInteger.ZERO;
+        }
+        List<BigInteger> powers = new ArrayList<>();
+        powers.add(BIG_BASE);
+        while ((1 << powers.size()) < limbs.length) {
+            BigInteger last = powers.get(powers.size() - 1);
+            powers.add(last.multiply(last));
+        }
+        BigInteger abs = combine(0, limbs.length, powers);
+        return signum < 0 ? abs.negate() : abs;
+    }
+
+    private BigInteger combine(int from, int to, List<BigInteger> powers) {
+        int n = to - from;
+        if (n <= 2) {
+            long v = limbs[from];
+            if (n == 2) {
+                v += (long) limbs[from + 1] * BASE;
+            }
+            return BigInteger.valueOf(v);
+        }
+        int level = 31 - Integer.numberOfLeadingZeros(n - 1); // 2^level < n인 가장 큰 level
+        int mid = from + (1 << level);
+        BigInteger low = combine(from, mid, powers);
+        BigInteger high = combine(mid, to, powers);
+        return high.multiply(powers.get(level)).add(low);
+    }
+
+    /**
+     * 곱셈. 크기에 따라 학교 곱셈 / 카라츠바 / NTT (LimbMultiplier)
+     */
+    public BigNumber multiply(BigNumber other) {
+        if (signum == 0 || other.signum == 0) {
+            return ZERO;
+        }
+        int[] product = LimbMultiplier.multiply(limbs, other.limbs);
+        return create(signum * other.signum, product, product.length);
+    }
+
+    public int signum() {
+        return signum;
+    }
+
+    /**
+     * 10진 자릿수 (부호 제외, 0은 1자리)
+     */
+    public int digitCount() {
+        if (signum == 0) {
+            return 1;
+        }
+        return (limbs.length - 1) * BASE_DIGITS + digitCount(limbs[limbs.length - 1]);
+    }
+
+    public BigNumber negate() {
+        return new BigNumber(-signum, limbs);
+    }
+
+    public BigNumber abs() {
+        return signum < 0 ? negate() : this;
+    }
+
+    @Override
+    public int compareTo(BigNumber other) {
+        if (signum != other.signum) {
+            return Integer.compare(signum, other.signum);
+        }
+        int magnitude = compareMagnitude(limbs, other.limbs);
+        return signum < 0 ? -magnitude : magnitude;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof BigNumber)) {
+            return false;
+        }
+        BigNumber other = (BigNumber) o;
+        return signum == other.signum && Arrays.equals(limbs, other.limbs);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * signum + Arrays.hashCode(limbs);
+    }
+
+    /**
+     * new BigInteger(s).toString()과 같은 문자열. 자리마다 9자리씩 바로 쓴다 (선형 시간)
+     */
+    @Override
+    public String toString() {
+        if (signum == 0) {
+            return "0";
+        }
+        int top = limbs[limbs.length - 1];
+        int topDigits = digitCount(top);
+        int sign = signum < 0 ? 1 : 0;
+        byte[] out = new byte[sign + topDigits + (limbs.length - 1) * BASE_DIGITS];
+        if (sign == 1) {
+            out[0] = '-';
+        }
+        writeDigits(top, out, sign, topDigits);
+        int pos = sign + topDigits;
+        for (int k = limbs.length - 2; k >= 0; k--) {
+            writeDigits(limbs[k], out, pos, BASE_DIGITS);
+            pos += BASE_DIGITS;
+        }
+        return new String(out, StandardCharsets.ISO_8859_1);
+    }
+
+    int[] limbs() {
+        return limbs;
+    }
+
+    // 맨 위 0 자리를 잘라 낸 BigNumber (크기가 0이면 ZERO)
+    static BigNumber create(int signum, int[] limbs, int length) {
+        while (length > 0 && limbs[length - 1] == 0) {
+            length--;
+        }
+        if (length == 0) {
+            return ZERO;
+        }
+        return new BigNumber(signum, length == limbs.length ? limbs : Arrays.copyOf(limbs, length));
+    }
+
+    static int compareMagnitude(int[] a, int[] b) {
+        if (a.length != b.length) {
+            return Integer.compare(a.length, b.length);
+        }
+        for (int i = a.length - 1; i >= 0; i--) {
+            if (a[i] != b[i]) {
+                return Integer.compare(a[i], b[i]);
+            }
+        }
+        return 0;
+    }
+
+    // value를 out[pos, pos + width)에 앞을 0으로 채워 쓴다
+    private static void writeDigits(int value, byte[] out, int pos, int width) {
+        for (int i = pos + width - 1; i >= pos; i--) {
+            out[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static int digitCount(int value) {
+        int count = 1;
+        while (value >= 10) {
+            value /= 10;
+            count++;
+        }
+        return count;
+    }
+
+    private static NumberFormatException invalid(CharSequence s, int offset, int length) {
+        return new NumberFormatException("For input string: \"" + s.subSequence(offset, offset + length) + "\"");
+    }
+
+    // byte[] 범위를 복사 없이 CharSequence로 본다 (ASCII 한 바이트 = 한 글자)
+    private static final class AsciiView implements CharSequence {
+
+        private final byte[] source;
+        private final int offset;
+        private final int length;
+
+        AsciiView(byte[] source, int offset, int length) {
+            this.source = source;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (source[offset + index] & 0xff);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(source, offset + start, end - start, StandardCharsets.ISO_8859_1);
+        }
+
+        @Override
+        public String toString() {
+            return new String(source, offset, length, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
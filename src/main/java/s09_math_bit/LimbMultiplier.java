@@ -0,0 +1,315 @@
+package s09_math_bit;
+
+import java.util.Arrays;
+
+/**
+ * 10^9 진법 자리 배열(아래 자리부터)의 곱셈. 크기에 따라 알고리즘을 고른다.
+ *
+ * - 학교 곱셈 O(n * m): 짧은 쪽이 KARATSUBA_THRESHOLD자리 미만
+ * - 카라츠바 O(n^1.585): 곱셈 4번을 3번으로 (a1*b1, a0*b0, (a0+a1)*(b0+b1))
+ * - NTT O(n log n): 짧은 쪽이 NTT_THRESHOLD자리 이상. 자리를 10^3 진법으로 쪼개 합성곱
+ *
+ * NTT는 두 소수 998244353 (119 * 2^23 + 1), 167772161 (5 * 2^25 + 1)로 각각 합성곱한 뒤
+ * 중국인의 나머지 정리로 합친다. 10^3 진법 계수의 합성곱 값은 (자릿수) * 999^2이므로
+ * 두 소수의 곱 (약 1.67 * 10^17) 안에 들어간다. 변환 길이는 2^23까지 (약 2,500만 자리 곱)
+ *
+ * 결과 배열은 길이가 a.length + b.length이고 맨 위 자리가 0일 수 있다 (BigNumber.create가 자른다).
+ * 임계값은 LimbMultiplierBenchmark의 교차점에서 정했다.
+ */
+final class LimbMultiplier {
+
+    static final int KARATSUBA_THRESHOLD = 40;
+    static final int NTT_THRESHOLD = 3000;
+
+    private static final long BASE = BigNumber.BASE;
+
+    private static final long MOD1 = 998_244_353;
+    private static final long MOD2 = 167_772_161;
+    private static final long ROOT = 3; // 두 소수 모두의 원시근
+    private static final int MAX_NTT_SIZE = 1 << 23;
+
+    private static final int SMALL_BASE = 1000;
+    private static final int SMALL_PER_LIMB = 3;
+
+    private LimbMultiplier() {}
+
+    static int[] multiply(int[] a, int[] b) {
+        if (a.length < b.length) {
+            int[] t = a;
+            a = b;
+            b = t;
+        }
+        if (b.length < KARATSUBA_THRESHOLD) {
+            return schoolbook(a, b);
+        }
+        if (b.length >= NTT_THRESHOLD && nttSize(a, b) <= MAX_NTT_SIZE) {
+            return ntt(a, b);
+        }
+        return karatsuba(a, b);
+    }
+
+    static int[] schoolbook(int[] a, int[] b) {
+        int[] result = new int[a.length + b.length];
+        for (int i = 0; i < a.length; i++) {
+            long ai = a[i];
+            if (ai == 0) {
+                continue;
+            }
+            long carry = 0;
+            for (int j = 0; j < b.length; j++) {
+                long cur = result[i + j] + ai * b[j] + carry; // < 10^18 + 2 * 10^9
+                result[i + j] = (int) (cur % BASE);
+                carry = cur / BASE;
+            }
+            for (int k = i + b.length; carry != 0; k++) {
+                long cur = result[k] + carry;
+                result[k] = (int) (cur % BASE);
+                carry = cur / BASE;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 긴 쪽을 짧은 쪽 길이로 잘라 같은 길이끼리 카라츠바로 곱하고 자리를 맞춰 더한다
+     */
+    static int[] karatsuba(int[] a, int[] b) {
+        if (a.length < b.length) {
+            int[] t = a;
+            a = b;
+            b = t;
+        }
+        int[] result = new int[a.length + b.length];
+        int m = b.length;
+        for (int from = 0; from < a.length; from += m) {
+            int[] piece = Arrays.copyOfRange(a, from, from + m); // 마지막 조각은 0으로 채워진다
+            int[] product = karatsubaEqual(piece, b);
+            addAt(result, product, from);
+        }
+        return result;
+    }
+
+    // a.length == b.length
+    private static int[] karatsubaEqual(int[] a, int[] b) {
+        int n = a.length;
+        if (n < KARATSUBA_THRESHOLD) {
+            return schoolbook(a, b);
+        }
+        int half = n / 2;
+        int[] a0 = Arrays.copyOfRange(a, 0, half);
+        int[] a1 = Arrays.copyOfRange(a, half, n);
+        int[] b0 = Arrays.copyOfRange(b, 0, half);
+        int[] b1 = Arrays.copyOfRange(b, half, n);
+
+        int[] z0 = karatsubaEqual(a0, b0);
+        int[] z2 = karatsubaEqual(a1, b1);
+        int[] z1 = karatsubaEqual(sum(a0, a1), sum(b0, b1)); // 둘 다 n - half + 1자리
+        subtract(z1, z0);
+        subtract(z1, z2); // z1 = a0 * b1 + a1 * b0 ≥ 0
+
+        int[] result = new int[2 * n];
+        addAt(result, z0, 0);
+        addAt(result, z1, half);
+        addAt(result, z2, 2 * half);
+        return result;
+    }
+
+    /**
+     * 두 소수로 각각 합성곱 → CRT로 합치고 10^3 진법 올림 → 10^9 진법 자리로 묶는다
+     */
+    static int[] ntt(int[] a, int[] b) {
+        int size = nttSize(a, b);
+        if (size > MAX_NTT_SIZE) {
+            throw new IllegalArgumentException("product too large for NTT: " + size);
+        }
+        int[] small1 = toSmallDigits(a, size);
+        int[] small2 = toSmallDigits(b, size);
+        int[] r1 = convolve(small1.clone(), small2.clone(), (int) MOD1);
+        int[] r2 = convolve(small1, small2, (int) MOD2);
+
+        long inverse = modPow(MOD1 % MOD2, MOD2 - 2, MOD2); // MOD1^-1 (mod MOD2)
+        int[] result = new int[a.length + b.length];
+        int digits = result.length * SMALL_PER_LIMB;
+        long carry = 0;
+        for (int i = 0; i < digits; i++) {
+            long x = carry;
+            if (i < size) {
+                // x ≡ r1 (mod MOD1), x ≡ r2 (mod MOD2), 0 ≤ x < MOD1 * MOD2
+                long t = (r2[i] - r1[i] % MOD2 + MOD2) % MOD2 * inverse % MOD2;
+                x += r1[i] + MOD1 * t;
+            }
+            int digit = (int) (x % SMALL_BASE);
+            carry = x / SMALL_BASE;
+            int shift = i % SMALL_PER_LIMB;
+            result[i / SMALL_PER_LIMB] += digit * (shift == 0 ? 1 : shift == 1 ? SMALL_BASE : SMALL_BASE * SMALL_BASE);
+        }
+        return result;
+    }
+
+    private static int nttSize(int[] a, int[] b) {
+        int need = (a.length + b.length) * SMALL_PER_LIMB;
+        return need > MAX_NTT_SIZE ? need : Integer.highestOneBit(need - 1) << 1;
+    }
+
+    // 10^9 진법 자리 하나를 10^3 진법 세 자리로
+    private static int[] toSmallDigits(int[] limbs, int size) {
+        int[] digits = new int[size];
+        for (int i = 0; i < limbs.length; i++) {
+            int v = limbs[i];
+            digits[3 * i] = v % SMALL_BASE;
+            digits[3 * i + 1] = v / SMALL_BASE % SMALL_BASE;
+            digits[3 * i + 2] = v / (SMALL_BASE * SMALL_BASE);
+        }
+        return digits;
+    }
+
+    /**
+     * x * y (mod mod)의 순환 합성곱. 나머지 연산은 몽고메리 곱셈 (R = 2^32)으로 한다:
+     * long 나눗셈 대신 곱셈과 시프트만 쓰므로 a * b % mod보다 몇 배 빠르다
+     */
+    private static int[] convolve(int[] x, int[] y, int mod) {
+        Montgomery m = new Montgomery(mod);
+        int[] roots = m.roots(x.length);
+        transform(x, roots, m);
+        transform(y, roots, m);
+        for (int i = 0; i < x.length; i++) {
+            x[i] = m.multiply(x[i], y[i]); // x * y * R^-1
+        }
+        // 역변환 = 정변환 후 x[1..n-1] 뒤집기, 그리고 n^-1 곱하기 (위에서 생긴 R^-1도 여기서 상쇄)
+        transform(x, roots, m);
+        for (int i = 1, j = x.length - 1; i < j; i++, j--) {
+            int t = x[i];
+            x[i] = x[j];
+            x[j] = t;
+        }
+        long r = (1L << 32) % mod;
+        long nInverse = modPow(x.length, mod - 2, mod);
+        int scale = (int) (nInverse * r % mod * r % mod); // 몽고메리 형태의 n^-1 * R
+        for (int i = 0; i < x.length; i++) {
+            x[i] = m.multiply(x[i], scale);
+        }
+        return x;
+    }
+
+    // 반복형 Cooley-Tukey (비트 반전 순서로 재배치 후 길이 2, 4, 8, ... 나비 연산)
+    // roots[half + k] = 길이 2 * half 단계의 k번째 회전 인자 (몽고메리 형태)
+    private static void transform(int[] x, int[] roots, Montgomery m) {
+        int n = x.length;
+        int mod = m.mod;
+        for (int i = 1, j = 0; i < n; i++) {
+            int bit = n >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+            if (i < j) {
+                int t = x[i];
+                x[i] = x[j];
+                x[j] = t;
+            }
+        }
+        for (int half = 1; half < n; half <<= 1) {
+            for (int start = 0; start < n; start += half << 1) {
+                for (int k = 0; k < half; k++) {
+                    int u = x[start + k];
+                    int v = m.multiply(x[start + k + half], roots[half + k]);
+                    int sum = u + v;
+                    int diff = u - v;
+                    x[start + k] = sum >= mod ? sum - mod : sum;
+                    x[start + k + half] = diff < 0 ? diff + mod : diff;
+                }
+            }
+        }
+    }
+
+    private static long modPow(long base, long exponent, long mod) {
+        long result = 1;
+        base %= mod;
+        while (exponent > 0) {
+            if ((exponent & 1) != 0) {
+                result = result * base % mod;
+            }
+            base = base * base % mod;
+            exponent >>= 1;
+        }
+        return result;
+    }
+
+    // 2^30 미만 홀수 소수에 대한 몽고메리 곱셈 (R = 2^32)
+    private static final class Montgomery {
+
+        final int mod;
+        private final int negativeInverse; // -mod^-1 (mod 2^32)
+
+        Montgomery(int mod) {
+            this.mod = mod;
+            int inverse = mod; // 뉴턴 반복: 맞는 비트 수가 3 → 6 → 12 → 24 → 48
+            for (int i = 0; i < 4; i++) {
+                inverse *= 2 - mod * inverse;
+            }
+            this.negativeInverse = -inverse;
+        }
+
+        // a * b * R^-1 (mod mod), a, b < mod
+        int multiply(int a, int b) {
+            long t = (long) a * b; // < 2^60
+            long q = (((int) t) * negativeInverse) & 0xffffffffL;
+            int u = (int) ((t + q * mod) >>> 32); // < 2 * mod
+            return u >= mod ? u - mod : u;
+        }
+
+        // 길이 n 변환의 회전 인자 표 (몽고메리 형태)
+        int[] roots(int n) {
+            int[] roots = new int[Math.max(2, n)];
+            long r = (1L << 32) % mod;
+            for (int half = 1; half < n; half <<= 1) {
+                long w = modPow(ROOT, (mod - 1) / (2L * half), mod);
+                int wMont = (int) (w * r % mod);
+                roots[half] = (int) r; // 1의 몽고메리 형태
+                for (int k = 1; k < half; k++) {
+                    roots[half + k] = multiply(roots[half + k - 1], wMont);
+                }
+            }
+            return roots;
+        }
+    }
+
+    // 길이가 다를 수 있는 두 수의 합 (max 길이 + 1자리)
+    private static int[] sum(int[] x, int[] y) {
+        int[] result = new int[Math.max(x.length, y.length) + 1];
+        int carry = 0;
+        for (int i = 0; i < result.length - 1; i++) {
+            int s = (i < x.length ? x[i] : 0) + (i < y.length ? y[i] : 0) + carry; // < 2 * 10^9 + 1 < 2^31
+            carry = s >= BASE ? 1 : 0;
+            result[i] = carry == 0 ? s : s - (int) BASE;
+        }
+        result[result.length - 1] = carry;
+        return result;
+    }
+
+    // x -= y (x ≥ y)
+    private static void subtract(int[] x, int[] y) {
+        int borrow = 0;
+        for (int i = 0; i < x.length && (i < y.length || borrow != 0); i++) {
+            int d = x[i] - (i < y.length ? y[i] : 0) - borrow;
+            borrow = d < 0 ? 1 : 0;
+            x[i] = borrow == 0 ? d : d + (int) BASE;
+        }
+    }
+
+    // result[offset..] += x. result 범위를 넘는 x의 자리는 0이어야 한다 (곱의 크기 상한으로 보장)
+    private static void addAt(int[] result, int[] x, int offset) {
+        int carry = 0;
+        int i = 0;
+        for (; i < x.length && offset + i < result.length; i++) {
+            int s = result[offset + i] + x[i] + carry;
+            carry = s >= BASE ? 1 : 0;
+            result[offset + i] = carry == 0 ? s : s - (int) BASE;
+        }
+        for (int k = offset + i; carry != 0 && k < result.length; k++) {
+            int s = result[k] + carry;
+            carry = s >= BASE ? 1 : 0;
+            result[k] = carry == 0 ? s : s - (int) BASE;
+        }
+    }
+}
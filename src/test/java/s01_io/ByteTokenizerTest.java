@@ -0,0 +1,259 @@
+package s01_io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.StringTokenizer;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ByteTokenizer 학습 테스트
+ *
+ * StringTokenizerTest와 같은 규칙으로 동작하는지 확인한다.
+ * 차이점: 토큰은 재사용되는 ByteSlice, 숫자는 String 없이 바로 변환
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class ByteTokenizerTest {
+
+    private List<String> tokens(ByteTokenizer st) {
+        List<String> result = new ArrayList<>();
+        while (st.hasMoreTokens()) {
+            result.add(st.nextToken().toString());
+        }
+        return result;
+    }
+
+    @Nested
+    class 기본_사용법 {
+
+        @Test
+        void 공백으로_토큰을_나눈다() {
+            ByteTokenizer st = new ByteTokenizer("Hello World Java");
+
+            assertThat(tokens(st)).containsExactly("Hello", "World", "Java");
+        }
+
+        @Test
+        void nextInt로_숫자를_바로_읽는다() {
+            ByteTokenizer st = new ByteTokenizer("1 -2 2147483647");
+
+            assertThat(st.nextInt()).isEqualTo(1);
+            assertThat(st.nextInt()).isEqualTo(-2);
+            assertThat(st.nextLong()).isEqualTo(2147483647L);
+        }
+
+        @Test
+        void countTokens는_남은_토큰_수() {
+            ByteTokenizer st = new ByteTokenizer("a b c");
+
+            assertThat(st.countTokens()).isEqualTo(3);
+            st.nextToken();
+            assertThat(st.countTokens()).isEqualTo(2);
+        }
+
+        @Test
+        void 토큰이_없으면_NoSuchElementException() {
+            ByteTokenizer st = new ByteTokenizer("   ");
+
+            assertThat(st.hasMoreTokens()).isFalse();
+            assertThatThrownBy(st::nextToken).isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    // StringTokenizerTest.연속_구분자_처리_핵심
+    @Nested
+    class 연속_구분자_처리_핵심 {
+
+        @Test
+        void 연속_공백은_하나로_취급() {
+            assertThat(tokens(new ByteTokenizer("a   b    c"))).containsExactly("a", "b", "c");
+        }
+
+        @Test
+        void 앞뒤_공백도_무시() {
+            assertThat(tokens(new ByteTokenizer("   a b c   "))).containsExactly("a", "b", "c");
+        }
+
+        @Test
+        void 탭_개행_섞여도_StringTokenizer와_같다() {
+            String input = " a\t\tb\r\n c\f d ";
+            StringTokenizer expected = new StringTokenizer(input);
+            List<String> expectedTokens = new ArrayList<>();
+            while (expected.hasMoreTokens()) {
+                expectedTokens.add(expected.nextToken());
+            }
+
+            assertThat(tokens(new ByteTokenizer(input))).isEqualTo(expectedTokens);
+        }
+    }
+
+    // StringTokenizerTest.커스텀_구분자
+    @Nested
+    class 커스텀_구분자 {
+
+        @Test
+        void 쉼표를_구분자로_사용() {
+            ByteTokenizer st = new ByteTokenizer("a,b,c", ",");
+
+            assertThat(st.countTokens()).isEqualTo(3);
+            assertThat(tokens(st)).containsExactly("a", "b", "c");
+        }
+
+        @Test
+        void 구분자는_문자열이_아니라_문자들의_집합이다() {
+            ByteTokenizer st = new ByteTokenizer("xaybz", "ab");
+
+            assertThat(tokens(st)).containsExactly("x", "y", "z");
+        }
+
+        @Test
+        void 커스텀_구분자에도_연속_구분자_무시_적용() {
+            ByteTokenizer st = new ByteTokenizer("a,,b,,,c", ",");
+
+            assertThat(st.countTokens()).isEqualTo(3);
+        }
+
+        @Test
+        void 커스텀_구분자를_주면_공백은_토큰의_일부() {
+            // StringTokenizer와 같다: 기본 구분자가 더해지지 않는다
+            assertThat(tokens(new ByteTokenizer("a b,c", ","))).containsExactly("a b", "c");
+        }
+
+        @Test
+        void 괄호_쉼표_입력에서_숫자만_꺼낸다() {
+            ByteTokenizer st = new ByteTokenizer("[[1,2],[3,-4]]", "[],");
+
+            int sum = 0;
+            while (st.hasMoreTokens()) {
+                sum += st.nextInt();
+            }
+
+            assertThat(sum).isEqualTo(2);
+        }
+
+        @Test
+        void ASCII가_아닌_구분자는_받지_않는다() {
+            assertThatThrownBy(() -> new ByteTokenizer("가,나", "，")).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    // StringTokenizerTest.구분자를_토큰으로_포함
+    @Nested
+    class 구분자를_토큰으로_포함 {
+
+        @Test
+        void returnDelims가_true면_구분자도_토큰으로_반환() {
+            ByteTokenizer st = new ByteTokenizer("aaa+bb-c", "+-", true);
+
+            assertThat(st.countTokens()).isEqualTo(5);
+            assertThat(tokens(st)).containsExactly("aaa", "+", "bb", "-", "c");
+        }
+
+        @Test
+        void 수식_파싱에_활용() {
+            ByteTokenizer st = new ByteTokenizer("10+20*30", "+*", true);
+
+            assertThat(st.nextInt()).isEqualTo(10);
+            assertThat(st.nextToken().charAt(0)).isEqualTo('+');
+            assertThat(st.nextInt()).isEqualTo(20);
+            assertThat(st.nextToken().charAt(0)).isEqualTo('*');
+            assertThat(st.nextInt()).isEqualTo(30);
+        }
+
+        @Test
+        void returnDelims에서도_연속_구분자는_각각_반환() {
+            ByteTokenizer st = new ByteTokenizer("a++b", "+", true);
+
+            assertThat(tokens(st)).containsExactly("a", "+", "+", "b");
+        }
+
+        @Test
+        void 결과는_StringTokenizer와_같다() {
+            String[] inputs = {"(1+2)*3", "+a+", "", "++", "12:34:56", "[1,[2,3]]"};
+            String delim = "()+*:[],";
+
+            for (String input : inputs) {
+                for (boolean returnDelims : new boolean[] {false, true}) {
+                    StringTokenizer expected = new StringTokenizer(input, delim, returnDelims);
+                    ByteTokenizer actual = new ByteTokenizer(input, delim, returnDelims);
+                    assertThat(actual.countTokens()).isEqualTo(expected.countTokens());
+                    List<String> expectedTokens = new ArrayList<>();
+                    while (expected.hasMoreTokens()) {
+                        expectedTokens.add(expected.nextToken());
+                    }
+                    assertThat(tokens(actual)).isEqualTo(expectedTokens);
+                }
+            }
+        }
+
+        @Test
+        void reset으로_같은_구분자_표를_재사용한다() {
+            ByteTokenizer st = new ByteTokenizer("-", true);
+
+            st.reset("3-1");
+            assertThat(tokens(st)).containsExactly("3", "-", "1");
+            st.reset("-5");
+            assertThat(tokens(st)).containsExactly("-", "5");
+        }
+    }
+
+    @Nested
+    class 재사용 {
+
+        @Test
+        void reset으로_같은_객체를_여러_줄에_쓴다() {
+            ByteTokenizer st = new ByteTokenizer();
+
+            st.reset("1 2");
+            int a = st.nextInt() + st.nextInt();
+            st.reset("10 20");
+            int b = st.nextInt() + st.nextInt();
+
+            assertThat(a).isEqualTo(3);
+            assertThat(b).isEqualTo(30);
+        }
+
+        @Test
+        void byte_구간만_토큰화한다() {
+            byte[] buffer = "xx 7 8 yy".getBytes(StandardCharsets.US_ASCII);
+            ByteTokenizer st = new ByteTokenizer().reset(buffer, 3, 3); // "7 8"
+
+            assertThat(tokens(st)).containsExactly("7", "8");
+        }
+
+        @Test
+        void ByteSlice를_넘기면_복사하지_않는다() {
+            byte[] buffer = "5 6".getBytes(StandardCharsets.US_ASCII);
+            ByteTokenizer st = new ByteTokenizer(new ByteSlice(buffer, 0, buffer.length));
+
+            buffer[0] = '9'; // 원본을 바꾸면 토큰도 바뀐다 = 같은 배열을 본다
+
+            assertThat(st.nextInt()).isEqualTo(9);
+        }
+    }
+
+    // StringTokenizerTest.PS_실전_패턴
+    @Nested
+    class PS_실전_패턴 {
+
+        @Test
+        void 그래프_간선_입력_패턴() {
+            ByteTokenizer st = new ByteTokenizer("1 2 10");
+
+            int from = st.nextInt();
+            int to = st.nextInt();
+            int weight = st.nextInt();
+
+            assertThat(from).isEqualTo(1);
+            assertThat(to).isEqualTo(2);
+            assertThat(weight).isEqualTo(10);
+        }
+    }
+}
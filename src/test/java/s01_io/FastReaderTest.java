@@ -0,0 +1,597 @@
+package s01_io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * FastReader 학습 테스트
+ *
+ * BufferedReader + StringTokenizer 패턴과 같은 규칙으로 동작하는지 확인한다.
+ * - 연속 구분자 무시 (StringTokenizerTest.연속_구분자_처리_핵심)
+ * - LF, CRLF, CR 개행 처리 (BufferedReaderTest.개행_문자_처리)
+ *
+ * 차이점:
+ * - 줄/토큰마다 String을 만들지 않고 byte[] 버퍼에서 바로 숫자를 만든다
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class FastReaderTest {
+
+    // ========================================
+    // 테스트용 헬퍼 메서드: 문자열을 입력처럼 읽기
+    // ========================================
+    private FastReader createReader(String input) {
+        return new FastReader(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // 버퍼가 작으면 토큰이 버퍼 경계에 걸친다
+    private FastReader createReader(String input, int bufferSize) {
+        return new FastReader(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), bufferSize);
+    }
+
+    @Nested
+    class 기본_사용법 {
+
+        @Test
+        void nextInt로_정수를_하나씩_읽는다() throws IOException {
+            FastReader in = createReader("10 20 30");
+
+            assertThat(in.nextInt()).isEqualTo(10);
+            assertThat(in.nextInt()).isEqualTo(20);
+            assertThat(in.nextInt()).isEqualTo(30);
+        }
+
+        @Test
+        void next로_문자열_토큰을_읽는다() throws IOException {
+            FastReader in = createReader("apple banana cherry");
+
+            assertThat(in.next()).isEqualTo("apple");
+            assertThat(in.next()).isEqualTo("banana");
+            assertThat(in.next()).isEqualTo("cherry");
+        }
+
+        @Test
+        void hasNext로_남은_토큰_여부를_확인한다() throws IOException {
+            FastReader in = createReader("a b  ");
+
+            assertThat(in.hasNext()).isTrue();
+            in.next();
+            assertThat(in.hasNext()).isTrue();
+            in.next();
+            assertThat(in.hasNext()).isFalse(); // 뒤쪽 공백만 남음
+        }
+
+        @Test
+        void 토큰이_없는데_읽으면_예외() throws IOException {
+            FastReader in = createReader("only");
+            in.next();
+
+            assertThatThrownBy(in::next).isInstanceOf(NoSuchElementException.class);
+            assertThatThrownBy(in::nextInt).isInstanceOf(NoSuchElementException.class);
+        }
+
+        @Test
+        void 한글_토큰도_UTF_8로_읽는다() throws IOException {
+            FastReader in = createReader("가나 다");
+
+            assertThat(in.next()).isEqualTo("가나");
+            assertThat(in.next()).isEqualTo("다");
+        }
+    }
+
+    // StringTokenizer 기본 구분자와 동일
+    @Nested
+    class 기본_구분자 {
+
+        @Test
+        void 공백_탭_개행_혼합도_처리한다() throws IOException {
+            FastReader in = createReader("a \t\n b");
+
+            assertThat(in.next()).isEqualTo("a");
+            assertThat(in.next()).isEqualTo("b");
+            assertThat(in.hasNext()).isFalse();
+        }
+
+        @Test
+        void 폼피드와_캐리지리턴도_구분자이다() throws IOException {
+            FastReader in = createReader("1\f2\r3");
+
+            assertThat(in.nextInt()).isEqualTo(1);
+            assertThat(in.nextInt()).isEqualTo(2);
+            assertThat(in.nextInt()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    class 연속_구분자_처리_핵심 {
+
+        @Test
+        void 연속_구분자를_무시한다() throws IOException {
+            FastReader in = createReader("a  b   c");
+
+            assertThat(in.next()).isEqualTo("a");
+            assertThat(in.next()).isEqualTo("b");
+            assertThat(in.next()).isEqualTo("c");
+            assertThat(in.hasNext()).isFalse();
+        }
+
+        @Test
+        void 앞뒤_공백도_무시한다() throws IOException {
+            FastReader in = createReader("  hello  ");
+
+            assertThat(in.next()).isEqualTo("hello");
+            assertThat(in.hasNext()).isFalse();
+        }
+
+        @Test
+        void 공백만_있으면_토큰이_없다() throws IOException {
+            FastReader in = createReader("   ");
+
+            assertThat(in.hasNext()).isFalse();
+        }
+
+        @Test
+        void 빈_입력이면_토큰이_없다() throws IOException {
+            FastReader in = createReader("");
+
+            assertThat(in.hasNext()).isFalse();
+        }
+
+        @Test
+        void 줄이_바뀌어도_토큰은_이어서_읽는다() throws IOException {
+            // StringTokenizer와 달리 줄마다 새로 만들 필요가 없다
+            FastReader in = createReader("1 2\n\n3\n");
+
+            assertThat(in.nextInt()).isEqualTo(1);
+            assertThat(in.nextInt()).isEqualTo(2);
+            assertThat(in.nextInt()).isEqualTo(3);
+        }
+    }
+
+    // BufferedReaderTest.개행_문자_처리와 동일한 결과
+    @Nested
+    class 개행_문자_처리 {
+
+        @Test
+        void Unix_개행문자_LF를_처리한다() throws IOException {
+            FastReader in = createReader("a\nb");
+
+            assertThat(in.nextLine()).isEqualTo("a");
+            assertThat(in.nextLine()).isEqualTo("b");
+        }
+
+        @Test
+        void Windows_개행문자_CRLF를_처리한다() throws IOException {
+            FastReader in = createReader("a\r\nb");
+
+            assertThat(in.nextLine()).isEqualTo("a");
+            assertThat(in.nextLine()).isEqualTo("b");
+            assertThat(in.nextLine()).isNull(); // \r\n은 한 번의 개행
+        }
+
+        @Test
+        void 구형_Mac_개행문자_CR만_있어도_처리한다() throws IOException {
+            FastReader in = createReader("a\rb");
+
+            assertThat(in.nextLine()).isEqualTo("a");
+            assertThat(in.nextLine()).isEqualTo("b");
+        }
+
+        @Test
+        void 빈_줄도_빈_문자열로_읽힌다() throws IOException {
+            FastReader in = createReader("first\n\nthird\n");
+
+            assertThat(in.nextLine()).isEqualTo("first");
+            assertThat(in.nextLine()).isEqualTo("");
+            assertThat(in.nextLine()).isEqualTo("third");
+            assertThat(in.nextLine()).isNull();
+        }
+
+        @Test
+        void CRLF가_버퍼_경계에_걸쳐도_한_번의_개행이다() throws IOException {
+            FastReader in = createReader("a\r\nb", 2); // 버퍼: "a\r" | "\nb"
+
+            assertThat(in.nextLine()).isEqualTo("a");
+            assertThat(in.nextLine()).isEqualTo("b");
+        }
+    }
+
+    @Nested
+    class EOF_처리 {
+
+        @Test
+        void 더_이상_읽을_줄이_없으면_null을_반환한다() throws IOException {
+            FastReader in = createReader("only one line");
+
+            assertThat(in.nextLine()).isEqualTo("only one line");
+            assertThat(in.nextLine()).isNull();
+            assertThat(in.nextLine()).isNull();
+        }
+
+        @Test
+        void 개수가_주어지지_않으면_hasNext로_끝까지_읽는다() throws IOException {
+            FastReader in = createReader("1 2\n3\n");
+
+            long sum = 0;
+            while (in.hasNext()) {
+                sum += in.nextInt();
+            }
+
+            assertThat(sum).isEqualTo(6);
+        }
+    }
+
+    // ParsingTest와 같은 파싱 규칙
+    @Nested
+    class 숫자_파싱 {
+
+        @Test
+        void 부호를_처리한다() throws IOException {
+            FastReader in = createReader("-456 +789");
+
+            assertThat(in.nextInt()).isEqualTo(-456);
+            assertThat(in.nextInt()).isEqualTo(789);
+        }
+
+        @Test
+        void 앞에_0이_있어도_10진수로_파싱한다() throws IOException {
+            FastReader in = createReader("0123");
+
+            assertThat(in.nextInt()).isEqualTo(123);
+        }
+
+        @Test
+        void int_경계값을_정확히_파싱한다() throws IOException {
+            FastReader in = createReader("2147483647 -2147483648");
+
+            assertThat(in.nextInt()).isEqualTo(Integer.MAX_VALUE);
+            assertThat(in.nextInt()).isEqualTo(Integer.MIN_VALUE);
+        }
+
+        @Test
+        void int_범위를_넘으면_예외() {
+            FastReader in = createReader("2147483648");
+
+            assertThatThrownBy(in::nextInt).isInstanceOf(NumberFormatException.class);
+        }
+
+        @Test
+        void int_범위를_넘는_수는_nextLong으로_읽는다() throws IOException {
+            FastReader in = createReader("3000000000 9223372036854775807 -9223372036854775808");
+
+            assertThat(in.nextLong()).isEqualTo(3_000_000_000L);
+            assertThat(in.nextLong()).isEqualTo(Long.MAX_VALUE);
+            assertThat(in.nextLong()).isEqualTo(Long.MIN_VALUE);
+        }
+
+        @Test
+        void 숫자가_아닌_문자가_있으면_예외() {
+            assertThatThrownBy(() -> createReader("12a").nextInt()).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> createReader("-").nextInt()).isInstanceOf(NumberFormatException.class);
+        }
+
+        @Test
+        void 진법을_지정해서_읽는다() throws IOException {
+            FastReader in = createReader("1010 ff -17\n" + "1".repeat(64) + " FFFFFFFFFFFFFFFF\n");
+
+            assertThat(in.nextInt(2)).isEqualTo(10);
+            assertThat(in.nextLong(16)).isEqualTo(255L);
+            assertThat(in.nextInt(8)).isEqualTo(-15);
+            assertThat(in.nextUnsignedLong(2)).isEqualTo(-1L);
+            assertThat(in.nextUnsignedLong(16)).isEqualTo(-1L);
+        }
+
+        @Test
+        void nextDouble은_지수_표기법도_읽는다() throws IOException {
+            FastReader in = createReader("3.14 1.5e2");
+
+            assertThat(in.nextDouble()).isEqualTo(3.14);
+            assertThat(in.nextDouble()).isEqualTo(150.0);
+        }
+    }
+
+    // 수백 MB 입력 파일은 FileChannel.map으로 읽는다
+    @Nested
+    class 메모리_매핑_입력 {
+
+        @TempDir
+        Path dir;
+
+        private Path write(String content) throws IOException {
+            return Files.writeString(dir.resolve("input.txt"), content);
+        }
+
+        @Test
+        void 파일을_매핑해도_스트림과_같은_규칙으로_읽는다() throws IOException {
+            Path input = write("3\r\n10 20\n\n30\nhello world\n");
+
+            try (FastReader in = FastReader.open(input)) {
+                assertThat(in.nextInt()).isEqualTo(3);
+                assertThat(in.nextInt()).isEqualTo(10);
+                assertThat(in.nextInt()).isEqualTo(20);
+                assertThat(in.nextInt()).isEqualTo(30);
+                assertThat(in.nextLine()).isEqualTo("hello world");
+                assertThat(in.nextLine()).isNull();
+            }
+        }
+
+        @Test
+        void 매핑_구간_경계에_걸친_토큰도_읽는다() throws IOException {
+            // 구간(window)을 7바이트로 줄여서 경계를 여러 번 넘게 한다
+            Path input = write("123456789 -987654321\r\nlongtoken");
+
+            try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ);
+                    FastReader in = new FastReader(new FastReader.MappedInputStream(channel, 0, 7), 4)) {
+                assertThat(in.nextInt()).isEqualTo(123456789);
+                assertThat(in.nextInt()).isEqualTo(-987654321);
+                assertThat(in.nextLine()).isEqualTo("longtoken");
+                assertThat(in.hasNext()).isFalse();
+            }
+        }
+
+        @Test
+        void 빈_파일은_토큰이_없다() throws IOException {
+            Path input = write("");
+
+            try (FastReader in = FastReader.open(input)) {
+                assertThat(in.hasNext()).isFalse();
+                assertThat(in.nextLine()).isNull();
+            }
+        }
+
+        // stdin()은 System.in을 보므로 자식 JVM을 띄워 표준 입력을 바꿔 가며 확인한다
+        private String runStdinSum(ProcessBuilder.Redirect input, String piped)
+                throws IOException, InterruptedException {
+            String java =
+                    Path.of(System.getProperty("java.home"), "bin", "java").toString();
+            ProcessBuilder builder = new ProcessBuilder(
+                    List.of(java, "-cp", System.getProperty("java.class.path"), StdinSum.class.getName()));
+            builder.redirectInput(input);
+            builder.redirectError(ProcessBuilder.Redirect.INHERIT); // 예외 스택은 테스트 로그로
+            Process process = builder.start();
+            if (piped != null) {
+                try (OutputStream stdin = process.getOutputStream()) {
+                    stdin.write(piped.getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(process.waitFor()).isZero();
+            return output.trim();
+        }
+
+        @Test
+        void stdin이_파이프면_스트림으로_읽는다() throws Exception {
+            // printf '1 2 3\n' | java Main: 파이프는 position()이 "Illegal seek"
+            assertThat(runStdinSum(ProcessBuilder.Redirect.PIPE, "1 2 3\n")).isEqualTo("6");
+        }
+
+        @Test
+        void stdin이_파일이면_매핑해서_읽는다() throws Exception {
+            // java Main < input.txt
+            Path input = write("4 5 6\n");
+
+            assertThat(runStdinSum(ProcessBuilder.Redirect.from(input.toFile()), null))
+                    .isEqualTo("15");
+        }
+    }
+
+    // 자식 JVM에서 실행: 표준 입력의 정수를 모두 더해 출력
+    static final class StdinSum {
+
+        public static void main(String[] args) throws IOException {
+            FastReader in = FastReader.stdin();
+            long sum = 0;
+            while (in.hasNext()) {
+                sum += in.nextInt();
+            }
+            System.out.println(sum);
+        }
+    }
+
+    // StringTokenizerTest.N과_M_입력_후_2차원_배열_읽기를 줄마다 토크나이저 없이
+    @Nested
+    class 벌크_입력 {
+
+        @Test
+        void nextInts는_미리_만든_배열을_채운다() throws IOException {
+            FastReader in = createReader("5\n1 -2 3\n+4 5\n");
+
+            int[] arr = new int[in.nextInt()];
+            in.nextInts(arr);
+
+            assertThat(arr).containsExactly(1, -2, 3, 4, 5);
+        }
+
+        @Test
+        void 평탄_배열에_행_우선으로_채운다() throws IOException {
+            FastReader in = createReader("2 3\n1 2 3\n4 5 6\n");
+            int rows = in.nextInt();
+            int cols = in.nextInt();
+
+            int[] grid = new int[rows * cols];
+            in.nextInts(grid);
+
+            assertThat(grid[1 * cols + 2]).isEqualTo(6); // grid[r * cols + c]
+            assertThat(grid).containsExactly(1, 2, 3, 4, 5, 6);
+        }
+
+        @Test
+        void offset과_length로_일부만_채운다() throws IOException {
+            FastReader in = createReader("7 8");
+            int[] arr = new int[4];
+
+            in.nextInts(arr, 1, 2);
+
+            assertThat(arr).containsExactly(0, 7, 8, 0);
+        }
+
+        @Test
+        void nextMatrix는_2차원_배열로_읽는다() throws IOException {
+            FastReader in = createReader("1 2 3\r\n4 5 6\r\n");
+
+            assertThat(in.nextMatrix(2, 3)).isDeepEqualTo(new int[][] {{1, 2, 3}, {4, 5, 6}});
+        }
+
+        @Test
+        void 결과는_nextInt를_반복한_것과_같다() throws IOException {
+            // 9자리 이하는 빠른 경로, 10자리와 버퍼 경계에 걸친 토큰은 NumberParser 경로
+            String input = "0 -0 999999999 -999999999 2147483647 -2147483648 +000000000012 42";
+            int[] expected = new int[8];
+            FastReader single = createReader(input, 8);
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = single.nextInt();
+            }
+
+            assertThat(createReader(input, 8).nextInts(8)).containsExactly(expected);
+            assertThat(createReader(input).nextInts(8)).containsExactly(expected);
+        }
+
+        @Test
+        void 잘못된_토큰은_nextInt와_같은_예외() {
+            assertThatThrownBy(() -> createReader("1 2a 3").nextInts(3)).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> createReader("2147483648 0").nextInts(2))
+                    .isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> createReader("- 1").nextInts(2)).isInstanceOf(NumberFormatException.class);
+        }
+
+        @Test
+        void 토큰이_모자라면_예외() {
+            assertThatThrownBy(() -> createReader("1 2").nextInts(3)).isInstanceOf(NoSuchElementException.class);
+        }
+
+        @Test
+        void 벌크로_읽은_뒤에도_nextLine_함정이_없다() throws IOException {
+            FastReader in = createReader("1 2\n3 4\nnext line\n");
+
+            in.nextMatrix(2, 2);
+
+            assertThat(in.nextLine()).isEqualTo("next line");
+        }
+    }
+
+    // 미로, 지도 문제: "01011"처럼 칸 사이에 공백이 없는 입력
+    @Nested
+    class 숫자_격자_입력 {
+
+        @Test
+        void 한_글자가_한_칸이다() throws IOException {
+            FastReader in = createReader("3 5\n01011\n11100\n00001\n");
+            int rows = in.nextInt();
+            int cols = in.nextInt();
+
+            assertThat(in.nextDigitGrid(rows, cols))
+                    .isDeepEqualTo(new int[][] {{0, 1, 0, 1, 1}, {1, 1, 1, 0, 0}, {0, 0, 0, 0, 1}});
+        }
+
+        @Test
+        void 평탄_배열_버전() throws IOException {
+            FastReader in = createReader("019\r\n283\r\n");
+            int[] grid = new int[6];
+
+            in.nextDigitGrid(grid, 2, 3);
+
+            assertThat(grid).containsExactly(0, 1, 9, 2, 8, 3);
+        }
+
+        @Test
+        void 버퍼보다_긴_줄도_읽는다() throws IOException {
+            String row = "0123456789".repeat(10);
+            FastReader in = createReader(row + "\n" + row + "\n", 16);
+
+            int[][] grid = in.nextDigitGrid(2, 100);
+
+            assertThat(grid[1][99]).isEqualTo(9);
+            assertThat(grid[1][50]).isEqualTo(0);
+        }
+
+        @Test
+        void 줄_길이가_다르면_예외() {
+            assertThatThrownBy(() -> createReader("0101\n").nextDigitGrid(1, 5))
+                    .isInstanceOf(NumberFormatException.class)
+                    .hasMessageContaining("0101");
+        }
+
+        @Test
+        void 숫자가_아닌_칸이_있으면_예외() {
+            assertThatThrownBy(() -> createReader("01#11\n").nextDigitGrid(1, 5))
+                    .isInstanceOf(NumberFormatException.class);
+        }
+
+        @Test
+        void 격자_다음_줄도_이어서_읽는다() throws IOException {
+            FastReader in = createReader("10\n01\n7\n");
+
+            in.nextDigitGrid(2, 2);
+
+            assertThat(in.nextInt()).isEqualTo(7);
+        }
+    }
+
+    @Nested
+    class PS_실전_패턴 {
+
+        @Test
+        void 첫_줄에_개수_그_다음부터_데이터_패턴() throws IOException {
+            FastReader in = createReader("5\n1 2 3 4 5");
+
+            int n = in.nextInt();
+            int[] arr = new int[n];
+            for (int i = 0; i < n; i++) {
+                arr[i] = in.nextInt();
+            }
+
+            assertThat(arr).containsExactly(1, 2, 3, 4, 5);
+        }
+
+        @Test
+        void 그래프_간선_입력_패턴() throws IOException {
+            FastReader in = createReader("1 2 10\r\n2 3 20\r\n");
+
+            int[][] edges = new int[2][3];
+            for (int[] edge : edges) {
+                edge[0] = in.nextInt();
+                edge[1] = in.nextInt();
+                edge[2] = in.nextInt();
+            }
+
+            assertThat(edges).isDeepEqualTo(new int[][] {{1, 2, 10}, {2, 3, 20}});
+        }
+
+        @Test
+        void nextInt_후_nextLine_함정이_없다() throws IOException {
+            // Scanner 함정: nextInt() 후 nextLine()이 빈 줄을 읽음
+            // FastReader는 토큰 바로 뒤의 개행을 함께 소비한다
+            FastReader in = createReader("123\nhello world\n");
+
+            int number = in.nextInt();
+            String text = in.nextLine();
+
+            assertThat(number).isEqualTo(123);
+            assertThat(text).isEqualTo("hello world");
+        }
+
+        @Test
+        void 버퍼보다_긴_입력도_경계를_넘어_읽는다() throws IOException {
+            FastReader in = createReader("123456789 -987654321 longtoken", 4);
+
+            assertThat(in.nextInt()).isEqualTo(123456789);
+            assertThat(in.nextInt()).isEqualTo(-987654321);
+            assertThat(in.next()).isEqualTo("longtoken");
+        }
+    }
+}
@@ -0,0 +1,393 @@
+package s01_io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * FastWriter 학습 테스트
+ *
+ * OutputTest의 StringBuilder / BufferedWriter 패턴과 같은 결과를 내는지 확인한다.
+ * - 숫자는 ASCII 숫자로 바로 버퍼에 쓴다 (String 생성 없음)
+ * - 버퍼가 가득 차면 자동으로 내보낸다
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class FastWriterTest {
+
+    private final ByteArrayOutputStream sink = new ByteArrayOutputStream();
+
+    private String written() {
+        return sink.toString(StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    class 기본_사용법 {
+
+        @Test
+        void print로_정수를_출력한다() {
+            FastWriter out = new FastWriter(sink);
+
+            out.print(42).print(' ').print(-7).print(' ').print(0);
+            out.flush();
+
+            assertThat(written()).isEqualTo("42 -7 0");
+        }
+
+        @Test
+        void println은_개행을_붙인다() {
+            FastWriter out = new FastWriter(sink);
+
+            out.println(1).println("two").println('3');
+            out.flush();
+
+            assertThat(written()).isEqualTo("1\ntwo\n3\n");
+        }
+
+        @Test
+        void flush_전에는_버퍼에만_있다() {
+            FastWriter out = new FastWriter(sink);
+
+            out.print("Hello");
+            assertThat(written()).isEmpty();
+
+            out.flush();
+            assertThat(written()).isEqualTo("Hello");
+        }
+
+        @Test
+        void close는_자동으로_flush한다() {
+            try (FastWriter out = new FastWriter(sink)) {
+                out.print("Hello");
+            }
+
+            assertThat(written()).isEqualTo("Hello");
+        }
+    }
+
+    // OutputTest.BufferedWriter_함정과 비교
+    @Nested
+    class write_int_함정_없음 {
+
+        @Test
+        void print에_int를_넣으면_숫자로_출력된다() {
+            // BufferedWriter.write(65)는 "A"
+            FastWriter out = new FastWriter(sink);
+
+            out.print(65);
+            out.flush();
+
+            assertThat(written()).isEqualTo("65");
+        }
+
+        @Test
+        void 문자를_출력하려면_char를_넘긴다() {
+            FastWriter out = new FastWriter(sink);
+
+            out.print('A').print((char) 66);
+            out.flush();
+
+            assertThat(written()).isEqualTo("AB");
+        }
+    }
+
+    @Nested
+    class 숫자_변환 {
+
+        @Test
+        void int_경계값을_출력한다() {
+            FastWriter out = new FastWriter(sink);
+
+            out.println(Integer.MAX_VALUE).println(Integer.MIN_VALUE);
+            out.flush();
+
+            assertThat(written()).isEqualTo("2147483647\n-2147483648\n");
+        }
+
+        @Test
+        void long_경계값을_출력한다() {
+            FastWriter out = new FastWriter(sink);
+
+            out.println(Long.MAX_VALUE).println(Long.MIN_VALUE).println(3_000_000_000L);
+            out.flush();
+
+            assertThat(written()).isEqualTo("9223372036854775807\n-9223372036854775808\n3000000000\n");
+        }
+
+        @Test
+        void 결과는_String_valueOf와_같다() {
+            long[] values = {0, 9, 10, 99, 100, -1, -10, 1_000_000_007, -999_999_999_999L};
+            FastWriter out = new FastWriter(sink);
+            StringBuilder expected = new StringBuilder();
+
+            for (long v : values) {
+                out.println(v);
+                expected.append(v).append('\n');
+            }
+            out.flush();
+
+            assertThat(written()).isEqualTo(expected.toString());
+        }
+    }
+
+    // String.format("%.6f")와 같은 출력을 Formatter 없이
+    @Nested
+    class 실수_고정_소수점 {
+
+        private String format(double value, int precision) {
+            return String.format(Locale.ROOT, "%." + precision + "f", value);
+        }
+
+        @Test
+        void 지정한_자릿수로_반올림한다() {
+            FastWriter out = new FastWriter(sink);
+
+            out.println(3.14159265, 6).println(2.0, 3).println(-1.5, 0).println(0.0004, 3);
+            out.flush();
+
+            assertThat(written()).isEqualTo("3.141593\n2.000\n-2\n0.000\n");
+        }
+
+        @Test
+        void 반올림_경계는_String_format과_같다() {
+            // Formatter는 이진수 값이 아니라 Double.toString 자릿수를 HALF_UP으로 자른다 (0.15 → 0.2, C printf는 0.1)
+            double[] values = {0.15, 0.25, 1.005, 2.5, 0.5, 1.0005, 1234.5};
+            int[] precisions = {1, 1, 2, 0, 0, 3, 0};
+            FastWriter out = new FastWriter(sink);
+            StringBuilder expected = new StringBuilder();
+
+            for (int i = 0; i < values.length; i++) {
+                out.println(values[i], precisions[i]);
+                expected.append(format(values[i], precisions[i])).append('\n');
+            }
+            out.flush();
+
+            assertThat(written()).isEqualTo(expected.toString());
+        }
+
+        @Test
+        void 음수가_0으로_반올림되면_부호가_남는다() {
+            FastWriter out = new FastWriter(sink);
+
+            out.print(-0.001, 2).print(' ').print(-0.0, 1);
+            out.flush();
+
+            assertThat(written()).isEqualTo("-0.00 -0.0");
+        }
+
+        @Test
+        void 특수값과_큰_값도_String_format과_같다() {
+            double[] values = {
+                Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 1e20, -Double.MAX_VALUE, 1e-300
+            };
+            FastWriter out = new FastWriter(sink);
+            StringBuilder expected = new StringBuilder();
+
+            for (double v : values) {
+                out.println(v, 6);
+                expected.append(format(v, 6)).append('\n');
+            }
+            out.print(Math.PI, 20);
+            expected.append(format(Math.PI, 20));
+            out.flush();
+
+            assertThat(written()).isEqualTo(expected.toString());
+        }
+
+        @Test
+        void 무작위_값도_String_format과_같다() {
+            SplittableRandom random = new SplittableRandom(42);
+            FastWriter out = new FastWriter(sink, 32);
+            StringBuilder expected = new StringBuilder();
+
+            for (int i = 0; i < 100_000; i++) {
+                double v;
+                if (i % 3 == 0) {
+                    v = random.nextDouble(-1e6, 1e6);
+                } else if (i % 3 == 1) {
+                    v = random.nextInt(-1_000_000, 1_000_000) / 1000.0; // 반올림 경계가 자주 나온다
+                } else {
+                    v = random.nextDouble() * Math.pow(10, random.nextInt(-10, 15));
+                }
+                int precision = random.nextInt(10);
+                out.println(v, precision);
+                expected.append(format(v, precision)).append('\n');
+            }
+            out.flush();
+
+            assertThat(written()).isEqualTo(expected.toString());
+        }
+
+        @Test
+        void 음수_자릿수는_예외() {
+            FastWriter out = new FastWriter(sink);
+
+            assertThatThrownBy(() -> out.print(1.0, -1)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    // Long.toBinaryString / toHexString과 같은 출력, 비트마스크는 고정 폭
+    @Nested
+    class 진법_출력 {
+
+        @Test
+        void 부호_없는_2진수와_16진수() {
+            FastWriter out = new FastWriter(sink);
+
+            out.printBinary(10)
+                    .print(' ')
+                    .printHex(255)
+                    .print(' ')
+                    .printBinary(0)
+                    .print(' ')
+                    .printHex(-1L);
+            out.flush();
+
+            assertThat(written()).isEqualTo("1010 ff 0 ffffffffffffffff");
+        }
+
+        @Test
+        void width만큼_앞을_0으로_채운다() {
+            FastWriter out = new FastWriter(sink);
+
+            out.printBinary(5, 8).print(' ').printHex(0xabc, 6).print(' ').printBinary(-1L, 64);
+            out.flush();
+
+            assertThat(written()).isEqualTo("00000101 000abc " + "1".repeat(64));
+        }
+
+        @Test
+        void width보다_긴_값은_하위_자리만_쓴다() {
+            FastWriter out = new FastWriter(sink);
+
+            out.printBinary(0b1101, 2).print(' ').printHex(0x1234, 2).print(' ').printBinary(7, 0);
+            out.flush();
+
+            assertThat(written()).isEqualTo("01 34 ");
+        }
+
+        @Test
+        void 결과는_JDK_변환과_같다() {
+            SplittableRandom random = new SplittableRandom(42);
+            FastWriter out = new FastWriter(sink, 32); // 64자리가 버퍼보다 길다
+            StringBuilder expected = new StringBuilder();
+
+            for (int i = 0; i < 10_000; i++) {
+                long v = random.nextLong() >>> random.nextInt(64);
+                out.printBinary(v)
+                        .print(' ')
+                        .printHex(v)
+                        .print(' ')
+                        .printBinary(v, 64)
+                        .println();
+                String binary = Long.toBinaryString(v);
+                expected.append(binary).append(' ').append(Long.toHexString(v)).append(' ');
+                expected.append("0".repeat(64 - binary.length())).append(binary).append('\n');
+            }
+            out.flush();
+
+            assertThat(written()).isEqualTo(expected.toString());
+        }
+
+        @Test
+        void 범위_밖의_width는_예외() {
+            FastWriter out = new FastWriter(sink);
+
+            assertThatThrownBy(() -> out.printBinary(1, 65)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> out.printHex(1, 17)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> out.printHex(1, -1)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class 문자열_인코딩 {
+
+        @Test
+        void 한글은_UTF_8로_출력한다() {
+            FastWriter out = new FastWriter(sink);
+
+            out.print("정답: ").print(42);
+            out.flush();
+
+            assertThat(written()).isEqualTo("정답: 42");
+        }
+
+        @Test
+        void 서로게이트_쌍도_UTF_8로_출력한다() {
+            FastWriter out = new FastWriter(sink);
+
+            out.print("a😀b");
+            out.flush();
+
+            assertThat(sink.toByteArray()).isEqualTo("a😀b".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Nested
+    class 버퍼_자동_비우기 {
+
+        @Test
+        void 버퍼보다_많이_써도_순서대로_출력된다() {
+            FastWriter out = new FastWriter(sink, 32);
+            StringBuilder expected = new StringBuilder();
+
+            for (int i = 0; i < 1000; i++) {
+                out.println(i);
+                expected.append(i).append('\n');
+            }
+            out.flush();
+
+            assertThat(written()).isEqualTo(expected.toString());
+        }
+
+        @Test
+        void 버퍼보다_긴_문자열도_나눠서_출력된다() {
+            FastWriter out = new FastWriter(sink, 32);
+            String longText = "x".repeat(100);
+
+            out.print(longText);
+            out.flush();
+
+            assertThat(written()).isEqualTo(longText);
+        }
+    }
+
+    // OutputTest.PS_권장_패턴과 같은 출력
+    @Nested
+    class PS_권장_패턴 {
+
+        @Test
+        void 공백으로_구분된_출력() {
+            int[] arr = {1, 2, 3, 4, 5};
+            FastWriter out = new FastWriter(sink);
+
+            for (int i = 0; i < arr.length; i++) {
+                if (i > 0) out.print(' ');
+                out.print(arr[i]);
+            }
+            out.flush();
+
+            assertThat(written()).isEqualTo("1 2 3 4 5");
+        }
+
+        @Test
+        void Yes_No_출력_패턴() {
+            boolean[] answers = {true, false, true};
+            FastWriter out = new FastWriter(sink);
+
+            for (boolean ans : answers) {
+                out.println(ans ? "Yes" : "No");
+            }
+            out.flush();
+
+            assertThat(written()).isEqualTo("Yes\nNo\nYes\n");
+        }
+    }
+}
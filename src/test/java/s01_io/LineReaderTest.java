@@ -0,0 +1,234 @@
+package s01_io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static s10_gotchas.AllocationMeter.allocatedBytes;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LineReader 학습 테스트
+ *
+ * BufferedReaderTest와 같은 개행/EOF 규칙을 확인한다.
+ * 차이점: 줄마다 String을 만들지 않고 같은 ByteSlice를 재사용한다.
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class LineReaderTest {
+
+    private LineReader createReader(String input) {
+        return new LineReader(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // 버퍼가 작으면 줄이 버퍼 경계에 걸친다
+    private LineReader createReader(String input, int bufferSize) {
+        return new LineReader(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), bufferSize);
+    }
+
+    private List<String> readAll(LineReader in) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (ByteSlice line; (line = in.nextLine()) != null; ) {
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+
+    @Nested
+    class nextLine_기본_동작 {
+
+        @Test
+        void 한_줄씩_읽는다() throws IOException {
+            LineReader in = createReader("first\nsecond");
+
+            assertThat(in.nextLine().toString()).isEqualTo("first");
+            assertThat(in.nextLine().toString()).isEqualTo("second");
+        }
+
+        @Test
+        void 빈_줄은_길이_0() throws IOException {
+            LineReader in = createReader("a\n\nb");
+
+            assertThat(readAll(in)).containsExactly("a", "", "b");
+        }
+
+        @Test
+        void 같은_ByteSlice를_재사용한다() throws IOException {
+            LineReader in = createReader("a\nb");
+
+            ByteSlice first = in.nextLine();
+            ByteSlice second = in.nextLine();
+
+            assertThat(second).isSameAs(first);
+            assertThat(first.toString()).isEqualTo("b"); // 보관하려면 toString()
+        }
+    }
+
+    // BufferedReaderTest.EOF_처리
+    @Nested
+    class EOF_처리 {
+
+        @Test
+        void 더_이상_읽을_줄이_없으면_null을_반환한다() throws IOException {
+            LineReader in = createReader("only one line");
+
+            assertThat(in.nextLine().toString()).isEqualTo("only one line");
+            assertThat(in.nextLine()).isNull();
+            assertThat(in.nextLine()).isNull();
+        }
+
+        @Test
+        void 마지막_개행_뒤에는_빈_줄이_없다() throws IOException {
+            assertThat(readAll(createReader("1\n2\n3\n"))).containsExactly("1", "2", "3");
+        }
+
+        @Test
+        void 빈_입력은_즉시_null을_반환한다() throws IOException {
+            assertThat(createReader("").nextLine()).isNull();
+        }
+    }
+
+    // BufferedReaderTest.개행_문자_처리
+    @Nested
+    class 개행_문자_처리 {
+
+        @Test
+        void LF_CRLF_CR을_모두_처리한다() throws IOException {
+            assertThat(readAll(createReader("a\nb"))).containsExactly("a", "b");
+            assertThat(readAll(createReader("a\r\nb"))).containsExactly("a", "b");
+            assertThat(readAll(createReader("a\rb"))).containsExactly("a", "b");
+        }
+
+        @Test
+        void CR_CR은_빈_줄_하나() throws IOException {
+            assertThat(readAll(createReader("a\r\rb"))).containsExactly("a", "", "b");
+        }
+
+        @Test
+        void CRLF가_버퍼_경계에_걸쳐도_개행_하나() throws IOException {
+            // 버퍼 4바이트: "abc\r" | "\ndef"
+            assertThat(readAll(createReader("abc\r\ndef", 4))).containsExactly("abc", "def");
+        }
+
+        @Test
+        void 결과는_BufferedReader와_같다() throws IOException {
+            String input = "x\r\n\r\n y \rz\n\n\r\nlast";
+            BufferedReader br = new BufferedReader(new InputStreamReader(
+                    new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8));
+            List<String> expected = new ArrayList<>();
+            for (String line; (line = br.readLine()) != null; ) {
+                expected.add(line);
+            }
+
+            for (int bufferSize : new int[] {1, 2, 3, 64}) {
+                assertThat(readAll(createReader(input, bufferSize))).isEqualTo(expected);
+            }
+        }
+
+        @Test
+        void 버퍼보다_긴_줄도_읽는다() throws IOException {
+            String longLine = "7".repeat(100);
+
+            assertThat(readAll(createReader(longLine + "\nend", 8))).containsExactly(longLine, "end");
+        }
+    }
+
+    @Nested
+    class ByteSlice_뷰 {
+
+        @Test
+        void CharSequence로_쓸_수_있다() throws IOException {
+            ByteSlice line = createReader("hello world\n").nextLine();
+
+            assertThat(line.length()).isEqualTo(11);
+            assertThat(line.charAt(4)).isEqualTo('o');
+            assertThat(line.subSequence(6, 11).toString()).isEqualTo("world");
+            assertThat(line.contentEquals("hello world")).isTrue();
+            assertThat(line.contentEquals("hello")).isFalse();
+        }
+
+        @Test
+        void 숫자는_String_없이_바로_변환() throws IOException {
+            LineReader in = createReader("-2147483648\n 42 \n");
+
+            assertThat(in.nextLine().parseInt()).isEqualTo(Integer.MIN_VALUE);
+            assertThat(in.nextLine().parseLong()).isEqualTo(42L); // 앞뒤 공백은 NumberParser가 무시
+        }
+
+        @Test
+        void toString은_UTF_8로_디코딩한다() throws IOException {
+            assertThat(createReader("정답: 42\n").nextLine().toString()).isEqualTo("정답: 42");
+        }
+    }
+
+    // BufferedReaderTest.PS_실전_패턴
+    @Nested
+    class PS_실전_패턴 {
+
+        @Test
+        void 첫_줄에_개수_그_다음부터_데이터_패턴() throws IOException {
+            LineReader in = createReader("3\n10\n20\n30");
+
+            int n = in.nextLine().parseInt();
+            int[] arr = new int[n];
+            for (int i = 0; i < n; i++) {
+                arr[i] = in.nextLine().parseInt();
+            }
+
+            assertThat(arr).containsExactly(10, 20, 30);
+        }
+
+        @Test
+        void 한_줄에_여러_숫자는_ByteTokenizer와_함께() throws IOException {
+            LineReader in = createReader("5\n1 2 3 4 5");
+            ByteTokenizer st = new ByteTokenizer();
+
+            int n = in.nextLine().parseInt();
+            st.reset(in.nextLine());
+            int[] arr = new int[n];
+            for (int i = 0; i < n; i++) {
+                arr[i] = st.nextInt();
+            }
+
+            assertThat(arr).containsExactly(1, 2, 3, 4, 5);
+        }
+
+        @Test
+        void 줄_단위_처리는_줄당_할당이_없다() throws IOException {
+            // 같은 입력을 BufferedReader.readLine()으로 읽을 때와 스레드 할당량 비교
+            int lines = 200_000;
+            byte[] input = "1 2 10\n".repeat(lines).getBytes(StandardCharsets.US_ASCII);
+
+            long lineReaderBytes = allocatedBytes(() -> {
+                LineReader in = new LineReader(new ByteArrayInputStream(input));
+                ByteTokenizer st = new ByteTokenizer();
+                long sum = 0;
+                for (ByteSlice line; (line = in.nextLine()) != null; ) {
+                    st.reset(line);
+                    sum += st.nextInt() + st.nextInt() + st.nextInt();
+                }
+                assertThat(sum).isEqualTo(13L * lines);
+            });
+            long bufferedReaderBytes = allocatedBytes(() -> {
+                BufferedReader br = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(input)));
+                long sum = 0;
+                for (String line; (line = br.readLine()) != null; ) {
+                    for (String token : line.split(" ")) {
+                        sum += Integer.parseInt(token);
+                    }
+                }
+                assertThat(sum).isEqualTo(13L * lines);
+            });
+
+            // LineReader는 버퍼뿐, readLine + split은 줄마다 String과 배열 → 몇십 배 차이
+            assertThat(bufferedReaderBytes).isGreaterThan(10 * lineReaderBytes);
+        }
+    }
+}
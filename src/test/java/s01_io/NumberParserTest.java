@@ -0,0 +1,375 @@
+package s01_io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * NumberParser 학습 테스트
+ *
+ * ParsingTest의 parseInt / parseLong 규칙을 그대로 따르되,
+ * - String 없이 byte[] / CharSequence 범위를 바로 파싱
+ * - 앞뒤 공백은 허용 (trim() 불필요)
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class NumberParserTest {
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int parseInt(String s) {
+        byte[] b = bytes(s);
+        return NumberParser.parseInt(b, 0, b.length);
+    }
+
+    private static long parseLong(String s) {
+        byte[] b = bytes(s);
+        return NumberParser.parseLong(b, 0, b.length);
+    }
+
+    private static double parseDouble(String s) {
+        byte[] b = bytes(s);
+        return NumberParser.parseDouble(b, 0, b.length);
+    }
+
+    @Nested
+    class parseInt_기본 {
+
+        @Test
+        void byte_배열을_int로_변환한다() {
+            assertThat(parseInt("123")).isEqualTo(123);
+        }
+
+        @Test
+        void 음수와_양수_부호를_처리한다() {
+            assertThat(parseInt("-456")).isEqualTo(-456);
+            assertThat(parseInt("+789")).isEqualTo(789);
+        }
+
+        @Test
+        void 앞에_0이_있어도_10진수로_파싱한다() {
+            assertThat(parseInt("0123")).isEqualTo(123); // 8진수 83이 아님
+        }
+
+        @Test
+        void CharSequence도_같은_규칙으로_파싱한다() {
+            assertThat(NumberParser.parseInt("-456")).isEqualTo(-456);
+            assertThat(NumberParser.parseInt(new StringBuilder("+789"))).isEqualTo(789);
+        }
+    }
+
+    // ParsingTest.공백_처리_핵심과 비교
+    @Nested
+    class 공백_처리_핵심 {
+
+        @Test
+        void 앞뒤_공백을_허용한다() {
+            // Integer.parseInt(" 123 ")은 예외, NumberParser는 trim 없이 성공
+            assertThat(parseInt(" 123")).isEqualTo(123);
+            assertThat(parseInt("123 ")).isEqualTo(123);
+            assertThat(parseInt("\t 123 \r\n")).isEqualTo(123);
+            assertThat(NumberParser.parseInt("  123  ")).isEqualTo(123);
+        }
+
+        @Test
+        void 중간에_공백이_있으면_예외() {
+            // 중간 공백은 Integer.parseInt와 마찬가지로 잘못된 입력
+            assertThatThrownBy(() -> parseInt("1 23")).isInstanceOf(NumberFormatException.class);
+        }
+
+        @Test
+        void 공백만_있으면_예외() {
+            assertThatThrownBy(() -> parseInt("   ")).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> parseInt("")).isInstanceOf(NumberFormatException.class);
+        }
+
+        @Test
+        void 부호_뒤에_숫자가_없으면_예외() {
+            assertThatThrownBy(() -> parseInt("-")).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> parseInt("- 1")).isInstanceOf(NumberFormatException.class);
+        }
+    }
+
+    // ParsingTest.parseLong과 같은 범위 규칙
+    @Nested
+    class 범위_초과 {
+
+        @Test
+        void int_경계값은_정확히_파싱한다() {
+            assertThat(parseInt("2147483647")).isEqualTo(Integer.MAX_VALUE);
+            assertThat(parseInt("-2147483648")).isEqualTo(Integer.MIN_VALUE);
+        }
+
+        @Test
+        void int_범위를_초과하면_예외() {
+            assertThatThrownBy(() -> parseInt("2147483648")).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> parseInt("-2147483649")).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> parseInt("3000000000")).isInstanceOf(NumberFormatException.class);
+        }
+
+        @Test
+        void int_범위를_초과하는_수는_parseLong으로_파싱() {
+            assertThat(parseLong("3000000000")).isEqualTo(3_000_000_000L);
+            assertThat(parseLong("1000000000000")).isEqualTo(1_000_000_000_000L);
+        }
+
+        @Test
+        void long_경계값은_정확히_파싱한다() {
+            assertThat(parseLong("9223372036854775807")).isEqualTo(Long.MAX_VALUE);
+            assertThat(parseLong("-9223372036854775808")).isEqualTo(Long.MIN_VALUE);
+        }
+
+        @Test
+        void long_범위를_초과하면_예외() {
+            assertThatThrownBy(() -> parseLong("9223372036854775808")).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> parseLong("-9223372036854775809")).isInstanceOf(NumberFormatException.class);
+        }
+
+        @Test
+        void 결과는_JDK_파서와_같다() {
+            String[] inputs = {"0", "-0", "+0", "7", "-2147483648", "999999999", "-1000000000"};
+
+            for (String s : inputs) {
+                assertThat(parseInt(s)).isEqualTo(Integer.parseInt(s));
+                assertThat(parseLong(s)).isEqualTo(Long.parseLong(s));
+            }
+        }
+    }
+
+    // offset, length로 버퍼 일부만 파싱 → 토큰마다 String을 만들 필요가 없다
+    @Nested
+    class 범위_지정_파싱 {
+
+        @Test
+        void 버퍼의_일부만_파싱한다() {
+            byte[] line = bytes("1 20 -300");
+
+            assertThat(NumberParser.parseInt(line, 0, 1)).isEqualTo(1);
+            assertThat(NumberParser.parseInt(line, 2, 2)).isEqualTo(20);
+            assertThat(NumberParser.parseInt(line, 5, 4)).isEqualTo(-300);
+        }
+
+        @Test
+        void 공백을_포함한_범위도_파싱한다() {
+            byte[] line = bytes("1 20 -300");
+
+            assertThat(NumberParser.parseInt(line, 1, 4)).isEqualTo(20); // " 20 "
+        }
+
+        @Test
+        void CharSequence_범위도_파싱한다() {
+            String edge = "1 2 10";
+
+            assertThat(NumberParser.parseInt(edge, 4, 2)).isEqualTo(10);
+        }
+
+        @Test
+        void 범위가_배열을_벗어나면_예외() {
+            byte[] b = bytes("123");
+
+            assertThatThrownBy(() -> NumberParser.parseInt(b, 2, 5)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+        @Test
+        void 예외_메시지에는_해당_범위만_담긴다() {
+            byte[] line = bytes("1 2a 3");
+
+            assertThatThrownBy(() -> NumberParser.parseInt(line, 2, 2))
+                    .isInstanceOf(NumberFormatException.class)
+                    .hasMessageContaining("\"2a\"");
+        }
+    }
+
+    // ParsingTest.진법_변환 규칙을 String 없이
+    @Nested
+    class 진법_변환 {
+
+        private int parseInt(String s, int radix) {
+            byte[] b = bytes(s);
+            return NumberParser.parseInt(b, 0, b.length, radix);
+        }
+
+        private long parseUnsignedLong(String s, int radix) {
+            byte[] b = bytes(s);
+            return NumberParser.parseUnsignedLong(b, 0, b.length, radix);
+        }
+
+        @Test
+        void _2진수_8진수_16진수를_변환한다() {
+            assertThat(parseInt("1010", 2)).isEqualTo(10);
+            assertThat(parseInt("17", 8)).isEqualTo(15);
+            assertThat(parseInt("FF", 16)).isEqualTo(255);
+            assertThat(parseInt("-ff", 16)).isEqualTo(-255);
+            assertThat(parseInt("zz", 36)).isEqualTo(1295);
+        }
+
+        @Test
+        void _16진수는_대소문자_무관() {
+            assertThat(parseInt("ff", 16)).isEqualTo(255);
+            assertThat(parseInt("FF", 16)).isEqualTo(255);
+            assertThat(parseInt("Ff", 16)).isEqualTo(255);
+        }
+
+        @Test
+        void 유효하지_않은_진법_문자면_예외() {
+            // ParsingTest와 같은 입력: 2진수에 2가 있음
+            assertThatThrownBy(() -> parseInt("102", 2)).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> parseInt("8", 8)).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> parseInt("FG", 16)).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> parseUnsignedLong("102", 2)).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> parseUnsignedLong("xyz", 16)).isInstanceOf(NumberFormatException.class);
+        }
+
+        @Test
+        void 결과와_예외는_Integer_parseInt와_같다() {
+            String[] inputs = {"0", "-0", "+7fffffff", "-80000000", "80000000", "1111111", "-", "+", "12 3", "a_b"};
+            int[] radixes = {2, 8, 10, 16, 36};
+
+            for (String input : inputs) {
+                for (int radix : radixes) {
+                    Integer expected = null;
+                    try {
+                        expected = Integer.parseInt(input, radix);
+                    } catch (NumberFormatException e) {
+                        // 예외가 기대값
+                    }
+                    if (expected == null) {
+                        assertThatThrownBy(() -> parseInt(input, radix))
+                                .as(input + " radix " + radix)
+                                .isInstanceOf(NumberFormatException.class);
+                    } else {
+                        assertThat(parseInt(input, radix))
+                                .as(input + " radix " + radix)
+                                .isEqualTo(expected);
+                    }
+                }
+            }
+        }
+
+        @Test
+        void _64비트_마스크를_부호_없이_읽는다() {
+            String allOnes = "1".repeat(64);
+
+            assertThat(parseUnsignedLong(allOnes, 2)).isEqualTo(-1L);
+            assertThat(parseUnsignedLong("8000000000000000", 16)).isEqualTo(Long.MIN_VALUE);
+            assertThat(parseUnsignedLong("1777777777777777777777", 8)).isEqualTo(-1L);
+            assertThat(parseUnsignedLong("+DeadBeef", 16)).isEqualTo(0xdeadbeefL);
+            assertThat(parseUnsignedLong("18446744073709551615", 10)).isEqualTo(-1L); // 2의 거듭제곱이 아니면 JDK
+        }
+
+        @Test
+        void _64비트를_넘거나_음수면_예외() {
+            assertThatThrownBy(() -> parseUnsignedLong("1" + "0".repeat(64), 2))
+                    .isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> parseUnsignedLong("10000000000000000", 16))
+                    .isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> parseUnsignedLong("2000000000000000000000", 8))
+                    .isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> parseUnsignedLong("-1", 16)).isInstanceOf(NumberFormatException.class);
+        }
+
+        @Test
+        void 결과는_Long_parseUnsignedLong과_같다() {
+            SplittableRandom random = new SplittableRandom(42);
+
+            for (int i = 0; i < 10_000; i++) {
+                long v = random.nextLong() >>> random.nextInt(64);
+                for (int radix : new int[] {2, 4, 8, 16, 32}) {
+                    String s = Long.toUnsignedString(v, radix);
+                    assertThat(parseUnsignedLong(s, radix)).as(s).isEqualTo(v);
+                }
+            }
+        }
+
+        @Test
+        void 범위_밖의_진법이면_예외() {
+            assertThatThrownBy(() -> parseInt("1", 1)).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> parseUnsignedLong("1", 37)).isInstanceOf(NumberFormatException.class);
+        }
+    }
+
+    // ParsingTest.parseDouble 규칙을 그대로 따른다
+    @Nested
+    class parseDouble {
+
+        @Test
+        void 소수와_지수_표기법을_파싱한다() {
+            assertThat(parseDouble("3.14")).isEqualTo(3.14);
+            assertThat(parseDouble("123")).isEqualTo(123.0);
+            assertThat(parseDouble("1.5e2")).isEqualTo(150.0);
+            assertThat(parseDouble("-2.5E-3")).isEqualTo(-0.0025);
+            assertThat(parseDouble("+.5")).isEqualTo(0.5);
+            assertThat(parseDouble("7.")).isEqualTo(7.0);
+        }
+
+        @Test
+        void 앞뒤_공백을_허용한다() {
+            assertThat(parseDouble("  3.14\t")).isEqualTo(3.14);
+        }
+
+        @Test
+        void 음수_0의_부호를_유지한다() {
+            assertThat(Double.doubleToRawLongBits(parseDouble("-0.0"))).isEqualTo(Double.doubleToRawLongBits(-0.0));
+            assertThat(Double.doubleToRawLongBits(parseDouble("0e999"))).isEqualTo(0L);
+        }
+
+        @Test
+        void 빠른_경로_밖의_입력은_JDK가_처리한다() {
+            // 긴 가수, 큰 지수, 특수값, 16진수, 접미사
+            String[] inputs = {
+                "3.141592653589793238462643", "1e23", "4.9e-324", "1.7976931348623157e308", "1e400", "-1e-400",
+                "NaN", "-Infinity", "0x1.8p1", "2.5d", "1.0f", "9007199254740993"
+            };
+
+            for (String input : inputs) {
+                assertThat(Double.doubleToRawLongBits(parseDouble(input)))
+                        .as(input)
+                        .isEqualTo(Double.doubleToRawLongBits(Double.parseDouble(input)));
+            }
+        }
+
+        @Test
+        void 결과는_Double_parseDouble과_비트_단위로_같다() {
+            SplittableRandom random = new SplittableRandom(42);
+
+            for (int i = 0; i < 100_000; i++) {
+                String s;
+                if (i % 4 == 0) {
+                    s = Double.toString(random.nextDouble(-1e6, 1e6));
+                } else if (i % 4 == 1) {
+                    s = String.format(Locale.ROOT, "%.6f", random.nextDouble(-1e9, 1e9));
+                } else if (i % 4 == 2) {
+                    s = random.nextLong(1L << 54) + "e" + random.nextInt(-30, 31);
+                } else {
+                    s = Double.toString(Double.longBitsToDouble(random.nextLong()));
+                }
+                double expected = Double.parseDouble(s);
+                assertThat(Double.doubleToRawLongBits(parseDouble(s)))
+                        .as(s)
+                        .isEqualTo(Double.doubleToRawLongBits(expected));
+            }
+        }
+
+        @Test
+        void 잘못된_형식이면_예외() {
+            for (String input : new String[] {"", " ", "-", ".", "1e", "1e+", "1.2.3", "1 2", "abc", "--1"}) {
+                assertThatThrownBy(() -> parseDouble(input)).as(input).isInstanceOf(NumberFormatException.class);
+            }
+        }
+
+        @Test
+        void 버퍼의_일부만_파싱한다() {
+            byte[] buffer = bytes("x=2.75;y");
+
+            assertThat(NumberParser.parseDouble(buffer, 2, 4)).isEqualTo(2.75);
+        }
+    }
+}
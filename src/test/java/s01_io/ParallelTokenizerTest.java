@@ -0,0 +1,187 @@
+package s01_io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * ParallelTokenizer 학습 테스트
+ *
+ * 청크로 나눠 병렬로 파싱해도 FastReader로 순서대로 읽은 결과와 같아야 한다.
+ * - 청크 경계는 개행 (한 줄이 길면 공백)
+ * - 조각은 입력 순서대로 이어 붙인다
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class ParallelTokenizerTest {
+
+    private static byte[] bytes(String input) {
+        return input.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    // FastReader로 순서대로 읽은 기대값
+    private static int[] sequential(byte[] input) throws IOException {
+        FastReader in = new FastReader(new ByteArrayInputStream(input));
+        int[] values = new int[input.length];
+        int n = 0;
+        while (in.hasNext()) {
+            values[n++] = in.nextInt();
+        }
+        return Arrays.copyOf(values, n);
+    }
+
+    @Nested
+    class 기본_사용법 {
+
+        @Test
+        void 모든_정수_토큰을_순서대로_반환한다() {
+            int[] values = new ParallelTokenizer().parseInts(bytes("3\n1 2 10\n2 3 -5\n"));
+
+            assertThat(values).containsExactly(3, 1, 2, 10, 2, 3, -5);
+        }
+
+        @Test
+        void 빈_입력이면_빈_배열() {
+            assertThat(new ParallelTokenizer().parseInts(new byte[0])).isEmpty();
+            assertThat(new ParallelTokenizer().parseInts(bytes(" \n\n\t "))).isEmpty();
+        }
+
+        @Test
+        void 구분자_규칙은_FastReader와_같다() {
+            // 연속 공백, 탭, CRLF, CR, 폼피드
+            int[] values = new ParallelTokenizer().parseInts(bytes("  1\t\t2\r\n3\r4\f5  \n"));
+
+            assertThat(values).containsExactly(1, 2, 3, 4, 5);
+        }
+
+        @Test
+        void 숫자가_아니면_NumberFormatException() {
+            ParallelTokenizer tokenizer = new ParallelTokenizer();
+
+            assertThatThrownBy(() -> tokenizer.parseInts(bytes("1 2 abc\n"))).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> tokenizer.parseInts(bytes("2147483648")))
+                    .isInstanceOf(NumberFormatException.class);
+        }
+    }
+
+    // 청크를 아주 작게 잡으면 경계 처리가 모두 드러난다
+    @Nested
+    class 청크_경계_처리 {
+
+        @Test
+        void 작은_청크로_나눠도_순서대로_이어_붙인다() throws IOException {
+            byte[] input = randomInput(10_000, 42);
+            ParallelTokenizer tokenizer = new ParallelTokenizer(ForkJoinPool.commonPool(), 16);
+
+            assertThat(tokenizer.parseInts(input)).containsExactly(sequential(input));
+        }
+
+        @Test
+        void 토큰이_청크_경계에_걸리지_않는다() {
+            // 청크 크기 4: "1234" 다음이 경계가 되어도 토큰은 한 청크에 있다
+            ParallelTokenizer tokenizer = new ParallelTokenizer(ForkJoinPool.commonPool(), 4);
+
+            assertThat(tokenizer.parseInts(bytes("123456789 -98765\n1\n"))).containsExactly(123456789, -98765, 1);
+        }
+
+        @Test
+        void 한_줄이_아주_길면_공백에서_자른다() throws IOException {
+            // N개를 한 줄에 주는 입력: 개행만으로 자르면 청크가 하나뿐이다
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 100_000; i++) {
+                sb.append(i - 50_000).append(' ');
+            }
+            byte[] input = bytes(sb.toString());
+            ParallelTokenizer tokenizer = new ParallelTokenizer(ForkJoinPool.commonPool(), 1 << 10);
+
+            assertThat(tokenizer.parseInts(input)).containsExactly(sequential(input));
+        }
+
+        @Test
+        void 스레드_수와_관계없이_결과가_같다() throws IOException {
+            byte[] input = randomInput(200_000, 7);
+            int[] expected = sequential(input);
+
+            for (int threads : new int[] {1, 2, 4}) {
+                ForkJoinPool pool = new ForkJoinPool(threads);
+                try {
+                    assertThat(new ParallelTokenizer(pool, 1 << 12).parseInts(input))
+                            .containsExactly(expected);
+                } finally {
+                    pool.shutdown();
+                }
+            }
+        }
+
+        private byte[] randomInput(int n, long seed) {
+            SplittableRandom random = new SplittableRandom(seed);
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < n; i++) {
+                sb.append(random.nextInt());
+                sb.append(random.nextInt(5) == 0 ? (random.nextBoolean() ? "\r\n" : "\n") : " ");
+            }
+            return bytes(sb.toString());
+        }
+    }
+
+    @Nested
+    class 파일_입력 {
+
+        @TempDir
+        Path dir;
+
+        @Test
+        void 파일을_매핑해서_읽는다() throws IOException {
+            Path input = Files.writeString(dir.resolve("input.txt"), "3\n1 2 10\n2 3 -5\n");
+
+            int[] values = new ParallelTokenizer(ForkJoinPool.commonPool(), 4).parseInts(input);
+
+            assertThat(values).containsExactly(3, 1, 2, 10, 2, 3, -5);
+        }
+
+        @Test
+        void 빈_파일이면_빈_배열() throws IOException {
+            Path input = Files.writeString(dir.resolve("empty.txt"), "");
+
+            assertThat(new ParallelTokenizer().parseInts(input)).isEmpty();
+        }
+    }
+
+    // StringTokenizerTest.그래프_간선_입력_패턴을 한 번에
+    @Nested
+    class PS_실전_패턴 {
+
+        @Test
+        void 간선_목록을_평평한_배열로_읽는다() {
+            // N M 다음에 "from to weight" M줄
+            byte[] input = bytes("4 3\n1 2 10\n2 3 20\n3 4 30\n");
+
+            int[] values = new ParallelTokenizer().parseInts(input);
+            int m = values[1];
+            int[] from = new int[m];
+            int[] to = new int[m];
+            int[] weight = new int[m];
+            for (int e = 0, p = 2; e < m; e++, p += 3) {
+                from[e] = values[p];
+                to[e] = values[p + 1];
+                weight[e] = values[p + 2];
+            }
+
+            assertThat(from).containsExactly(1, 2, 3);
+            assertThat(to).containsExactly(2, 3, 4);
+            assertThat(weight).containsExactly(10, 20, 30);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package s03_string;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * FastSplit 학습 테스트
+ *
+ * StringTokenizerTest.split과의_차이_핵심, 주의사항.split_정규식_특수문자_주의의 함정을
+ * 구분자 종류별 메서드와 flags로 피하는지 확인한다.
+ * - 기본 flags(0)는 String.split과 같은 결과
+ * - 빈 토큰을 남길지 지울지는 flags로 명시
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class FastSplitTest {
+
+    @Nested
+    class 기본값은_String_split과_같다 {
+
+        @Test
+        void 연속_구분자는_빈문자열_생성() {
+            assertThat(FastSplit.split("a  b", ' ')).containsExactly("a", "", "b");
+        }
+
+        @Test
+        void 앞쪽_구분자는_빈문자열_생성() {
+            assertThat(FastSplit.split("  hello", ' ')).containsExactly("", "", "hello");
+        }
+
+        @Test
+        void 뒤쪽_빈문자열은_제거된다() {
+            assertThat(FastSplit.split("hello  ", ' ')).containsExactly("hello");
+        }
+
+        @Test
+        void 구분자가_없으면_원본_하나() {
+            assertThat(FastSplit.split("hello", ',')).containsExactly("hello");
+            assertThat(FastSplit.split("", ',')).containsExactly("");
+        }
+
+        @Test
+        void 구분자만_있으면_빈_배열() {
+            assertThat(FastSplit.split(",,,", ',')).isEmpty();
+        }
+
+        @Test
+        void 여러_입력에서_String_split과_같다() {
+            String[] inputs = {"", ",", "a", "a,b", ",a,,b,,", ",,a", "a,,", " , "};
+
+            for (String input : inputs) {
+                assertThat(FastSplit.split(input, ',')).as(input).containsExactly(input.split(","));
+                assertThat(FastSplit.split(input, ',', FastSplit.KEEP_TRAILING_EMPTY))
+                        .as(input)
+                        .containsExactly(input.split(",", -1));
+                assertThat(FastSplit.splitRegex(input, ",+")).as(input).containsExactly(input.split(",+"));
+            }
+        }
+    }
+
+    @Nested
+    class flags로_빈_토큰_처리 {
+
+        @Test
+        void KEEP_TRAILING_EMPTY는_limit_마이너스1과_같다() {
+            assertThat(FastSplit.split("hello  ", ' ', FastSplit.KEEP_TRAILING_EMPTY))
+                    .containsExactly("hello", "", "");
+        }
+
+        @Test
+        void DROP_LEADING_EMPTY는_앞쪽만_지운다() {
+            assertThat(FastSplit.split("  a  b", ' ', FastSplit.DROP_LEADING_EMPTY))
+                    .containsExactly("a", "", "b");
+        }
+
+        @Test
+        void DROP_ALL_EMPTY는_StringTokenizer처럼() {
+            // StringTokenizerTest.split과의_차이_핵심.종합_비교_테스트
+            assertThat(FastSplit.split("  a  b  c  ", ' ', FastSplit.DROP_ALL_EMPTY))
+                    .containsExactly("a", "b", "c");
+            assertThat(FastSplit.split("", ' ', FastSplit.DROP_ALL_EMPTY)).isEmpty();
+        }
+
+        @Test
+        void flags는_조합할_수_있다() {
+            int flags = FastSplit.DROP_LEADING_EMPTY | FastSplit.KEEP_TRAILING_EMPTY;
+
+            assertThat(FastSplit.split(",a,b,", ',', flags)).containsExactly("a", "b", "");
+        }
+    }
+
+    // StringTokenizerTest.주의사항.split_정규식_특수문자_주의
+    @Nested
+    class 정규식_특수문자_함정_없음 {
+
+        @Test
+        void 점은_글자_그대로_구분자() {
+            // "a.b.c".split(".")은 빈 배열
+            assertThat(FastSplit.split("a.b.c", '.')).containsExactly("a", "b", "c");
+            assertThat(FastSplit.splitLiteral("a.b.c", ".")).containsExactly("a", "b", "c");
+        }
+
+        @Test
+        void 파이프와_괄호도_글자_그대로() {
+            assertThat(FastSplit.splitLiteral("a|b|c", "|")).containsExactly("a", "b", "c");
+            assertThat(FastSplit.splitLiteral("1[]2[]3", "[]")).containsExactly("1", "2", "3");
+        }
+
+        @Test
+        void 여러_글자_구분자() {
+            // ", "는 String.split에서 정규식으로 컴파일된다
+            assertThat(FastSplit.splitLiteral("a, b, c", ", ")).containsExactly("a", "b", "c");
+            assertThat(FastSplit.splitLiteral("a, , b", ", ")).containsExactly("a", "", "b");
+        }
+
+        @Test
+        void 겹치는_구분자는_왼쪽부터_끊는다() {
+            // String.split("aa")와 같다: "aaa" → "", "a"
+            assertThat(FastSplit.splitLiteral("xaaay", "aa")).containsExactly("x", "ay");
+            assertThat(FastSplit.splitLiteral("xaaay", "aa")).containsExactly("xaaay".split("aa"));
+        }
+
+        @Test
+        void 빈_구분자는_받지_않는다() {
+            assertThatThrownBy(() -> FastSplit.splitLiteral("abc", "")).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class 정규식_Pattern_캐시 {
+
+        @Test
+        void 진짜_정규식은_Pattern으로_자른다() {
+            assertThat(FastSplit.splitRegex("a1b22c333d", "\\d+")).containsExactly("a", "b", "c", "d");
+            assertThat(FastSplit.splitRegex("  a \t b  ", "\\s+", FastSplit.DROP_ALL_EMPTY))
+                    .containsExactly("a", "b");
+        }
+
+        @Test
+        void 같은_정규식은_한_번만_컴파일한다() {
+            Pattern first = FastSplit.pattern("[;:]+");
+            Pattern second = FastSplit.pattern("[;:]+");
+
+            assertThat(second).isSameAs(first);
+        }
+
+        @Test
+        void 캐시는_최근에_쓴_것만_남긴다() {
+            Pattern kept = FastSplit.pattern("kept-[0-9]+");
+            Pattern stale = FastSplit.pattern("stale-[0-9]+");
+            for (int i = 0; i < FastSplit.CACHE_SIZE * 2; i++) {
+                FastSplit.pattern("kept-[0-9]+"); // 계속 쓰면 밀려나지 않는다
+                FastSplit.pattern("other-" + i + "[a-z]*");
+            }
+
+            assertThat(FastSplit.cachedPatternCount()).isLessThanOrEqualTo(FastSplit.CACHE_SIZE);
+            assertThat(FastSplit.pattern("kept-[0-9]+")).isSameAs(kept);
+            assertThat(FastSplit.pattern("stale-[0-9]+")).isNotSameAs(stale); // 밀려나서 다시 컴파일
+        }
+
+        @Test
+        void 한_글자_정규식은_String_split처럼_빠른_경로() {
+            // "\\."은 정규식 문법이지만 글자 하나 → Pattern 없이 자른다
+            assertThat(FastSplit.splitRegex("a.b.c", "\\.")).containsExactly("a", "b", "c");
+            assertThat(FastSplit.splitRegex("a,b", ",")).containsExactly("a", "b");
+        }
+    }
+
+    @Nested
+    class PS_실전_패턴 {
+
+        @Test
+        void 시각_문자열_파싱() {
+            String[] hms = FastSplit.split("12:34:56", ':');
+
+            int seconds = Integer.parseInt(hms[0]) * 3600 + Integer.parseInt(hms[1]) * 60 + Integer.parseInt(hms[2]);
+
+            assertThat(seconds).isEqualTo(45_296);
+        }
+
+        @Test
+        void 공백이_불규칙한_입력() {
+            String[] parts = FastSplit.split(" 3  1 2 ", ' ', FastSplit.DROP_ALL_EMPTY);
+
+            assertThat(parts).containsExactly("3", "1", "2");
+        }
+    }
+}
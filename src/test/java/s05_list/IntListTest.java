@@ -0,0 +1,196 @@
+package s05_list;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * IntList 학습 테스트
+ *
+ * ArrayList<Integer>와 같은 결과를 내는지 확인한다.
+ * - add / get / set / size는 그대로
+ * - remove(int)의 인덱스/값 혼동 → removeAt(index)
+ *
+ * 속도와 할당량 차이: BoxingBenchmark (s10_gotchas)
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class IntListTest {
+
+    @Nested
+    class 기본_사용법 {
+
+        @Test
+        void add와_get() {
+            IntList list = new IntList();
+
+            list.add(10);
+            list.add(20);
+            list.add(30);
+
+            assertThat(list.get(1)).isEqualTo(20);
+            assertThat(list.size()).isEqualTo(3);
+        }
+
+        @Test
+        void set은_이전_값을_반환한다() {
+            IntList list = new IntList();
+            list.addAll(1, 2, 3);
+
+            int old = list.set(0, 100);
+
+            assertThat(old).isEqualTo(1);
+            assertThat(list.toArray()).containsExactly(100, 2, 3);
+        }
+
+        @Test
+        void 범위를_벗어난_인덱스는_예외() {
+            IntList list = new IntList();
+            list.add(1);
+
+            // 배열 길이가 아니라 size 기준 (ArrayList와 같음)
+            assertThatThrownBy(() -> list.get(1)).isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatThrownBy(() -> list.set(-1, 0)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+        @Test
+        void 용량보다_많이_넣으면_늘어난다() {
+            IntList list = new IntList(0);
+
+            for (int i = 0; i < 1000; i++) {
+                list.add(i);
+            }
+
+            assertThat(list.size()).isEqualTo(1000);
+            assertThat(list.get(999)).isEqualTo(999);
+        }
+
+        @Test
+        void clear_후_다시_쓸_수_있다() {
+            IntList list = new IntList();
+            list.addAll(1, 2, 3);
+
+            list.clear();
+            list.add(7);
+
+            assertThat(list.toArray()).containsExactly(7);
+            assertThat(list.isEmpty()).isFalse();
+        }
+    }
+
+    // ArrayList<Integer>.remove(int) vs remove(Object) 함정
+    @Nested
+    class remove_함정_없음 {
+
+        @Test
+        void ArrayList의_remove_1은_인덱스_삭제다() {
+            List<Integer> list = new ArrayList<>(List.of(5, 1, 7));
+
+            list.remove(1); // 값 1이 아니라 인덱스 1 삭제
+
+            assertThat(list).containsExactly(5, 7);
+        }
+
+        @Test
+        void removeAt은_항상_인덱스_삭제다() {
+            IntList list = new IntList();
+            list.addAll(5, 1, 7);
+
+            int removed = list.removeAt(1);
+
+            assertThat(removed).isEqualTo(1);
+            assertThat(list.toArray()).containsExactly(5, 7);
+        }
+
+        @Test
+        void 값으로_지우려면_indexOf_후_removeAt() {
+            IntList list = new IntList();
+            list.addAll(5, 1, 7);
+
+            list.removeAt(list.indexOf(7));
+
+            assertThat(list.toArray()).containsExactly(5, 1);
+            assertThat(list.indexOf(42)).isEqualTo(-1);
+            assertThat(list.contains(5)).isTrue();
+        }
+
+        @Test
+        void removeLast는_스택처럼_쓴다() {
+            IntList stack = new IntList();
+            stack.addAll(1, 2, 3);
+
+            assertThat(stack.removeLast()).isEqualTo(3);
+            assertThat(stack.removeLast()).isEqualTo(2);
+            assertThat(stack.size()).isEqualTo(1);
+        }
+
+        @Test
+        void 비어_있으면_removeLast는_예외() {
+            assertThatThrownBy(() -> new IntList().removeLast()).isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Nested
+    class 정렬과_순회 {
+
+        @Test
+        void sort는_Collections_sort와_같다() {
+            SplittableRandom random = new SplittableRandom(42);
+            IntList list = new IntList();
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                int v = random.nextInt();
+                list.add(v);
+                expected.add(v);
+            }
+
+            list.sort();
+            Collections.sort(expected);
+
+            assertThat(list.toArray())
+                    .containsExactly(
+                            expected.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        @Test
+        void forEach는_넣은_순서대로_돈다() {
+            IntList list = new IntList();
+            list.addAll(3, 1, 2);
+            StringBuilder sb = new StringBuilder();
+
+            list.forEach(v -> sb.append(v).append(' '));
+
+            assertThat(sb.toString()).isEqualTo("3 1 2 ");
+            assertThat(list.toString()).isEqualTo("[3, 1, 2]");
+        }
+    }
+
+    @Nested
+    class PS_실전_패턴 {
+
+        @Test
+        void 인접_리스트() {
+            int n = 4;
+            IntList[] adj = new IntList[n + 1];
+            for (int i = 1; i <= n; i++) {
+                adj[i] = new IntList();
+            }
+            int[][] edges = {{1, 2}, {1, 3}, {3, 4}};
+            for (int[] e : edges) {
+                adj[e[0]].add(e[1]);
+                adj[e[1]].add(e[0]);
+            }
+
+            assertThat(adj[1].toArray()).containsExactly(2, 3);
+            assertThat(adj[3].toArray()).containsExactly(1, 4);
+        }
+    }
+}
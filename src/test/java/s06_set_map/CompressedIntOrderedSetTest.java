@@ -0,0 +1,157 @@
+package s06_set_map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CompressedIntOrderedSet 학습 테스트
+ *
+ * 후보 값을 미리 알면 음수, ±10^9 범위도 비트셋으로 처리할 수 있다.
+ * - 결과가 없으면 NONE = Integer.MIN_VALUE
+ * - 질의 값은 후보가 아니어도 된다
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class CompressedIntOrderedSetTest {
+
+    private static final int NONE = CompressedIntOrderedSet.NONE;
+
+    CompressedIntOrderedSet createSet() {
+        CompressedIntOrderedSet set = new CompressedIntOrderedSet(new int[] {50, -10, 30, 1_000_000_000, 30, -10});
+        set.add(-10);
+        set.add(30);
+        set.add(1_000_000_000);
+        return set;
+        // 후보 = {-10, 30, 50, 10^9}, set = {-10, 30, 10^9}
+    }
+
+    @Nested
+    class 기본_사용법 {
+
+        @Test
+        void 후보만_추가할_수_있다() {
+            CompressedIntOrderedSet set = createSet();
+
+            assertThat(set.add(50)).isTrue();
+            assertThat(set.add(50)).isFalse();
+            assertThatThrownBy(() -> set.add(40)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void 후보가_아닌_값은_없는_것으로_본다() {
+            CompressedIntOrderedSet set = createSet();
+
+            assertThat(set.contains(40)).isFalse();
+            assertThat(set.remove(40)).isFalse();
+            assertThat(set.size()).isEqualTo(3);
+        }
+
+        @Test
+        void MIN_VALUE는_후보가_될_수_없다() {
+            assertThatThrownBy(() -> new CompressedIntOrderedSet(new int[] {0, Integer.MIN_VALUE}))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class first_last_최소_최대 {
+
+        @Test
+        void first와_last() {
+            CompressedIntOrderedSet set = createSet();
+
+            assertThat(set.first()).isEqualTo(-10);
+            assertThat(set.last()).isEqualTo(1_000_000_000);
+        }
+
+        @Test
+        void 비어있으면_first는_예외_poll은_NONE() {
+            CompressedIntOrderedSet set = new CompressedIntOrderedSet(new int[] {1, 2});
+
+            assertThatThrownBy(set::first).isInstanceOf(NoSuchElementException.class);
+            assertThat(set.pollFirst()).isEqualTo(NONE);
+            assertThat(set.pollLast()).isEqualTo(NONE);
+        }
+    }
+
+    @Nested
+    class floor_ceiling_lower_higher_핵심 {
+
+        @Test
+        void 후보가_아닌_값으로_질의한다() {
+            CompressedIntOrderedSet set = createSet();
+
+            assertThat(set.floor(0)).isEqualTo(-10);
+            assertThat(set.ceiling(0)).isEqualTo(30);
+            assertThat(set.lower(40)).isEqualTo(30);
+            assertThat(set.higher(40)).isEqualTo(1_000_000_000); // 50은 후보지만 원소가 아니다
+        }
+
+        @Test
+        void 원소_자신으로_질의한다() {
+            CompressedIntOrderedSet set = createSet();
+
+            assertThat(set.floor(30)).isEqualTo(30);
+            assertThat(set.ceiling(30)).isEqualTo(30);
+            assertThat(set.lower(30)).isEqualTo(-10);
+            assertThat(set.higher(30)).isEqualTo(1_000_000_000);
+        }
+
+        @Test
+        void 없으면_NONE_반환() {
+            CompressedIntOrderedSet set = createSet();
+
+            assertThat(set.floor(-11)).isEqualTo(NONE);
+            assertThat(set.ceiling(1_000_000_001)).isEqualTo(NONE);
+            assertThat(set.lower(-10)).isEqualTo(NONE);
+            assertThat(set.higher(1_000_000_000)).isEqualTo(NONE);
+        }
+
+        @Test
+        void 무작위_연산_결과가_TreeSet과_같다() {
+            SplittableRandom random = new SplittableRandom(42);
+            int[] candidates = new int[50_000];
+            for (int i = 0; i < candidates.length; i++) {
+                candidates[i] = random.nextInt(-1_000_000_000, 1_000_000_000);
+            }
+            CompressedIntOrderedSet actual = new CompressedIntOrderedSet(candidates);
+            TreeSet<Integer> expected = new TreeSet<>();
+
+            for (int i = 0; i < 200_000; i++) {
+                int x = candidates[random.nextInt(candidates.length)];
+                int q = x + random.nextInt(-3, 4); // 후보 근처의 아무 값
+                switch (random.nextInt(6)) {
+                    case 0:
+                    case 1:
+                        assertThat(actual.add(x)).isEqualTo(expected.add(x));
+                        break;
+                    case 2:
+                        assertThat(actual.remove(x)).isEqualTo(expected.remove(x));
+                        break;
+                    case 3:
+                        assertThat(actual.floor(q)).isEqualTo(orNone(expected.floor(q)));
+                        break;
+                    case 4:
+                        assertThat(actual.ceiling(q)).isEqualTo(orNone(expected.ceiling(q)));
+                        break;
+                    default:
+                        assertThat(actual.lower(q)).isEqualTo(orNone(expected.lower(q)));
+                        assertThat(actual.higher(q)).isEqualTo(orNone(expected.higher(q)));
+                }
+            }
+
+            assertThat(actual.size()).isEqualTo(expected.size());
+        }
+
+        private int orNone(Integer value) {
+            return value == null ? NONE : value;
+        }
+    }
+}
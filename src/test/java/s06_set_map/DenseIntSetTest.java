@@ -0,0 +1,234 @@
+package s06_set_map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DenseIntSet 학습 테스트
+ *
+ * HashSetTest.집합_연산과 같은 결과를 long[] 비트셋으로 확인한다.
+ * - 집합 연산은 64개씩 한 번에 (AND, OR, AND NOT)
+ * - 반환값은 Set.addAll/retainAll/removeAll과 같이 "바뀌었는가"
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class DenseIntSetTest {
+
+    private static DenseIntSet of(int universe, int... values) {
+        DenseIntSet set = new DenseIntSet(universe);
+        for (int v : values) {
+            set.add(v);
+        }
+        return set;
+    }
+
+    @Nested
+    class 기본_사용법 {
+
+        @Test
+        void add_remove_반환값은_HashSet과_같다() {
+            DenseIntSet set = new DenseIntSet(100);
+
+            assertThat(set.add(1)).isTrue();
+            assertThat(set.add(1)).isFalse();
+            assertThat(set.remove(1)).isTrue();
+            assertThat(set.remove(1)).isFalse();
+        }
+
+        @Test
+        void cardinality는_원소_개수() {
+            DenseIntSet set = of(200, 0, 63, 64, 127, 199);
+
+            assertThat(set.cardinality()).isEqualTo(5);
+            assertThat(set.toArray()).containsExactly(0, 63, 64, 127, 199);
+        }
+
+        @Test
+        void 범위_밖의_값은_추가할_수_없다() {
+            DenseIntSet set = new DenseIntSet(100);
+
+            assertThatThrownBy(() -> set.add(100)).isInstanceOf(IndexOutOfBoundsException.class);
+            assertThat(set.contains(100)).isFalse();
+            assertThat(set.remove(-1)).isFalse();
+        }
+    }
+
+    // HashSetTest.집합_연산
+    @Nested
+    class 집합_연산 {
+
+        @Test
+        void union으로_합집합() {
+            DenseIntSet set1 = of(10, 1, 2, 3);
+            DenseIntSet set2 = of(10, 3, 4, 5);
+
+            assertThat(set1.union(set2)).isTrue();
+
+            assertThat(set1.toArray()).containsExactly(1, 2, 3, 4, 5);
+        }
+
+        @Test
+        void intersect로_교집합() {
+            DenseIntSet set1 = of(10, 1, 2, 3);
+            DenseIntSet set2 = of(10, 2, 3, 4);
+
+            assertThat(set1.intersect(set2)).isTrue();
+
+            assertThat(set1.toArray()).containsExactly(2, 3);
+        }
+
+        @Test
+        void subtract로_차집합() {
+            DenseIntSet set1 = of(10, 1, 2, 3);
+            DenseIntSet set2 = of(10, 2, 3, 4);
+
+            assertThat(set1.subtract(set2)).isTrue(); // set1 - set2
+
+            assertThat(set1.toArray()).containsExactly(1);
+        }
+
+        @Test
+        void containsAll로_부분집합_확인() {
+            DenseIntSet superset = of(10, 1, 2, 3, 4, 5);
+            DenseIntSet subset = of(10, 2, 3);
+
+            assertThat(superset.containsAll(subset)).isTrue();
+            assertThat(subset.containsAll(superset)).isFalse();
+        }
+
+        @Test
+        void 바뀌지_않으면_false_반환() {
+            DenseIntSet set1 = of(10, 1, 2, 3);
+
+            assertThat(set1.union(of(10, 1, 2))).isFalse();
+            assertThat(set1.intersect(of(10, 1, 2, 3, 4))).isFalse();
+            assertThat(set1.subtract(of(10, 7))).isFalse();
+        }
+
+        @Test
+        void 원본을_남기려면_copy() {
+            DenseIntSet set1 = of(10, 1, 2, 3);
+
+            DenseIntSet common = set1.copy();
+            common.intersect(of(10, 2));
+
+            assertThat(common.toArray()).containsExactly(2);
+            assertThat(set1.toArray()).containsExactly(1, 2, 3);
+        }
+
+        @Test
+        void 범위가_달라도_교집합과_차집합은_된다() {
+            DenseIntSet small = of(10, 1, 5);
+            DenseIntSet large = of(1000, 5, 999);
+
+            assertThat(small.copy().intersect(large)).isTrue();
+            assertThat(large.copy().subtract(small)).isTrue();
+            assertThat(large.containsAll(small)).isFalse();
+            assertThatThrownBy(() -> small.union(large)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void 무작위_집합_연산_결과가_HashSet과_같다() {
+            int universe = 10_000;
+            SplittableRandom random = new SplittableRandom(42);
+            Set<Integer> a = new HashSet<>();
+            Set<Integer> b = new HashSet<>();
+            DenseIntSet da = new DenseIntSet(universe);
+            DenseIntSet db = new DenseIntSet(universe);
+            for (int i = 0; i < 5_000; i++) {
+                int x = random.nextInt(universe);
+                int y = random.nextInt(universe);
+                a.add(x);
+                da.add(x);
+                b.add(y);
+                db.add(y);
+            }
+
+            Set<Integer> union = new HashSet<>(a);
+            Set<Integer> intersection = new HashSet<>(a);
+            Set<Integer> difference = new HashSet<>(a);
+            DenseIntSet dUnion = da.copy();
+            DenseIntSet dIntersection = da.copy();
+            DenseIntSet dDifference = da.copy();
+
+            assertThat(dUnion.union(db)).isEqualTo(union.addAll(b));
+            assertThat(dIntersection.intersect(db)).isEqualTo(intersection.retainAll(b));
+            assertThat(dDifference.subtract(db)).isEqualTo(difference.removeAll(b));
+
+            assertThat(dUnion.cardinality()).isEqualTo(union.size());
+            assertThat(dIntersection.toArray()).containsExactly(sorted(intersection));
+            assertThat(dDifference.toArray()).containsExactly(sorted(difference));
+        }
+
+        private int[] sorted(Set<Integer> set) {
+            return set.stream().mapToInt(Integer::intValue).sorted().toArray();
+        }
+    }
+
+    @Nested
+    class 순회_방법 {
+
+        @Test
+        void forEach는_오름차순() {
+            DenseIntSet set = of(300, 250, 3, 64, 128);
+            List<Integer> visited = new ArrayList<>();
+
+            set.forEach(visited::add);
+
+            assertThat(visited).containsExactly(3, 64, 128, 250);
+        }
+
+        @Test
+        void nextSetBit로_순회() {
+            DenseIntSet set = of(300, 250, 3, 64, 128);
+            List<Integer> visited = new ArrayList<>();
+
+            for (int x = set.nextSetBit(0); x >= 0; x = set.nextSetBit(x + 1)) {
+                visited.add(x);
+            }
+
+            assertThat(visited).containsExactly(3, 64, 128, 250);
+        }
+    }
+
+    @Nested
+    class PS_실전_패턴 {
+
+        @Test
+        void 두_정점의_공통_이웃_수() {
+            // 인접 집합을 비트셋으로 두면 공통 이웃 = AND 후 bitCount
+            int n = 6;
+            DenseIntSet neighborsOf1 = of(n, 0, 2, 3, 5);
+            DenseIntSet neighborsOf4 = of(n, 2, 3);
+
+            DenseIntSet common = neighborsOf1.copy();
+            common.intersect(neighborsOf4);
+
+            assertThat(common.cardinality()).isEqualTo(2);
+        }
+
+        @Test
+        void 방문_체크_visited() {
+            DenseIntSet visited = new DenseIntSet(10);
+            int[] nodes = {1, 2, 3, 2, 4, 1};
+
+            List<Integer> firstVisitOrder = new ArrayList<>();
+            for (int node : nodes) {
+                if (visited.add(node)) {
+                    firstVisitOrder.add(node);
+                }
+            }
+
+            assertThat(firstVisitOrder).containsExactly(1, 2, 3, 4);
+        }
+    }
+}
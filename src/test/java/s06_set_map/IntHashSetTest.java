@@ -0,0 +1,285 @@
+package s06_set_map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * IntHashSet 학습 테스트
+ *
+ * HashSet<Integer>와 같은 의미로 동작하는지 확인한다 (HashSetTest와 같은 구성).
+ *
+ * 차이점:
+ * - 박싱 없음 → 원소당 메모리 약 50바이트 → 약 5~10바이트
+ * - Set 인터페이스가 아님 → assertThat(set).contains(...) 대신 toArray()로 비교
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class IntHashSetTest {
+
+    @Nested
+    class 기본_사용법 {
+
+        @Test
+        void add로_요소를_추가한다() {
+            IntHashSet set = new IntHashSet();
+
+            set.add(1);
+            set.add(2);
+            set.add(3);
+
+            assertThat(set.size()).isEqualTo(3);
+            assertThat(set.toArray()).containsExactlyInAnyOrder(1, 2, 3);
+        }
+
+        @Test
+        void 중복_요소는_추가되지_않는다() {
+            IntHashSet set = new IntHashSet();
+
+            set.add(1);
+            set.add(1);
+            set.add(1);
+
+            assertThat(set.size()).isEqualTo(1);
+        }
+
+        @Test
+        void contains로_존재_여부를_확인한다() {
+            IntHashSet set = new IntHashSet();
+            set.add(10);
+            set.add(20);
+
+            assertThat(set.contains(10)).isTrue();
+            assertThat(set.contains(30)).isFalse();
+        }
+
+        @Test
+        void size와_isEmpty() {
+            IntHashSet set = new IntHashSet();
+
+            assertThat(set.isEmpty()).isTrue();
+            assertThat(set.size()).isZero();
+
+            set.add(1);
+
+            assertThat(set.isEmpty()).isFalse();
+            assertThat(set.size()).isEqualTo(1);
+        }
+
+        @Test
+        void clear로_모든_요소를_삭제한다() {
+            IntHashSet set = new IntHashSet();
+            set.add(0);
+            set.add(1);
+            set.add(2);
+
+            set.clear();
+
+            assertThat(set.isEmpty()).isTrue();
+            assertThat(set.contains(0)).isFalse();
+        }
+    }
+
+    // HashSetTest.add_반환값_핵심과 같은 반환값
+    @Nested
+    class add_반환값_핵심 {
+
+        @Test
+        void add는_새_요소면_true를_반환한다() {
+            IntHashSet set = new IntHashSet();
+
+            assertThat(set.add(1)).isTrue();
+        }
+
+        @Test
+        void add는_이미_있는_요소면_false를_반환한다() {
+            IntHashSet set = new IntHashSet();
+            set.add(1);
+
+            assertThat(set.add(1)).isFalse();
+        }
+
+        @Test
+        void add_반환값으로_중복_체크_패턴() {
+            IntHashSet set = new IntHashSet();
+            int[] arr = {1, 2, 2, 3, 3, 3};
+
+            int duplicateCount = 0;
+            for (int num : arr) {
+                if (!set.add(num)) {
+                    duplicateCount++;
+                }
+            }
+
+            assertThat(duplicateCount).isEqualTo(3);
+        }
+
+        @Test
+        void 반환값은_HashSet과_항상_같다() {
+            Set<Integer> expected = new HashSet<>();
+            IntHashSet actual = new IntHashSet();
+            SplittableRandom random = new SplittableRandom(42);
+
+            for (int i = 0; i < 10_000; i++) {
+                int key = random.nextInt(-500, 500);
+                assertThat(actual.add(key)).isEqualTo(expected.add(key));
+            }
+            assertThat(actual.size()).isEqualTo(expected.size());
+        }
+    }
+
+    @Nested
+    class remove_동작 {
+
+        @Test
+        void remove는_삭제_성공시_true_반환() {
+            IntHashSet set = new IntHashSet();
+            set.add(1);
+
+            assertThat(set.remove(1)).isTrue();
+            assertThat(set.contains(1)).isFalse();
+        }
+
+        @Test
+        void remove는_없는_요소면_false_반환() {
+            IntHashSet set = new IntHashSet();
+
+            assertThat(set.remove(1)).isFalse();
+        }
+
+        @Test
+        void 삭제_후에도_충돌로_밀려난_요소를_찾는다() {
+            // 선형 탐사: 같은 칸을 노리는 키들이 줄지어 저장된다
+            // 앞쪽 키를 지워도 뒤쪽 키를 계속 찾을 수 있어야 한다
+            IntHashSet set = new IntHashSet(4);
+            for (int i = 1; i <= 100; i++) {
+                set.add(i);
+            }
+
+            for (int i = 1; i <= 100; i += 2) {
+                set.remove(i);
+            }
+
+            for (int i = 1; i <= 100; i++) {
+                assertThat(set.contains(i)).isEqualTo(i % 2 == 0);
+            }
+            assertThat(set.size()).isEqualTo(50);
+        }
+
+        @Test
+        void 추가_삭제를_섞어도_HashSet과_같은_결과() {
+            Set<Integer> expected = new HashSet<>();
+            IntHashSet actual = new IntHashSet();
+            SplittableRandom random = new SplittableRandom(7);
+
+            for (int i = 0; i < 100_000; i++) {
+                int key = random.nextInt(-1000, 1000);
+                if (random.nextBoolean()) {
+                    assertThat(actual.add(key)).isEqualTo(expected.add(key));
+                } else {
+                    assertThat(actual.remove(key)).isEqualTo(expected.remove(key));
+                }
+            }
+
+            assertThat(actual.toArray())
+                    .containsExactlyInAnyOrder(
+                            expected.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+    // 0은 내부에서 빈 칸 표시로 쓰지만, 원소로도 정상 동작해야 한다
+    @Nested
+    class 특수_값 {
+
+        @Test
+        void _0도_원소로_추가하고_삭제한다() {
+            IntHashSet set = new IntHashSet();
+
+            assertThat(set.add(0)).isTrue();
+            assertThat(set.add(0)).isFalse();
+            assertThat(set.contains(0)).isTrue();
+            assertThat(set.toArray()).containsExactly(0);
+
+            assertThat(set.remove(0)).isTrue();
+            assertThat(set.contains(0)).isFalse();
+        }
+
+        @Test
+        void 음수와_경계값도_저장한다() {
+            IntHashSet set = new IntHashSet();
+
+            set.add(-1);
+            set.add(Integer.MIN_VALUE);
+            set.add(Integer.MAX_VALUE);
+
+            assertThat(set.toArray()).containsExactlyInAnyOrder(-1, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+    }
+
+    // HashSetTest.PS_실전_패턴을 박싱 없이
+    @Nested
+    class PS_실전_패턴 {
+
+        @Test
+        void 배열에서_중복_제거() {
+            int[] arr = {1, 2, 2, 3, 3, 3, 4};
+            IntHashSet set = new IntHashSet(arr.length);
+
+            for (int num : arr) {
+                set.add(num);
+            }
+
+            assertThat(set.size()).isEqualTo(4);
+            assertThat(set.toArray()).containsExactlyInAnyOrder(1, 2, 3, 4);
+        }
+
+        @Test
+        void 중복_없는_개수_세기() {
+            int[] arr = {1, 2, 2, 3, 3, 3};
+            IntHashSet set = new IntHashSet();
+
+            for (int num : arr) {
+                set.add(num);
+            }
+
+            assertThat(set.size()).isEqualTo(3);
+        }
+
+        @Test
+        void 방문_체크_visited() {
+            IntHashSet visited = new IntHashSet();
+            int[] nodes = {1, 2, 3, 2, 4, 1};
+
+            List<Integer> firstVisitOrder = new ArrayList<>();
+            for (int node : nodes) {
+                if (visited.add(node)) {
+                    firstVisitOrder.add(node);
+                }
+            }
+
+            assertThat(firstVisitOrder).containsExactly(1, 2, 3, 4);
+        }
+
+        @Test
+        void 크기를_알면_처음부터_용량_지정() {
+            // 용량을 지정하면 rehash(배열 재할당 + 전체 재배치)가 일어나지 않는다
+            int n = 1_000_000;
+            IntHashSet set = new IntHashSet(n);
+
+            for (int i = 0; i < n; i++) {
+                set.add(i * 7);
+            }
+
+            assertThat(set.size()).isEqualTo(n);
+            assertThat(set.contains(7 * 999_999)).isTrue();
+            assertThat(set.contains(7 * 999_999 + 1)).isFalse();
+        }
+    }
+}
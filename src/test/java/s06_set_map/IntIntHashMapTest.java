@@ -0,0 +1,269 @@
+package s06_set_map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * IntIntHashMap 학습 테스트
+ *
+ * HashMap<Integer, Integer>의 카운팅/기본값/메모이제이션 패턴과 같은 결과를 내는지 확인한다.
+ * - merge(key, 1, Integer::sum) → addTo(key, 1)
+ * - getOrDefault(key, 0) → getOrDefault(key, 0)
+ * - computeIfAbsent(key, f) → computeIfAbsent(key, f)
+ *
+ * 속도와 메모리 차이: IntIntHashMapBenchmark (10^6개 서로 다른 키)
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class IntIntHashMapTest {
+
+    @Nested
+    class 기본_사용법 {
+
+        @Test
+        void put과_getOrDefault() {
+            IntIntHashMap map = new IntIntHashMap();
+
+            map.put(1, 100);
+            map.put(2, 200);
+
+            assertThat(map.getOrDefault(1, -1)).isEqualTo(100);
+            assertThat(map.getOrDefault(3, -1)).isEqualTo(-1);
+            assertThat(map.size()).isEqualTo(2);
+        }
+
+        @Test
+        void put은_이전_값이_있었는지_반환한다() {
+            IntIntHashMap map = new IntIntHashMap();
+
+            assertThat(map.put(1, 100)).isFalse();
+            assertThat(map.put(1, 200)).isTrue();
+
+            assertThat(map.getOrDefault(1, -1)).isEqualTo(200);
+            assertThat(map.size()).isEqualTo(1);
+        }
+
+        @Test
+        void containsKey로_값_0과_없음을_구분한다() {
+            // getOrDefault(key, 0)만으로는 "값이 0"과 "키 없음"을 구분할 수 없다
+            IntIntHashMap map = new IntIntHashMap();
+            map.put(5, 0);
+
+            assertThat(map.getOrDefault(5, 0)).isEqualTo(map.getOrDefault(6, 0));
+            assertThat(map.containsKey(5)).isTrue();
+            assertThat(map.containsKey(6)).isFalse();
+        }
+
+        @Test
+        void clear로_모든_키를_삭제한다() {
+            IntIntHashMap map = new IntIntHashMap();
+            map.put(0, 1);
+            map.put(1, 2);
+
+            map.clear();
+
+            assertThat(map.isEmpty()).isTrue();
+            assertThat(map.containsKey(0)).isFalse();
+            assertThat(map.containsKey(1)).isFalse();
+        }
+    }
+
+    // HashMap.merge(key, 1, Integer::sum) 대체
+    @Nested
+    class addTo_카운팅_핵심 {
+
+        @Test
+        void 없던_키는_0에서_시작한다() {
+            IntIntHashMap map = new IntIntHashMap();
+
+            assertThat(map.addTo(7, 1)).isEqualTo(1);
+            assertThat(map.addTo(7, 1)).isEqualTo(2);
+            assertThat(map.addTo(7, -5)).isEqualTo(-3);
+        }
+
+        @Test
+        void 빈도수_세기() {
+            int[] arr = {1, 2, 2, 3, 3, 3};
+            IntIntHashMap count = new IntIntHashMap();
+
+            for (int num : arr) {
+                count.addTo(num, 1);
+            }
+
+            assertThat(count.getOrDefault(1, 0)).isEqualTo(1);
+            assertThat(count.getOrDefault(2, 0)).isEqualTo(2);
+            assertThat(count.getOrDefault(3, 0)).isEqualTo(3);
+            assertThat(count.getOrDefault(4, 0)).isZero();
+        }
+
+        @Test
+        void 구간_합이_k인_부분배열_개수() {
+            // prefix sum 카운팅: count[sum - k]만큼 답에 더한다
+            int[] arr = {1, 1, 1};
+            int k = 2;
+            IntIntHashMap prefixCount = new IntIntHashMap();
+            prefixCount.put(0, 1);
+
+            int sum = 0;
+            int answer = 0;
+            for (int num : arr) {
+                sum += num;
+                answer += prefixCount.getOrDefault(sum - k, 0);
+                prefixCount.addTo(sum, 1);
+            }
+
+            assertThat(answer).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    class computeIfAbsent_메모이제이션 {
+
+        @Test
+        void 없을_때만_계산한다() {
+            IntIntHashMap map = new IntIntHashMap();
+            int[] calls = {0};
+
+            int first = map.computeIfAbsent(3, k -> {
+                calls[0]++;
+                return k * k;
+            });
+            int second = map.computeIfAbsent(3, k -> {
+                calls[0]++;
+                return -1;
+            });
+
+            assertThat(first).isEqualTo(9);
+            assertThat(second).isEqualTo(9);
+            assertThat(calls[0]).isEqualTo(1);
+        }
+
+        @Test
+        void 재귀_메모이제이션에서_맵을_수정해도_된다() {
+            // HashMap.computeIfAbsent 안에서 같은 맵을 수정하면 ConcurrentModificationException
+            IntIntHashMap memo = new IntIntHashMap(4);
+
+            assertThat(fib(memo, 40)).isEqualTo(102_334_155);
+            assertThat(memo.size()).isEqualTo(39); // n = 2..40
+        }
+
+        private int fib(IntIntHashMap memo, int n) {
+            if (n < 2) {
+                return n;
+            }
+            return memo.computeIfAbsent(n, k -> fib(memo, k - 1) + fib(memo, k - 2));
+        }
+    }
+
+    @Nested
+    class remove_동작 {
+
+        @Test
+        void remove는_삭제_성공시_true_반환() {
+            IntIntHashMap map = new IntIntHashMap();
+            map.put(1, 10);
+
+            assertThat(map.remove(1)).isTrue();
+            assertThat(map.remove(1)).isFalse();
+            assertThat(map.containsKey(1)).isFalse();
+        }
+
+        @Test
+        void 삭제_후에도_다른_키의_값이_유지된다() {
+            IntIntHashMap map = new IntIntHashMap(4);
+            for (int i = 1; i <= 100; i++) {
+                map.put(i, i * 10);
+            }
+
+            for (int i = 1; i <= 100; i += 2) {
+                map.remove(i);
+            }
+
+            for (int i = 2; i <= 100; i += 2) {
+                assertThat(map.getOrDefault(i, -1)).isEqualTo(i * 10);
+            }
+            assertThat(map.size()).isEqualTo(50);
+        }
+    }
+
+    @Nested
+    class 특수_값 {
+
+        @Test
+        void _0도_키로_쓸_수_있다() {
+            IntIntHashMap map = new IntIntHashMap();
+
+            assertThat(map.addTo(0, 5)).isEqualTo(5);
+            assertThat(map.addTo(0, 5)).isEqualTo(10);
+            assertThat(map.keys()).containsExactly(0);
+
+            assertThat(map.remove(0)).isTrue();
+            assertThat(map.getOrDefault(0, -1)).isEqualTo(-1);
+        }
+
+        @Test
+        void 음수와_경계값도_키로_쓴다() {
+            IntIntHashMap map = new IntIntHashMap();
+
+            map.put(Integer.MIN_VALUE, 1);
+            map.put(Integer.MAX_VALUE, 2);
+            map.put(-1, 3);
+
+            assertThat(map.keys()).containsExactlyInAnyOrder(Integer.MIN_VALUE, Integer.MAX_VALUE, -1);
+            assertThat(map.getOrDefault(Integer.MIN_VALUE, 0)).isEqualTo(1);
+        }
+    }
+
+    // 10^6개 서로 다른 키: HashMap<Integer, Integer>와 같은 결과
+    @Nested
+    class HashMap과_비교 {
+
+        @Test
+        void 백만개_키_카운팅_결과가_같다() {
+            int n = 1_000_000;
+            SplittableRandom random = new SplittableRandom(42);
+            Map<Integer, Integer> expected = new HashMap<>();
+            IntIntHashMap actual = new IntIntHashMap();
+
+            for (int i = 0; i < n; i++) {
+                int key = random.nextInt();
+                expected.merge(key, 1, Integer::sum);
+                actual.addTo(key, 1);
+            }
+            for (int i = 0; i < n; i++) {
+                int key = i * 31;
+                expected.merge(key, i, Integer::sum);
+                actual.addTo(key, i);
+            }
+
+            assertThat(actual.size()).isEqualTo(expected.size());
+            actual.forEach((key, value) -> assertThat(expected.get(key)).isEqualTo(value));
+        }
+
+        @Test
+        void 추가_삭제를_섞어도_같은_결과() {
+            SplittableRandom random = new SplittableRandom(7);
+            Map<Integer, Integer> expected = new HashMap<>();
+            IntIntHashMap actual = new IntIntHashMap();
+
+            for (int i = 0; i < 100_000; i++) {
+                int key = random.nextInt(-1000, 1000);
+                if (random.nextInt(3) == 0) {
+                    assertThat(actual.remove(key)).isEqualTo(expected.remove(key) != null);
+                } else {
+                    assertThat(actual.addTo(key, i)).isEqualTo(expected.merge(key, i, Integer::sum));
+                }
+            }
+
+            assertThat(actual.size()).isEqualTo(expected.size());
+            expected.forEach(
+                    (key, value) -> assertThat(actual.getOrDefault(key, -1)).isEqualTo(value));
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package s06_set_map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * IntLinkedHashSet 학습 테스트
+ *
+ * LinkedHashSetTest와 같은 결과를 박싱 없이 확인한다.
+ * - 삽입 순서 유지, 재삽입해도 순서 안 바뀜
+ * - 삭제는 묘비 + 주기적 압축 → 순서는 그대로
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class IntLinkedHashSetTest {
+
+    // LinkedHashSetTest.LinkedHashSet_기본
+    @Nested
+    class 삽입_순서_유지 {
+
+        @Test
+        void 삽입_순서가_유지된다() {
+            IntLinkedHashSet set = new IntLinkedHashSet();
+
+            set.add(3);
+            set.add(1);
+            set.add(2);
+
+            assertThat(set.toArray()).containsExactly(3, 1, 2);
+        }
+
+        @Test
+        void 이미_있는_요소_추가해도_순서_안_바뀜() {
+            IntLinkedHashSet set = new IntLinkedHashSet();
+            set.add(3);
+            set.add(1);
+            set.add(2);
+
+            assertThat(set.add(3)).isFalse();
+
+            assertThat(set.toArray()).containsExactly(3, 1, 2);
+        }
+
+        @Test
+        void 중복_제거하면서_순서_유지() {
+            int[] withDuplicates = {3, 1, 2, 3, 1, 4, 2, 5};
+            IntLinkedHashSet unique = new IntLinkedHashSet();
+
+            for (int x : withDuplicates) {
+                unique.add(x);
+            }
+
+            assertThat(unique.toArray()).containsExactly(3, 1, 2, 4, 5); // 첫 등장 순서!
+        }
+
+        @Test
+        void _0과_음수도_순서대로() {
+            IntLinkedHashSet set = new IntLinkedHashSet();
+
+            set.add(0);
+            set.add(-5);
+            set.add(Integer.MIN_VALUE);
+
+            assertThat(set.toArray()).containsExactly(0, -5, Integer.MIN_VALUE);
+        }
+    }
+
+    @Nested
+    class 순회_방법 {
+
+        @Test
+        void forEach는_삽입_순서() {
+            IntLinkedHashSet set = new IntLinkedHashSet();
+            set.add(30);
+            set.add(10);
+            set.add(20);
+            List<Integer> visited = new ArrayList<>();
+
+            set.forEach(visited::add);
+
+            assertThat(visited).containsExactly(30, 10, 20);
+        }
+
+        @Test
+        void iterator의_nextInt는_박싱_없이_순회() {
+            IntLinkedHashSet set = new IntLinkedHashSet();
+            set.add(30);
+            set.add(10);
+            set.add(20);
+            set.remove(30);
+
+            PrimitiveIterator.OfInt it = set.iterator();
+            int sum = 0;
+            int count = 0;
+            while (it.hasNext()) {
+                sum += it.nextInt();
+                count++;
+            }
+
+            assertThat(count).isEqualTo(2);
+            assertThat(sum).isEqualTo(30);
+        }
+    }
+
+    @Nested
+    class remove_동작 {
+
+        @Test
+        void 삭제해도_나머지_순서는_유지된다() {
+            IntLinkedHashSet set = new IntLinkedHashSet();
+            for (int x : new int[] {5, 4, 3, 2, 1}) {
+                set.add(x);
+            }
+
+            assertThat(set.remove(3)).isTrue();
+            assertThat(set.remove(3)).isFalse();
+
+            assertThat(set.toArray()).containsExactly(5, 4, 2, 1);
+        }
+
+        @Test
+        void 삭제_후_다시_넣으면_맨_뒤로_간다() {
+            // LinkedHashSet도 remove 후 add하면 맨 뒤
+            IntLinkedHashSet set = new IntLinkedHashSet();
+            set.add(1);
+            set.add(2);
+            set.add(3);
+
+            set.remove(1);
+            set.add(1);
+
+            assertThat(set.toArray()).containsExactly(2, 3, 1);
+        }
+
+        @Test
+        void 압축이_여러_번_일어나도_순서가_유지된다() {
+            IntLinkedHashSet set = new IntLinkedHashSet();
+            for (int i = 0; i < 10_000; i++) {
+                set.add(i);
+            }
+
+            for (int i = 0; i < 10_000; i++) {
+                if (i % 10 != 0) {
+                    set.remove(i);
+                }
+            }
+
+            int[] expected = new int[1_000];
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = i * 10;
+            }
+            assertThat(set.toArray()).containsExactly(expected);
+            assertThat(set.contains(9_990)).isTrue();
+            assertThat(set.contains(9_991)).isFalse();
+        }
+
+        @Test
+        void 무작위_추가_삭제_결과가_LinkedHashSet과_같다() {
+            SplittableRandom random = new SplittableRandom(42);
+            Set<Integer> expected = new LinkedHashSet<>();
+            IntLinkedHashSet actual = new IntLinkedHashSet();
+
+            for (int i = 0; i < 200_000; i++) {
+                int key = random.nextInt(-2_000, 2_000);
+                if (random.nextInt(3) == 0) {
+                    assertThat(actual.remove(key)).isEqualTo(expected.remove(key));
+                } else {
+                    assertThat(actual.add(key)).isEqualTo(expected.add(key));
+                }
+            }
+
+            assertThat(actual.size()).isEqualTo(expected.size());
+            assertThat(actual.toArray())
+                    .containsExactly(
+                            expected.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+    @Nested
+    class PS_실전_패턴 {
+
+        @Test
+        void 천만개_순서_유지_중복_제거() {
+            // LinkedHashSet<Integer>로는 힙 600MB 이상, IntLinkedHashSet은 약 100MB
+            int n = 10_000_000;
+            IntLinkedHashSet unique = new IntLinkedHashSet();
+
+            for (int i = 0; i < n; i++) {
+                unique.add((int) ((i * 2_654_435_761L) % (n / 2))); // 0..n/2-1 각 2번씩
+            }
+
+            assertThat(unique.size()).isEqualTo(n / 2);
+            assertThat(unique.iterator().nextInt()).isZero();
+        }
+    }
+}
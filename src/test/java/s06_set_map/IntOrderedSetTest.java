@@ -0,0 +1,267 @@
+package s06_set_map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * IntOrderedSet 학습 테스트
+ *
+ * TreeSetTest와 같은 질문을 [0, universe) 범위의 비트셋으로 확인한다.
+ * - TreeSet이 null을 반환하는 자리에서 NONE(-1)을 반환한다
+ * - first/last는 TreeSet처럼 비어있으면 NoSuchElementException
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class IntOrderedSetTest {
+
+    private static final int NONE = IntOrderedSet.NONE;
+
+    @Nested
+    class 기본_사용법 {
+
+        @Test
+        void add_반환값은_TreeSet과_같다() {
+            IntOrderedSet set = new IntOrderedSet(100);
+
+            assertThat(set.add(30)).isTrue();
+            assertThat(set.add(30)).isFalse();
+            assertThat(set.size()).isEqualTo(1);
+        }
+
+        @Test
+        void remove_반환값은_TreeSet과_같다() {
+            IntOrderedSet set = new IntOrderedSet(100);
+            set.add(30);
+
+            assertThat(set.remove(30)).isTrue();
+            assertThat(set.remove(30)).isFalse();
+            assertThat(set.contains(30)).isFalse();
+            assertThat(set.isEmpty()).isTrue();
+        }
+
+        @Test
+        void 범위_밖의_값은_추가할_수_없다() {
+            IntOrderedSet set = new IntOrderedSet(100);
+
+            assertThatThrownBy(() -> set.add(100)).isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatThrownBy(() -> set.add(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+            assertThat(set.contains(100)).isFalse();
+        }
+    }
+
+    // TreeSetTest.first_last_최소_최대
+    @Nested
+    class first_last_최소_최대 {
+
+        @Test
+        void first와_last() {
+            IntOrderedSet set = new IntOrderedSet(100);
+            set.add(30);
+            set.add(10);
+            set.add(20);
+
+            assertThat(set.first()).isEqualTo(10);
+            assertThat(set.last()).isEqualTo(30);
+        }
+
+        @Test
+        void 비어있으면_NoSuchElementException() {
+            IntOrderedSet set = new IntOrderedSet(100);
+
+            assertThatThrownBy(set::first).isInstanceOf(NoSuchElementException.class);
+            assertThatThrownBy(set::last).isInstanceOf(NoSuchElementException.class);
+        }
+
+        @Test
+        void pollFirst는_최솟값을_꺼내고_삭제() {
+            IntOrderedSet set = new IntOrderedSet(100);
+            set.add(30);
+            set.add(10);
+            set.add(20);
+
+            assertThat(set.pollFirst()).isEqualTo(10);
+            assertThat(set.pollLast()).isEqualTo(30);
+            assertThat(set.size()).isEqualTo(1);
+        }
+
+        @Test
+        void poll은_비어있으면_NONE_반환() {
+            IntOrderedSet set = new IntOrderedSet(100);
+
+            assertThat(set.pollFirst()).isEqualTo(NONE);
+            assertThat(set.pollLast()).isEqualTo(NONE);
+        }
+    }
+
+    // TreeSetTest.floor_ceiling_lower_higher_핵심
+    @Nested
+    class floor_ceiling_lower_higher_핵심 {
+
+        IntOrderedSet createSet() {
+            IntOrderedSet set = new IntOrderedSet(100);
+            set.add(10);
+            set.add(20);
+            set.add(30);
+            set.add(40);
+            set.add(50);
+            return set;
+            // set = {10, 20, 30, 40, 50}
+        }
+
+        @Test
+        void floor는_이하_중_최대_x_포함() {
+            IntOrderedSet set = createSet();
+
+            assertThat(set.floor(30)).isEqualTo(30);
+            assertThat(set.floor(35)).isEqualTo(30);
+            assertThat(set.floor(25)).isEqualTo(20);
+        }
+
+        @Test
+        void ceiling은_이상_중_최소_x_포함() {
+            IntOrderedSet set = createSet();
+
+            assertThat(set.ceiling(30)).isEqualTo(30);
+            assertThat(set.ceiling(25)).isEqualTo(30);
+            assertThat(set.ceiling(35)).isEqualTo(40);
+        }
+
+        @Test
+        void lower는_미만_중_최대_x_미포함() {
+            IntOrderedSet set = createSet();
+
+            assertThat(set.lower(30)).isEqualTo(20);
+            assertThat(set.lower(35)).isEqualTo(30);
+            assertThat(set.lower(31)).isEqualTo(30);
+        }
+
+        @Test
+        void higher는_초과_중_최소_x_미포함() {
+            IntOrderedSet set = createSet();
+
+            assertThat(set.higher(30)).isEqualTo(40);
+            assertThat(set.higher(25)).isEqualTo(30);
+            assertThat(set.higher(29)).isEqualTo(30);
+        }
+
+        @Test
+        void 없으면_NONE_반환() {
+            IntOrderedSet set = createSet();
+            // set = {10, 20, 30, 40, 50}, TreeSet이면 모두 null
+
+            assertThat(set.floor(5)).isEqualTo(NONE);
+            assertThat(set.ceiling(55)).isEqualTo(NONE);
+            assertThat(set.lower(10)).isEqualTo(NONE);
+            assertThat(set.higher(50)).isEqualTo(NONE);
+        }
+
+        @Test
+        void 범위_밖의_질의도_TreeSet처럼_답한다() {
+            IntOrderedSet set = createSet();
+
+            assertThat(set.floor(1_000)).isEqualTo(50);
+            assertThat(set.ceiling(-1_000)).isEqualTo(10);
+            assertThat(set.higher(Integer.MAX_VALUE)).isEqualTo(NONE);
+            assertThat(set.lower(Integer.MIN_VALUE)).isEqualTo(NONE);
+        }
+    }
+
+    // 64칸 단위 경계, 여러 단계를 건너뛰는 탐색
+    @Nested
+    class 다단계_탐색 {
+
+        @Test
+        void 멀리_떨어진_원소를_찾는다() {
+            IntOrderedSet set = new IntOrderedSet(1_000_000);
+            set.add(3);
+            set.add(999_999);
+
+            assertThat(set.ceiling(4)).isEqualTo(999_999);
+            assertThat(set.floor(999_998)).isEqualTo(3);
+        }
+
+        @Test
+        void 칸_경계_63과_64() {
+            IntOrderedSet set = new IntOrderedSet(200);
+            set.add(63);
+            set.add(64);
+
+            assertThat(set.ceiling(0)).isEqualTo(63);
+            assertThat(set.higher(63)).isEqualTo(64);
+            assertThat(set.lower(64)).isEqualTo(63);
+
+            set.remove(63);
+            assertThat(set.floor(63)).isEqualTo(NONE);
+            assertThat(set.first()).isEqualTo(64);
+        }
+
+        @Test
+        void 무작위_연산_결과가_TreeSet과_같다() {
+            int universe = 100_000;
+            IntOrderedSet actual = new IntOrderedSet(universe);
+            TreeSet<Integer> expected = new TreeSet<>();
+            SplittableRandom random = new SplittableRandom(42);
+
+            for (int i = 0; i < 200_000; i++) {
+                int x = random.nextInt(universe);
+                switch (random.nextInt(6)) {
+                    case 0:
+                    case 1:
+                        assertThat(actual.add(x)).isEqualTo(expected.add(x));
+                        break;
+                    case 2:
+                        assertThat(actual.remove(x)).isEqualTo(expected.remove(x));
+                        break;
+                    case 3:
+                        assertThat(actual.floor(x)).isEqualTo(orNone(expected.floor(x)));
+                        break;
+                    case 4:
+                        assertThat(actual.ceiling(x)).isEqualTo(orNone(expected.ceiling(x)));
+                        break;
+                    default:
+                        assertThat(actual.lower(x)).isEqualTo(orNone(expected.lower(x)));
+                        assertThat(actual.higher(x)).isEqualTo(orNone(expected.higher(x)));
+                }
+            }
+
+            assertThat(actual.size()).isEqualTo(expected.size());
+        }
+
+        private int orNone(Integer value) {
+            return value == null ? NONE : value;
+        }
+    }
+
+    @Nested
+    class PS_실전_패턴 {
+
+        @Test
+        void 빈_자리_중_가장_가까운_자리_배정() {
+            // 원하는 번호 이상에서 가장 작은 빈 자리 (없으면 배정 실패)
+            int seats = 5;
+            IntOrderedSet empty = new IntOrderedSet(seats);
+            for (int i = 0; i < seats; i++) {
+                empty.add(i);
+            }
+            int[] wanted = {2, 2, 4, 4, 0};
+            int[] assigned = new int[wanted.length];
+
+            for (int i = 0; i < wanted.length; i++) {
+                int seat = empty.ceiling(wanted[i]);
+                if (seat != NONE) {
+                    empty.remove(seat);
+                }
+                assigned[i] = seat;
+            }
+
+            assertThat(assigned).containsExactly(2, 3, 4, NONE, 0);
+        }
+    }
+}
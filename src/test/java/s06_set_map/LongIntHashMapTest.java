@@ -0,0 +1,168 @@
+package s06_set_map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LongIntHashMap 학습 테스트
+ *
+ * HashMap<Long, Integer> 패턴과 같은 결과를 내는지 확인한다.
+ * 메서드는 IntIntHashMap과 같으므로 long 키에서 달라지는 부분 위주로 본다.
+ *
+ * 속도와 메모리 차이: IntIntHashMapBenchmark (10^6개 서로 다른 키)
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class LongIntHashMapTest {
+
+    @Nested
+    class 기본_사용법 {
+
+        @Test
+        void put과_getOrDefault() {
+            LongIntHashMap map = new LongIntHashMap();
+
+            map.put(10_000_000_000L, 1);
+            map.put(-10_000_000_000L, 2);
+
+            assertThat(map.getOrDefault(10_000_000_000L, -1)).isEqualTo(1);
+            assertThat(map.getOrDefault(-10_000_000_000L, -1)).isEqualTo(2);
+            assertThat(map.getOrDefault(1, -1)).isEqualTo(-1);
+        }
+
+        @Test
+        void 하위_32비트가_같아도_다른_키다() {
+            // (int) 캐스팅으로 키를 줄이면 충돌하는 값들
+            LongIntHashMap map = new LongIntHashMap();
+            long low = 5;
+            long high = (1L << 32) | 5;
+
+            map.put(low, 1);
+            map.put(high, 2);
+
+            assertThat(map.size()).isEqualTo(2);
+            assertThat(map.getOrDefault(low, 0)).isEqualTo(1);
+            assertThat(map.getOrDefault(high, 0)).isEqualTo(2);
+        }
+
+        @Test
+        void _0과_경계값도_키로_쓴다() {
+            LongIntHashMap map = new LongIntHashMap();
+
+            map.addTo(0, 3);
+            map.addTo(Long.MIN_VALUE, 4);
+            map.addTo(Long.MAX_VALUE, 5);
+
+            assertThat(map.keys()).containsExactlyInAnyOrder(0L, Long.MIN_VALUE, Long.MAX_VALUE);
+            assertThat(map.remove(0)).isTrue();
+            assertThat(map.containsKey(0)).isFalse();
+        }
+    }
+
+    @Nested
+    class PS_실전_패턴 {
+
+        @Test
+        void 좌표_쌍_방문_횟수() {
+            // (x, y)를 하나의 long 키로 합친다 → Map<List<Integer>, Integer>나 문자열 키 불필요
+            int[][] points = {{1, 2}, {-3, 4}, {1, 2}, {1_000_000_000, -1_000_000_000}, {1, 2}};
+            LongIntHashMap count = new LongIntHashMap();
+
+            for (int[] p : points) {
+                count.addTo(pack(p[0], p[1]), 1);
+            }
+
+            assertThat(count.size()).isEqualTo(3);
+            assertThat(count.getOrDefault(pack(1, 2), 0)).isEqualTo(3);
+            assertThat(count.getOrDefault(pack(1_000_000_000, -1_000_000_000), 0))
+                    .isEqualTo(1);
+            assertThat(count.getOrDefault(pack(2, 1), 0)).isZero();
+        }
+
+        @Test
+        void 두_int를_묶을_때_아래쪽은_마스크해야_한다() {
+            // (long) a << 32 | b: 음수 b가 부호 확장되어 위 32비트를 모두 1로 덮는다
+            assertThat((long) 0 << 32 | -1).isEqualTo((long) -1 << 32 | -1);
+            assertThat(pack(0, -1)).isNotEqualTo(pack(-1, -1));
+
+            LongIntHashMap count = new LongIntHashMap();
+            count.addTo(pack(0, -1), 1);
+            count.addTo(pack(-1, -1), 1);
+
+            assertThat(count.size()).isEqualTo(2);
+        }
+
+        @Test
+        void 재귀_메모이제이션() {
+            // 콜라츠 수열 길이: 중간 값이 int 범위를 넘는다
+            LongIntHashMap memo = new LongIntHashMap();
+
+            assertThat(collatzLength(memo, 27)).isEqualTo(112);
+            assertThat(memo.containsKey(9232)).isTrue();
+        }
+
+        private long pack(int x, int y) {
+            return (long) x << 32 | (y & 0xFFFFFFFFL);
+        }
+
+        private int collatzLength(LongIntHashMap memo, long n) {
+            if (n == 1) {
+                return 1;
+            }
+            return memo.computeIfAbsent(n, k -> 1 + collatzLength(memo, k % 2 == 0 ? k / 2 : 3 * k + 1));
+        }
+    }
+
+    // 10^6개 서로 다른 키: HashMap<Long, Integer>와 같은 결과
+    @Nested
+    class HashMap과_비교 {
+
+        @Test
+        void 백만개_키_카운팅_결과가_같다() {
+            int n = 1_000_000;
+            SplittableRandom random = new SplittableRandom(42);
+            Map<Long, Integer> expected = new HashMap<>();
+            LongIntHashMap actual = new LongIntHashMap();
+
+            for (int i = 0; i < n; i++) {
+                long key = random.nextLong();
+                expected.merge(key, 1, Integer::sum);
+                actual.addTo(key, 1);
+            }
+            for (int i = 0; i < n; i++) {
+                long key = (long) i << 32; // 하위 비트가 모두 같은 키
+                expected.merge(key, i, Integer::sum);
+                actual.addTo(key, i);
+            }
+
+            assertThat(actual.size()).isEqualTo(expected.size());
+            actual.forEach((key, value) -> assertThat(expected.get(key)).isEqualTo(value));
+        }
+
+        @Test
+        void 추가_삭제를_섞어도_같은_결과() {
+            SplittableRandom random = new SplittableRandom(7);
+            Map<Long, Integer> expected = new HashMap<>();
+            LongIntHashMap actual = new LongIntHashMap();
+
+            for (int i = 0; i < 100_000; i++) {
+                long key = random.nextLong(-1000, 1000) * 1_000_000_007L;
+                if (random.nextInt(3) == 0) {
+                    assertThat(actual.remove(key)).isEqualTo(expected.remove(key) != null);
+                } else {
+                    assertThat(actual.addTo(key, i)).isEqualTo(expected.merge(key, i, Integer::sum));
+                }
+            }
+
+            assertThat(actual.size()).isEqualTo(expected.size());
+            expected.forEach(
+                    (key, value) -> assertThat(actual.getOrDefault(key, -1)).isEqualTo(value));
+        }
+    }
+}
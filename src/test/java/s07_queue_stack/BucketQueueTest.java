@@ -0,0 +1,181 @@
+package s07_queue_stack;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BucketQueue (다이얼 알고리즘) 학습 테스트
+ *
+ * 넣을 수 있는 키는 [마지막으로 꺼낸 키, + maxWeight] 구간뿐이다.
+ * 가중치 0 ~ maxWeight 그래프의 다익스트라는 이 조건을 항상 지킨다.
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class BucketQueueTest {
+
+    @Nested
+    class 기본_사용법 {
+
+        @Test
+        void 키가_작은_쌍부터_꺼낸다() {
+            BucketQueue queue = new BucketQueue(9);
+            queue.add(7, 70);
+            queue.add(2, 20);
+            queue.add(9, 90);
+
+            assertThat(queue.peekKey()).isEqualTo(2);
+            assertThat(queue.peekValue()).isEqualTo(20);
+            assertThat(new int[] {queue.poll(), queue.poll(), queue.poll()}).containsExactly(20, 70, 90);
+        }
+
+        @Test
+        void 버킷은_원형으로_재사용된다() {
+            // 버킷 3개 (0, 1, 2): 키 0과 3은 같은 버킷이지만 동시에 들어 있을 수 없다
+            BucketQueue queue = new BucketQueue(2);
+            int expected = 0;
+            queue.add(0, 0);
+            while (expected < 1000) {
+                int key = queue.peekKey();
+                assertThat(queue.poll()).isEqualTo(expected++);
+                queue.add(key + 1, expected);
+            }
+            assertThat(queue.size()).isEqualTo(1);
+        }
+
+        @Test
+        void 비어_있으면_예외() {
+            BucketQueue queue = new BucketQueue(1);
+
+            assertThatThrownBy(queue::poll).isInstanceOf(NoSuchElementException.class);
+            assertThatThrownBy(queue::peekKey).isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Nested
+    class 키_구간_조건 {
+
+        @Test
+        void 꺼낸_키보다_작거나_maxWeight보다_멀면_예외() {
+            BucketQueue queue = new BucketQueue(5);
+            assertThatThrownBy(() -> queue.add(6, 0)).isInstanceOf(IllegalArgumentException.class); // 처음 구간은 [0, 5]
+            queue.add(5, 0);
+            queue.poll();
+            queue.add(10, 0);
+            queue.poll(); // last = 10
+
+            assertThatThrownBy(() -> queue.add(9, 1)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> queue.add(16, 1)).isInstanceOf(IllegalArgumentException.class);
+            queue.add(15, 1); // 10 + 5까지는 된다
+        }
+
+        @Test
+        void 음수_maxWeight는_예외() {
+            assertThatThrownBy(() -> new BucketQueue(-1)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class 다익스트라 {
+
+        @Test
+        void 격자_최단_거리가_PriorityQueue와_같다() {
+            // 칸에 들어갈 때 그 칸의 비용 (0 ~ 9)을 낸다
+            int rows = 200;
+            int cols = 300;
+            SplittableRandom random = new SplittableRandom(42);
+            int[] cost = new int[rows * cols];
+            for (int i = 0; i < cost.length; i++) {
+                cost[i] = random.nextInt(10);
+            }
+
+            assertThat(withBucketQueue(cost, rows, cols)).isEqualTo(withPriorityQueue(cost, rows, cols));
+            assertThat(withRadixHeap(cost, rows, cols)).isEqualTo(withPriorityQueue(cost, rows, cols));
+        }
+
+        private int[] withPriorityQueue(int[] cost, int rows, int cols) {
+            int[] dist = new int[rows * cols];
+            Arrays.fill(dist, Integer.MAX_VALUE);
+            dist[0] = 0;
+            PriorityQueue<int[]> pq = new PriorityQueue<>((x, y) -> Integer.compare(x[0], y[0]));
+            pq.add(new int[] {0, 0});
+            while (!pq.isEmpty()) {
+                int[] top = pq.poll();
+                int cell = top[1];
+                if (top[0] > dist[cell]) {
+                    continue;
+                }
+                for (int next : neighbors(cell, rows, cols)) {
+                    if (top[0] + cost[next] < dist[next]) {
+                        dist[next] = top[0] + cost[next];
+                        pq.add(new int[] {dist[next], next});
+                    }
+                }
+            }
+            return dist;
+        }
+
+        private int[] withBucketQueue(int[] cost, int rows, int cols) {
+            int[] dist = new int[rows * cols];
+            Arrays.fill(dist, Integer.MAX_VALUE);
+            dist[0] = 0;
+            BucketQueue queue = new BucketQueue(9);
+            queue.add(0, 0);
+            while (!queue.isEmpty()) {
+                int d = queue.peekKey();
+                int cell = queue.poll();
+                if (d > dist[cell]) {
+                    continue;
+                }
+                for (int next : neighbors(cell, rows, cols)) {
+                    if (d + cost[next] < dist[next]) {
+                        dist[next] = d + cost[next];
+                        queue.add(dist[next], next);
+                    }
+                }
+            }
+            return dist;
+        }
+
+        private int[] withRadixHeap(int[] cost, int rows, int cols) {
+            int[] dist = new int[rows * cols];
+            Arrays.fill(dist, Integer.MAX_VALUE);
+            dist[0] = 0;
+            RadixHeap heap = new RadixHeap();
+            heap.add(0, 0);
+            while (!heap.isEmpty()) {
+                int d = (int) heap.peekKey();
+                int cell = heap.poll();
+                if (d > dist[cell]) {
+                    continue;
+                }
+                for (int next : neighbors(cell, rows, cols)) {
+                    if (d + cost[next] < dist[next]) {
+                        dist[next] = d + cost[next];
+                        heap.add(dist[next], next);
+                    }
+                }
+            }
+            return dist;
+        }
+
+        private int[] neighbors(int cell, int rows, int cols) {
+            int r = cell / cols;
+            int c = cell % cols;
+            int[] result = new int[4];
+            int n = 0;
+            if (r > 0) result[n++] = cell - cols;
+            if (r + 1 < rows) result[n++] = cell + cols;
+            if (c > 0) result[n++] = cell - 1;
+            if (c + 1 < cols) result[n++] = cell + 1;
+            return Arrays.copyOf(result, n);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package s07_queue_stack;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * GridBfs 학습 테스트
+ *
+ * 흔한 Queue<int[]> + int[][] dist BFS와 같은 거리를 내는지 예제 격자와 무작위 격자로 확인한다.
+ * 격자는 FastReader.nextDigitGrid(int[], rows, cols)가 채우는 것과 같은 1차원 숫자 배열.
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class GridBfsTest {
+
+    // "101\n111" → {1, 0, 1, 1, 1, 1}
+    private static int[] digits(String... lines) {
+        int[] grid = new int[lines.length * lines[0].length()];
+        int i = 0;
+        for (String line : lines) {
+            for (char ch : line.toCharArray()) {
+                grid[i++] = ch - '0';
+            }
+        }
+        return grid;
+    }
+
+    @Nested
+    class 좌표_묶기 {
+
+        @Test
+        void 칸_번호는_r_곱하기_cols_더하기_c() {
+            GridBfs bfs = new GridBfs(3, 5);
+
+            int cell = bfs.pack(2, 4);
+
+            assertThat(cell).isEqualTo(14);
+            assertThat(bfs.row(cell)).isEqualTo(2);
+            assertThat(bfs.col(cell)).isEqualTo(4);
+        }
+    }
+
+    @Nested
+    class BFS {
+
+        @Test
+        void 미로_탐색_예제() {
+            // 1 = 길, 0 = 벽. (0, 0)에서 (3, 5)까지 지나는 칸 수 = 이동 횟수 + 1
+            int[] grid = digits("101111", "101010", "101011", "111011");
+            GridBfs bfs = new GridBfs(4, 6);
+
+            bfs.bfs(grid, 0, bfs.pack(0, 0));
+
+            assertThat(bfs.distance(3, 5) + 1).isEqualTo(15);
+            assertThat(bfs.distance(0, 1)).isEqualTo(GridBfs.UNREACHABLE); // 벽
+        }
+
+        @Test
+        void 여러_시작점에서_동시에_퍼진다() {
+            // 토마토 문제 패턴: 익은 칸 (2) 모두에서 시작
+            int[] grid = digits("20000", "00000", "00002");
+            GridBfs bfs = new GridBfs(3, 5);
+            int[] sources = {bfs.pack(0, 0), bfs.pack(2, 4)};
+
+            int[] dist = bfs.bfs(grid, 9, sources);
+
+            assertThat(Arrays.stream(dist).max().getAsInt()).isEqualTo(3);
+            assertThat(bfs.distance(1, 2)).isEqualTo(3);
+        }
+
+        @Test
+        void 무작위_격자에서_int_배열_큐_BFS와_같다() {
+            SplittableRandom random = new SplittableRandom(42);
+            int rows = 120;
+            int cols = 170;
+            GridBfs bfs = new GridBfs(rows, cols);
+
+            for (int round = 0; round < 5; round++) { // 같은 인스턴스 재사용
+                int[] grid = new int[rows * cols];
+                for (int i = 0; i < grid.length; i++) {
+                    grid[i] = random.nextInt(10) < 3 ? 0 : 1;
+                }
+                int sr = random.nextInt(rows);
+                int sc = random.nextInt(cols);
+
+                int[] actual = bfs.bfs(grid, 0, bfs.pack(sr, sc));
+
+                assertThat(actual).isEqualTo(referenceBfs(grid, rows, cols, sr, sc));
+            }
+        }
+
+        // 흔한 풀이: Queue<int[]> + int[][] dist
+        private int[] referenceBfs(int[] grid, int rows, int cols, int sr, int sc) {
+            int[][] dist = new int[rows][cols];
+            for (int[] row : dist) {
+                Arrays.fill(row, -1);
+            }
+            int[] dr = {-1, 1, 0, 0};
+            int[] dc = {0, 0, -1, 1};
+            Queue<int[]> queue = new ArrayDeque<>();
+            dist[sr][sc] = 0;
+            queue.add(new int[] {sr, sc});
+            while (!queue.isEmpty()) {
+                int[] cur = queue.poll();
+                for (int k = 0; k < 4; k++) {
+                    int nr = cur[0] + dr[k];
+                    int nc = cur[1] + dc[k];
+                    if (nr < 0 || nr >= rows || nc < 0 || nc >= cols) continue;
+                    if (grid[nr * cols + nc] == 0 || dist[nr][nc] >= 0) continue;
+                    dist[nr][nc] = dist[cur[0]][cur[1]] + 1;
+                    queue.add(new int[] {nr, nc});
+                }
+            }
+            int[] flat = new int[rows * cols];
+            for (int r = 0; r < rows; r++) {
+                System.arraycopy(dist[r], 0, flat, r * cols, cols);
+            }
+            return flat;
+        }
+    }
+
+    @Nested
+    class 영_일_BFS {
+
+        @Test
+        void 알고스팟_예제() {
+            // 0 = 빈 방, 1 = 부숴야 하는 벽. 부순 벽 수의 최솟값
+            GridBfs bfs = new GridBfs(3, 3);
+            bfs.zeroOneBfs(digits("011", "111", "110"), 0);
+            assertThat(bfs.distance(2, 2)).isEqualTo(3);
+
+            GridBfs wide = new GridBfs(2, 4);
+            wide.zeroOneBfs(digits("0001", "1000"), 0);
+            assertThat(wide.distance(1, 3)).isEqualTo(0);
+        }
+
+        @Test
+        void 무작위_격자에서_다익스트라와_같다() {
+            SplittableRandom random = new SplittableRandom(7);
+            int rows = 80;
+            int cols = 90;
+            int[] cost = new int[rows * cols];
+            for (int i = 0; i < cost.length; i++) {
+                cost[i] = random.nextInt(2);
+            }
+            GridBfs bfs = new GridBfs(rows, cols);
+
+            int[] actual = bfs.zeroOneBfs(cost, 0);
+
+            assertThat(actual).isEqualTo(referenceDijkstra(cost, rows, cols));
+        }
+
+        @Test
+        void 비용이_0이나_1이_아니면_예외() {
+            GridBfs bfs = new GridBfs(1, 2);
+
+            assertThatThrownBy(() -> bfs.zeroOneBfs(new int[] {0, 2}, 0)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        private int[] referenceDijkstra(int[] cost, int rows, int cols) {
+            int[] dist = new int[rows * cols];
+            Arrays.fill(dist, Integer.MAX_VALUE);
+            dist[0] = 0;
+            PriorityQueue<int[]> pq = new PriorityQueue<>((x, y) -> Integer.compare(x[0], y[0]));
+            pq.add(new int[] {0, 0});
+            while (!pq.isEmpty()) {
+                int[] top = pq.poll();
+                int cell = top[1];
+                if (top[0] > dist[cell]) continue;
+                int r = cell / cols;
+                int c = cell % cols;
+                int[] neighbors = {
+                    r > 0 ? cell - cols : -1,
+                    r + 1 < rows ? cell + cols : -1,
+                    c > 0 ? cell - 1 : -1,
+                    c + 1 < cols ? cell + 1 : -1
+                };
+                for (int next : neighbors) {
+                    if (next >= 0 && top[0] + cost[next] < dist[next]) {
+                        dist[next] = top[0] + cost[next];
+                        pq.add(new int[] {dist[next], next});
+                    }
+                }
+            }
+            return dist;
+        }
+    }
+
+    @Nested
+    class 잘못된_사용 {
+
+        @Test
+        void 격자_길이가_다르면_예외() {
+            GridBfs bfs = new GridBfs(2, 3);
+
+            assertThatThrownBy(() -> bfs.bfs(new int[5], 0, 0)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void 크기가_0이하면_예외() {
+            assertThatThrownBy(() -> new GridBfs(0, 3)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
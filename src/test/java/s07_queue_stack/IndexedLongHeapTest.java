@@ -0,0 +1,233 @@
+package s07_queue_stack;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * IndexedLongHeap 학습 테스트
+ *
+ * PriorityQueuePollOrderTest의 지연 삭제 관용구와 달리 원소마다 한 자리만 차지하고
+ * decreaseKey / remove로 그 자리를 직접 고친다.
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class IndexedLongHeapTest {
+
+    @Nested
+    class 기본_사용법 {
+
+        @Test
+        void 우선순위가_작은_원소부터_꺼낸다() {
+            IndexedLongHeap heap = new IndexedLongHeap(5);
+            heap.add(3, 30);
+            heap.add(1, 10);
+            heap.add(4, 20);
+
+            assertThat(heap.peek()).isEqualTo(1);
+            assertThat(heap.peekPriority()).isEqualTo(10);
+            assertThat(new int[] {heap.poll(), heap.poll(), heap.poll()}).containsExactly(1, 4, 3);
+            assertThat(heap.isEmpty()).isTrue();
+        }
+
+        @Test
+        void decreaseKey로_순서가_바뀐다() {
+            IndexedLongHeap heap = new IndexedLongHeap(3);
+            heap.add(0, 100);
+            heap.add(1, 50);
+            heap.add(2, 70);
+
+            heap.decreaseKey(0, 5);
+
+            assertThat(heap.priorityOf(0)).isEqualTo(5);
+            assertThat(heap.poll()).isEqualTo(0);
+            assertThat(heap.poll()).isEqualTo(1);
+        }
+
+        @Test
+        void 같은_원소는_한_번만_들어간다() {
+            // 지연 삭제라면 거리가 줄 때마다 쌍이 하나씩 늘어난다
+            IndexedLongHeap heap = new IndexedLongHeap(2);
+
+            assertThat(heap.addOrDecrease(1, 9)).isTrue();
+            assertThat(heap.addOrDecrease(1, 7)).isTrue();
+            assertThat(heap.addOrDecrease(1, 8)).isFalse(); // 더 크면 무시
+
+            assertThat(heap.size()).isEqualTo(1);
+            assertThat(heap.priorityOf(1)).isEqualTo(7);
+        }
+
+        @Test
+        void contains와_remove() {
+            IndexedLongHeap heap = new IndexedLongHeap(4);
+            heap.add(0, 1);
+            heap.add(2, 2);
+            heap.add(3, 3);
+
+            assertThat(heap.remove(0)).isTrue();
+            assertThat(heap.remove(0)).isFalse();
+            assertThat(heap.contains(0)).isFalse();
+            assertThat(heap.contains(2)).isTrue();
+            assertThat(heap.poll()).isEqualTo(2);
+        }
+
+        @Test
+        void 꺼낸_원소는_다시_넣을_수_있다() {
+            IndexedLongHeap heap = new IndexedLongHeap(1);
+            heap.add(0, 5);
+            heap.poll();
+
+            heap.add(0, 3);
+
+            assertThat(heap.peekPriority()).isEqualTo(3);
+        }
+
+        @Test
+        void clear는_남은_원소만_지운다() {
+            IndexedLongHeap heap = new IndexedLongHeap(3);
+            heap.add(0, 1);
+            heap.add(2, 1);
+
+            heap.clear();
+
+            assertThat(heap.isEmpty()).isTrue();
+            assertThat(heap.contains(0)).isFalse();
+            assertThat(heap.contains(2)).isFalse();
+        }
+    }
+
+    @Nested
+    class 잘못된_사용 {
+
+        @Test
+        void 이미_있는_원소를_add하면_예외() {
+            IndexedLongHeap heap = new IndexedLongHeap(2);
+            heap.add(0, 1);
+
+            assertThatThrownBy(() -> heap.add(0, 2)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void decreaseKey로_우선순위를_올리면_예외() {
+            IndexedLongHeap heap = new IndexedLongHeap(2);
+            heap.add(0, 1);
+
+            assertThatThrownBy(() -> heap.decreaseKey(0, 2)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> heap.decreaseKey(1, 0)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void 비어_있거나_없는_원소를_보면_예외() {
+            IndexedLongHeap heap = new IndexedLongHeap(2);
+
+            assertThatThrownBy(heap::poll).isInstanceOf(NoSuchElementException.class);
+            assertThatThrownBy(heap::peekPriority).isInstanceOf(NoSuchElementException.class);
+            assertThatThrownBy(() -> heap.priorityOf(1)).isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Nested
+    class 무작위_비교 {
+
+        @Test
+        void 모든_연산이_단순_배열_구현과_같다() {
+            // 기준: 배열을 훑어 최소를 찾는 O(n) 구현 (같은 우선순위면 번호가 작은 쪽은 정하지 않으므로 우선순위만 비교)
+            int n = 200;
+            SplittableRandom random = new SplittableRandom(42);
+            IndexedLongHeap heap = new IndexedLongHeap(n);
+            long[] naive = new long[n];
+            Arrays.fill(naive, Long.MAX_VALUE); // MAX_VALUE = 없음
+            int naiveSize = 0;
+
+            for (int step = 0; step < 100_000; step++) {
+                int v = random.nextInt(n);
+                long priority = random.nextLong(-1_000, 1_000);
+                switch (random.nextInt(4)) {
+                    case 0:
+                        boolean changed = heap.addOrDecrease(v, priority);
+                        assertThat(changed).isEqualTo(priority < naive[v]);
+                        if (naive[v] == Long.MAX_VALUE) {
+                            naiveSize++;
+                        }
+                        naive[v] = Math.min(naive[v], priority);
+                        break;
+                    case 1:
+                        assertThat(heap.remove(v)).isEqualTo(naive[v] != Long.MAX_VALUE);
+                        if (naive[v] != Long.MAX_VALUE) {
+                            naiveSize--;
+                        }
+                        naive[v] = Long.MAX_VALUE;
+                        break;
+                    default:
+                        if (naiveSize > 0) {
+                            long min = Arrays.stream(naive).min().getAsLong();
+                            assertThat(heap.peekPriority()).isEqualTo(min);
+                            int u = heap.poll();
+                            assertThat(naive[u]).isEqualTo(min);
+                            naive[u] = Long.MAX_VALUE;
+                            naiveSize--;
+                        }
+                }
+                assertThat(heap.size()).isEqualTo(naiveSize);
+            }
+        }
+
+        @Test
+        void 밀집_그래프_다익스트라가_지연_삭제와_같다() {
+            int n = 300;
+            SplittableRandom random = new SplittableRandom(42);
+            int[][] w = new int[n][n];
+            for (int[] row : w) {
+                for (int j = 0; j < n; j++) {
+                    row[j] = random.nextInt(1, 1_000_000);
+                }
+            }
+
+            long[] lazy = new long[n];
+            Arrays.fill(lazy, Long.MAX_VALUE);
+            lazy[0] = 0;
+            LongIntHeap queue = new LongIntHeap();
+            queue.add(0, 0);
+            while (!queue.isEmpty()) {
+                long d = queue.peekPriority();
+                int u = queue.poll();
+                if (d > lazy[u]) {
+                    continue;
+                }
+                for (int v = 0; v < n; v++) {
+                    if (d + w[u][v] < lazy[v]) {
+                        lazy[v] = d + w[u][v];
+                        queue.add(lazy[v], v);
+                    }
+                }
+            }
+
+            long[] indexed = new long[n];
+            Arrays.fill(indexed, Long.MAX_VALUE);
+            indexed[0] = 0;
+            IndexedLongHeap heap = new IndexedLongHeap(n);
+            heap.add(0, 0);
+            int maxSize = 0;
+            while (!heap.isEmpty()) {
+                long d = heap.peekPriority();
+                int u = heap.poll();
+                for (int v = 0; v < n; v++) {
+                    if (d + w[u][v] < indexed[v]) {
+                        indexed[v] = d + w[u][v];
+                        heap.addOrDecrease(v, indexed[v]);
+                    }
+                }
+                maxSize = Math.max(maxSize, heap.size());
+            }
+
+            assertThat(indexed).isEqualTo(lazy);
+            assertThat(maxSize).isLessThan(n);
+        }
+    }
+}
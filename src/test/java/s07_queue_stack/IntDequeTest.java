@@ -0,0 +1,121 @@
+package s07_queue_stack;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * IntDeque 학습 테스트
+ *
+ * ArrayDeque<Integer>와 같은 결과를 내는지 확인한다 (원형 버퍼가 늘어날 때 포함).
+ * 차이점: 비어 있을 때 poll/peek이 null 대신 NoSuchElementException
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class IntDequeTest {
+
+    @Nested
+    class 기본_사용법 {
+
+        @Test
+        void offerLast_pollFirst는_큐() {
+            IntDeque deque = new IntDeque();
+            deque.offerLast(1);
+            deque.offerLast(2);
+            deque.offerLast(3);
+
+            assertThat(new int[] {deque.pollFirst(), deque.pollFirst(), deque.pollFirst()})
+                    .containsExactly(1, 2, 3);
+        }
+
+        @Test
+        void offerLast_pollLast는_스택() {
+            IntDeque deque = new IntDeque();
+            deque.offerLast(1);
+            deque.offerLast(2);
+            deque.offerLast(3);
+
+            assertThat(new int[] {deque.pollLast(), deque.pollLast(), deque.pollLast()})
+                    .containsExactly(3, 2, 1);
+        }
+
+        @Test
+        void 양쪽_끝에_넣고_앞에서부터_읽는다() {
+            // 0-1 BFS: 가중치 0은 앞에, 1은 뒤에
+            IntDeque deque = new IntDeque(2);
+            deque.offerLast(10);
+            deque.offerFirst(5);
+            deque.offerLast(20);
+            deque.offerFirst(1);
+
+            assertThat(deque.peekFirst()).isEqualTo(1);
+            assertThat(deque.peekLast()).isEqualTo(20);
+            assertThat(new int[] {deque.get(0), deque.get(1), deque.get(2), deque.get(3)})
+                    .containsExactly(1, 5, 10, 20);
+        }
+
+        @Test
+        void 비어_있으면_예외() {
+            IntDeque deque = new IntDeque();
+
+            assertThatThrownBy(deque::pollFirst).isInstanceOf(NoSuchElementException.class);
+            assertThatThrownBy(deque::pollLast).isInstanceOf(NoSuchElementException.class);
+            assertThatThrownBy(deque::peekFirst).isInstanceOf(NoSuchElementException.class);
+            assertThatThrownBy(deque::peekLast).isInstanceOf(NoSuchElementException.class);
+            assertThatThrownBy(() -> deque.get(0)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    @Nested
+    class ArrayDeque와_비교 {
+
+        @Test
+        void 무작위_연산_결과가_같다() {
+            SplittableRandom random = new SplittableRandom(42);
+            IntDeque deque = new IntDeque(1);
+            ArrayDeque<Integer> expected = new ArrayDeque<>();
+
+            for (int i = 0; i < 200_000; i++) {
+                int op = random.nextInt(5);
+                if (expected.isEmpty() || op < 2) {
+                    int v = random.nextInt();
+                    if (random.nextBoolean()) {
+                        deque.offerFirst(v);
+                        expected.offerFirst(v);
+                    } else {
+                        deque.offerLast(v);
+                        expected.offerLast(v);
+                    }
+                } else if (op == 2) {
+                    assertThat(deque.pollFirst()).isEqualTo(expected.pollFirst());
+                } else if (op == 3) {
+                    assertThat(deque.pollLast()).isEqualTo(expected.pollLast());
+                } else {
+                    assertThat(deque.peekFirst()).isEqualTo(expected.peekFirst());
+                    assertThat(deque.peekLast()).isEqualTo(expected.peekLast());
+                }
+                assertThat(deque.size()).isEqualTo(expected.size());
+            }
+        }
+
+        @Test
+        void 머리가_배열_중간에_있을_때_늘어나도_순서가_유지된다() {
+            IntDeque deque = new IntDeque(4);
+            deque.offerLast(2);
+            deque.offerLast(3);
+            deque.offerFirst(1); // head가 배열 끝으로 넘어간다
+            deque.offerFirst(0);
+            deque.offerLast(4); // 가득 찬 상태에서 grow
+
+            for (int i = 0; i <= 4; i++) {
+                assertThat(deque.pollFirst()).isEqualTo(i);
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package s07_queue_stack;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * IntHeap 학습 테스트
+ *
+ * PriorityQueue<Integer> (기본 = 최소 힙)와 같은 순서로 꺼내는지 확인한다.
+ * 차이점: 비어 있을 때 peek/poll이 null 대신 NoSuchElementException
+ * MAX_HEAP은 reverseOrder() 큐와, QUATERNARY(4-ary)는 이진 힙과 같은 순서인지도 확인한다.
+ *
+ * 속도와 할당량 차이: BoxingBenchmark (s10_gotchas)
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class IntHeapTest {
+
+    @Nested
+    class 기본_사용법 {
+
+        @Test
+        void poll은_가장_작은_값부터_꺼낸다() {
+            IntHeap heap = new IntHeap();
+
+            heap.add(5);
+            heap.add(1);
+            heap.add(3);
+
+            assertThat(heap.poll()).isEqualTo(1);
+            assertThat(heap.poll()).isEqualTo(3);
+            assertThat(heap.poll()).isEqualTo(5);
+            assertThat(heap.isEmpty()).isTrue();
+        }
+
+        @Test
+        void peek은_꺼내지_않는다() {
+            IntHeap heap = new IntHeap();
+            heap.add(2);
+            heap.add(-7);
+
+            assertThat(heap.peek()).isEqualTo(-7);
+            assertThat(heap.size()).isEqualTo(2);
+        }
+
+        @Test
+        void 중복_값도_모두_꺼낸다() {
+            IntHeap heap = new IntHeap(1);
+            for (int v : new int[] {2, 2, 1, 2}) {
+                heap.add(v);
+            }
+
+            assertThat(new int[] {heap.poll(), heap.poll(), heap.poll(), heap.poll()})
+                    .containsExactly(1, 2, 2, 2);
+        }
+
+        @Test
+        void 비어_있으면_예외() {
+            // PriorityQueue는 null을 반환 → int로 언박싱하면 NullPointerException
+            IntHeap heap = new IntHeap();
+
+            assertThatThrownBy(heap::poll).isInstanceOf(NoSuchElementException.class);
+            assertThatThrownBy(heap::peek).isInstanceOf(NoSuchElementException.class);
+        }
+
+        @Test
+        void clear_후_다시_쓸_수_있다() {
+            IntHeap heap = new IntHeap();
+            heap.add(1);
+            heap.add(2);
+
+            heap.clear();
+            heap.add(9);
+
+            assertThat(heap.size()).isEqualTo(1);
+            assertThat(heap.poll()).isEqualTo(9);
+        }
+    }
+
+    @Nested
+    class PriorityQueue와_비교 {
+
+        @Test
+        void 무작위_연산_결과가_같다() {
+            SplittableRandom random = new SplittableRandom(42);
+            IntHeap heap = new IntHeap();
+            PriorityQueue<Integer> pq = new PriorityQueue<>();
+
+            for (int i = 0; i < 100_000; i++) {
+                if (pq.isEmpty() || random.nextInt(3) > 0) {
+                    int v = random.nextInt();
+                    heap.add(v);
+                    pq.add(v);
+                } else {
+                    assertThat(heap.poll()).isEqualTo(pq.poll());
+                }
+                assertThat(heap.size()).isEqualTo(pq.size());
+            }
+            while (!pq.isEmpty()) {
+                assertThat(heap.poll()).isEqualTo(pq.poll());
+            }
+        }
+
+        @Test
+        void 경계값도_오버플로우_없이_비교한다() {
+            // (a, b) -> a - b 비교자는 MIN_VALUE와 MAX_VALUE에서 뒤집힌다
+            IntHeap heap = new IntHeap();
+            heap.add(Integer.MAX_VALUE);
+            heap.add(Integer.MIN_VALUE);
+            heap.add(0);
+
+            assertThat(heap.poll()).isEqualTo(Integer.MIN_VALUE);
+            assertThat(heap.poll()).isEqualTo(0);
+            assertThat(heap.poll()).isEqualTo(Integer.MAX_VALUE);
+        }
+    }
+
+    // PriorityQueueMaxHeapTest: new PriorityQueue<>(Collections.reverseOrder())
+    @Nested
+    class 최대_힙 {
+
+        @Test
+        void MAX_HEAP이면_큰_값부터_꺼낸다() {
+            IntHeap heap = new IntHeap(4, IntHeap.MAX_HEAP);
+            for (int v : new int[] {5, 1, 3, 5}) {
+                heap.add(v);
+            }
+
+            assertThat(heap.peek()).isEqualTo(5);
+            assertThat(new int[] {heap.poll(), heap.poll(), heap.poll(), heap.poll()})
+                    .containsExactly(5, 5, 3, 1);
+        }
+
+        @Test
+        void 음수로_뒤집는_방식과_달리_MIN_VALUE도_안전하다() {
+            // 최소 힙에 -v를 넣는 흔한 요령: -MIN_VALUE == MIN_VALUE라서 가장 작은 값이 맨 앞에 나온다
+            IntHeap heap = new IntHeap(4, IntHeap.MAX_HEAP);
+            heap.add(Integer.MIN_VALUE);
+            heap.add(0);
+            heap.add(Integer.MAX_VALUE);
+
+            assertThat(heap.poll()).isEqualTo(Integer.MAX_VALUE);
+            assertThat(heap.poll()).isEqualTo(0);
+            assertThat(heap.poll()).isEqualTo(Integer.MIN_VALUE);
+        }
+    }
+
+    @Nested
+    class 옵션별_PriorityQueue와_비교 {
+
+        private void assertSameAsPriorityQueue(int flags) {
+            SplittableRandom random = new SplittableRandom(flags);
+            IntHeap heap = new IntHeap(1, flags);
+            PriorityQueue<Integer> pq = (flags & IntHeap.MAX_HEAP) != 0
+                    ? new PriorityQueue<>(Collections.reverseOrder())
+                    : new PriorityQueue<>();
+
+            for (int i = 0; i < 100_000; i++) {
+                if (pq.isEmpty() || random.nextInt(3) > 0) {
+                    int v = random.nextInt(1000) - 500; // 중복이 많다
+                    heap.add(v);
+                    pq.add(v);
+                } else {
+                    assertThat(heap.poll()).isEqualTo(pq.poll());
+                }
+            }
+            while (!pq.isEmpty()) {
+                assertThat(heap.poll()).isEqualTo(pq.poll());
+            }
+            assertThat(heap.isEmpty()).isTrue();
+        }
+
+        @Test
+        void 최소_4_ary_힙() {
+            assertSameAsPriorityQueue(IntHeap.QUATERNARY);
+        }
+
+        @Test
+        void 최대_이진_힙() {
+            assertSameAsPriorityQueue(IntHeap.MAX_HEAP);
+        }
+
+        @Test
+        void 최대_4_ary_힙() {
+            assertSameAsPriorityQueue(IntHeap.MAX_HEAP | IntHeap.QUATERNARY);
+        }
+    }
+}
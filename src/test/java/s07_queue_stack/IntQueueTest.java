@@ -0,0 +1,87 @@
+package s07_queue_stack;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * IntQueue 학습 테스트
+ *
+ * 용량 = 전체 add 횟수의 상한. BFS에서는 칸 수로 잡으면 넘칠 일이 없다.
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class IntQueueTest {
+
+    @Nested
+    class 기본_사용법 {
+
+        @Test
+        void 넣은_순서대로_꺼낸다() {
+            IntQueue queue = new IntQueue(3);
+            queue.add(7);
+            queue.add(8);
+
+            assertThat(queue.peek()).isEqualTo(7);
+            assertThat(queue.poll()).isEqualTo(7);
+            queue.add(9);
+            assertThat(queue.poll()).isEqualTo(8);
+            assertThat(queue.poll()).isEqualTo(9);
+            assertThat(queue.isEmpty()).isTrue();
+        }
+
+        @Test
+        void 꺼낸_원소도_방문_순서로_남는다() {
+            IntQueue queue = new IntQueue(3);
+            queue.add(4);
+            queue.add(5);
+            queue.poll();
+            queue.poll();
+
+            assertThat(queue.added()).isEqualTo(2);
+            assertThat(queue.get(0)).isEqualTo(4);
+            assertThat(queue.get(1)).isEqualTo(5);
+        }
+
+        @Test
+        void 비어_있으면_예외() {
+            IntQueue queue = new IntQueue(1);
+
+            assertThatThrownBy(queue::poll).isInstanceOf(NoSuchElementException.class);
+            assertThatThrownBy(queue::peek).isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Nested
+    class 고정_용량 {
+
+        @Test
+        void 꺼낸_자리는_재사용하지_않는다() {
+            // 원형 버퍼가 아니다: size가 아니라 전체 add 횟수가 capacity까지
+            IntQueue queue = new IntQueue(2);
+            queue.add(1);
+            queue.poll();
+            queue.add(2);
+
+            assertThat(queue.size()).isEqualTo(1);
+            assertThatThrownBy(() -> queue.add(3))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Queue full");
+        }
+
+        @Test
+        void clear하면_처음부터_다시_쓴다() {
+            IntQueue queue = new IntQueue(1);
+            queue.add(1);
+
+            queue.clear();
+            queue.add(2);
+
+            assertThat(queue.poll()).isEqualTo(2);
+        }
+    }
+}
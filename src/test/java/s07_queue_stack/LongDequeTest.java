@@ -0,0 +1,77 @@
+package s07_queue_stack;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LongDeque 학습 테스트
+ *
+ * ArrayDeque<Long>과 같은 결과를 내는지, 두 int를 묶은 long이 그대로 오가는지 확인한다.
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class LongDequeTest {
+
+    @Nested
+    class 기본_사용법 {
+
+        @Test
+        void 묶은_좌표를_그대로_꺼낸다() {
+            LongDeque deque = new LongDeque();
+            deque.offerLast((long) 3 << 32 | 7);
+            deque.offerFirst((long) -1 << 32 | 0xffffffffL);
+
+            long first = deque.pollFirst();
+            long second = deque.pollFirst();
+            assertThat((int) (first >> 32)).isEqualTo(-1);
+            assertThat((int) first).isEqualTo(-1);
+            assertThat((int) (second >> 32)).isEqualTo(3);
+            assertThat((int) second).isEqualTo(7);
+        }
+
+        @Test
+        void 비어_있으면_예외() {
+            LongDeque deque = new LongDeque();
+
+            assertThatThrownBy(deque::pollFirst).isInstanceOf(NoSuchElementException.class);
+            assertThatThrownBy(deque::peekLast).isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Nested
+    class ArrayDeque와_비교 {
+
+        @Test
+        void 무작위_연산_결과가_같다() {
+            SplittableRandom random = new SplittableRandom(42);
+            LongDeque deque = new LongDeque(1);
+            ArrayDeque<Long> expected = new ArrayDeque<>();
+
+            for (int i = 0; i < 200_000; i++) {
+                int op = random.nextInt(4);
+                if (expected.isEmpty() || op < 2) {
+                    long v = random.nextLong();
+                    if (op == 0) {
+                        deque.offerFirst(v);
+                        expected.offerFirst(v);
+                    } else {
+                        deque.offerLast(v);
+                        expected.offerLast(v);
+                    }
+                } else if (op == 2) {
+                    assertThat(deque.pollFirst()).isEqualTo(expected.pollFirst());
+                } else {
+                    assertThat(deque.pollLast()).isEqualTo(expected.pollLast());
+                }
+                assertThat(deque.size()).isEqualTo(expected.size());
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package s07_queue_stack;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LongHeap 학습 테스트
+ *
+ * PriorityQueue<Long>과 같은 순서로 꺼내는지 확인한다 (최소/최대, 이진/4-ary).
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class LongHeapTest {
+
+    @Nested
+    class 기본_사용법 {
+
+        @Test
+        void int_범위를_넘는_값도_순서대로_꺼낸다() {
+            LongHeap heap = new LongHeap();
+            heap.add(3_000_000_000L);
+            heap.add(-5);
+            heap.add(Long.MAX_VALUE);
+            heap.add(Long.MIN_VALUE);
+
+            assertThat(new long[] {heap.poll(), heap.poll(), heap.poll(), heap.poll()})
+                    .containsExactly(Long.MIN_VALUE, -5, 3_000_000_000L, Long.MAX_VALUE);
+        }
+
+        @Test
+        void 두_값을_하나의_long으로_묶어_넣을_수_있다() {
+            // (거리 << 32 | 정점): 거리 순, 같으면 정점 번호 순
+            LongHeap heap = new LongHeap();
+            heap.add(7L << 32 | 1);
+            heap.add(2L << 32 | 9);
+            heap.add(2L << 32 | 4);
+
+            long top = heap.poll();
+            assertThat(top >>> 32).isEqualTo(2);
+            assertThat((int) top).isEqualTo(4);
+        }
+
+        @Test
+        void MAX_HEAP이면_큰_값부터_꺼낸다() {
+            LongHeap heap = new LongHeap(2, LongHeap.MAX_HEAP | LongHeap.QUATERNARY);
+            heap.add(Long.MIN_VALUE);
+            heap.add(10);
+            heap.add(Long.MAX_VALUE);
+
+            assertThat(heap.peek()).isEqualTo(Long.MAX_VALUE);
+            assertThat(new long[] {heap.poll(), heap.poll(), heap.poll()})
+                    .containsExactly(Long.MAX_VALUE, 10, Long.MIN_VALUE);
+        }
+
+        @Test
+        void 비어_있으면_예외() {
+            LongHeap heap = new LongHeap();
+
+            assertThatThrownBy(heap::poll).isInstanceOf(NoSuchElementException.class);
+            assertThatThrownBy(heap::peek).isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Nested
+    class PriorityQueue와_비교 {
+
+        @Test
+        void 모든_옵션에서_무작위_연산_결과가_같다() {
+            int[] options = {0, LongHeap.QUATERNARY, LongHeap.MAX_HEAP, LongHeap.MAX_HEAP | LongHeap.QUATERNARY};
+            for (int flags : options) {
+                SplittableRandom random = new SplittableRandom(42);
+                LongHeap heap = new LongHeap(1, flags);
+                PriorityQueue<Long> pq = (flags & LongHeap.MAX_HEAP) != 0
+                        ? new PriorityQueue<>(Collections.reverseOrder())
+                        : new PriorityQueue<>();
+
+                for (int i = 0; i < 50_000; i++) {
+                    if (pq.isEmpty() || random.nextInt(3) > 0) {
+                        long v = random.nextLong();
+                        heap.add(v);
+                        pq.add(v);
+                    } else {
+                        assertThat(heap.poll()).isEqualTo(pq.poll());
+                    }
+                }
+                while (!pq.isEmpty()) {
+                    assertThat(heap.poll()).isEqualTo(pq.poll());
+                }
+            }
+        }
+    }
+}
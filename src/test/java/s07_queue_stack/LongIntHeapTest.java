@@ -0,0 +1,172 @@
+package s07_queue_stack;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LongIntHeap 학습 테스트
+ *
+ * PriorityQueue<long[]> + 람다 비교자 (PriorityQueueCustomComparatorTest)와
+ * 같은 우선순위 순서로 꺼내는지, 다익스트라 결과가 같은지 확인한다.
+ * 우선순위가 같은 쌍의 순서는 두 쪽 모두 정해져 있지 않으므로 우선순위만 비교한다.
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class LongIntHeapTest {
+
+    @Nested
+    class 기본_사용법 {
+
+        @Test
+        void 우선순위가_작은_쌍부터_꺼낸다() {
+            LongIntHeap heap = new LongIntHeap();
+            heap.add(30, 3);
+            heap.add(10, 1);
+            heap.add(20, 2);
+
+            assertThat(heap.peekPriority()).isEqualTo(10);
+            assertThat(heap.peekValue()).isEqualTo(1);
+            assertThat(new int[] {heap.poll(), heap.poll(), heap.poll()}).containsExactly(1, 2, 3);
+        }
+
+        @Test
+        void MAX_HEAP이면_우선순위가_큰_쌍부터() {
+            LongIntHeap heap = new LongIntHeap(1, LongIntHeap.MAX_HEAP);
+            heap.add(Long.MIN_VALUE, 0);
+            heap.add(5_000_000_000L, 1);
+            heap.add(-1, 2);
+
+            assertThat(new int[] {heap.poll(), heap.poll(), heap.poll()}).containsExactly(1, 2, 0);
+        }
+
+        @Test
+        void 비어_있으면_예외() {
+            LongIntHeap heap = new LongIntHeap();
+
+            assertThatThrownBy(heap::poll).isInstanceOf(NoSuchElementException.class);
+            assertThatThrownBy(heap::peekPriority).isInstanceOf(NoSuchElementException.class);
+            assertThatThrownBy(heap::peekValue).isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Nested
+    class PriorityQueue와_비교 {
+
+        @Test
+        void 모든_옵션에서_꺼내는_우선순위_순서가_같다() {
+            int[] options = {
+                0, LongIntHeap.QUATERNARY, LongIntHeap.MAX_HEAP, LongIntHeap.MAX_HEAP | LongIntHeap.QUATERNARY
+            };
+            for (int flags : options) {
+                boolean max = (flags & LongIntHeap.MAX_HEAP) != 0;
+                SplittableRandom random = new SplittableRandom(42);
+                LongIntHeap heap = new LongIntHeap(1, flags);
+                PriorityQueue<long[]> pq = new PriorityQueue<>(
+                        max ? (x, y) -> Long.compare(y[0], x[0]) : (x, y) -> Long.compare(x[0], y[0]));
+
+                for (int i = 0; i < 50_000; i++) {
+                    if (pq.isEmpty() || random.nextInt(3) > 0) {
+                        long priority = random.nextLong(-1000, 1000);
+                        heap.add(priority, i);
+                        pq.add(new long[] {priority, i});
+                    } else {
+                        assertThat(heap.peekPriority()).isEqualTo(pq.poll()[0]);
+                        heap.poll();
+                    }
+                }
+                assertThat(heap.size()).isEqualTo(pq.size());
+            }
+        }
+
+        @Test
+        void 값은_자기_우선순위와_함께_움직인다() {
+            SplittableRandom random = new SplittableRandom(7);
+            LongIntHeap heap = new LongIntHeap(1, LongIntHeap.QUATERNARY);
+            long[] priorityOf = new long[10_000];
+            for (int i = 0; i < priorityOf.length; i++) {
+                priorityOf[i] = random.nextLong(100);
+                heap.add(priorityOf[i], i);
+            }
+
+            long previous = Long.MIN_VALUE;
+            while (!heap.isEmpty()) {
+                long priority = heap.peekPriority();
+                int value = heap.poll();
+                assertThat(priorityOf[value]).isEqualTo(priority);
+                assertThat(priority).isGreaterThanOrEqualTo(previous);
+                previous = priority;
+            }
+        }
+
+        @Test
+        void 다익스트라_결과가_같다() {
+            int n = 2_000;
+            SplittableRandom random = new SplittableRandom(42);
+            List<List<int[]>> graph = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                graph.add(new ArrayList<>());
+            }
+            for (int i = 0; i < 20_000; i++) {
+                graph.get(random.nextInt(n)).add(new int[] {random.nextInt(n), random.nextInt(1, 1000)});
+            }
+
+            assertThat(dijkstraWithHeap(graph, n)).isEqualTo(dijkstraWithPriorityQueue(graph, n));
+        }
+
+        private long[] dijkstraWithPriorityQueue(List<List<int[]>> graph, int n) {
+            long[] dist = new long[n];
+            Arrays.fill(dist, Long.MAX_VALUE);
+            dist[0] = 0;
+            PriorityQueue<long[]> pq = new PriorityQueue<>((x, y) -> Long.compare(x[0], y[0]));
+            pq.add(new long[] {0, 0});
+            while (!pq.isEmpty()) {
+                long[] top = pq.poll();
+                int u = (int) top[1];
+                if (top[0] > dist[u]) {
+                    continue;
+                }
+                for (int[] edge : graph.get(u)) {
+                    long next = top[0] + edge[1];
+                    if (next < dist[edge[0]]) {
+                        dist[edge[0]] = next;
+                        pq.add(new long[] {next, edge[0]});
+                    }
+                }
+            }
+            return dist;
+        }
+
+        private long[] dijkstraWithHeap(List<List<int[]>> graph, int n) {
+            long[] dist = new long[n];
+            Arrays.fill(dist, Long.MAX_VALUE);
+            dist[0] = 0;
+            LongIntHeap pq = new LongIntHeap(16, LongIntHeap.QUATERNARY);
+            pq.add(0, 0);
+            while (!pq.isEmpty()) {
+                long d = pq.peekPriority();
+                int u = pq.poll();
+                if (d > dist[u]) {
+                    continue;
+                }
+                for (int[] edge : graph.get(u)) {
+                    long next = d + edge[1];
+                    if (next < dist[edge[0]]) {
+                        dist[edge[0]] = next;
+                        pq.add(next, edge[0]);
+                    }
+                }
+            }
+            return dist;
+        }
+    }
+}
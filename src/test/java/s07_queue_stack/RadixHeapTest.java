@@ -0,0 +1,132 @@
+package s07_queue_stack;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RadixHeap 학습 테스트
+ *
+ * PriorityQueue는 아무 순서로 넣어도 되지만, RadixHeap은 꺼낸 키보다 작은 키를 넣을 수 없다.
+ * 다익스트라처럼 이 조건 (단조성)을 지키면 PriorityQueue와 같은 키 순서로 꺼낸다.
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class RadixHeapTest {
+
+    @Nested
+    class 기본_사용법 {
+
+        @Test
+        void 키가_작은_쌍부터_꺼낸다() {
+            RadixHeap heap = new RadixHeap();
+            heap.add(30, 3);
+            heap.add(10, 1);
+            heap.add(20, 2);
+
+            assertThat(heap.peekKey()).isEqualTo(10);
+            assertThat(heap.peekValue()).isEqualTo(1);
+            assertThat(new int[] {heap.poll(), heap.poll(), heap.poll()}).containsExactly(1, 2, 3);
+            assertThat(heap.isEmpty()).isTrue();
+        }
+
+        @Test
+        void 큰_64비트_키도_넣을_수_있다() {
+            RadixHeap heap = new RadixHeap();
+            heap.add(Long.MAX_VALUE, 2);
+            heap.add(1L << 40, 1);
+
+            assertThat(heap.poll()).isEqualTo(1);
+            assertThat(heap.peekKey()).isEqualTo(Long.MAX_VALUE);
+        }
+
+        @Test
+        void 비어_있으면_예외() {
+            RadixHeap heap = new RadixHeap();
+
+            assertThatThrownBy(heap::poll).isInstanceOf(NoSuchElementException.class);
+            assertThatThrownBy(heap::peekKey).isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Nested
+    class 단조성_조건 {
+
+        @Test
+        void 꺼낸_키보다_작은_키는_넣을_수_없다() {
+            RadixHeap heap = new RadixHeap();
+            heap.add(5, 0);
+            heap.poll(); // last = 5
+
+            assertThatThrownBy(() -> heap.add(4, 1)).isInstanceOf(IllegalArgumentException.class);
+            heap.add(5, 1); // 같은 키는 된다
+            assertThat(heap.poll()).isEqualTo(1);
+        }
+
+        @Test
+        void 아직_꺼내지_않았으면_순서는_자유롭다() {
+            // 하한은 "넣은 키"가 아니라 "꺼낸 키"
+            RadixHeap heap = new RadixHeap();
+            heap.add(100, 0);
+            heap.add(3, 1);
+
+            assertThat(heap.poll()).isEqualTo(1);
+            assertThat(heap.lastKey()).isEqualTo(3);
+        }
+
+        @Test
+        void 음수_키는_넣을_수_없다() {
+            RadixHeap heap = new RadixHeap();
+
+            assertThatThrownBy(() -> heap.add(-1, 0)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void clear하면_하한도_0으로_돌아간다() {
+            RadixHeap heap = new RadixHeap();
+            heap.add(50, 0);
+            heap.poll();
+
+            heap.clear();
+            heap.add(0, 7);
+
+            assertThat(heap.poll()).isEqualTo(7);
+        }
+    }
+
+    @Nested
+    class PriorityQueue와_비교 {
+
+        @Test
+        void 단조성을_지키면_꺼내는_키_순서가_같다() {
+            SplittableRandom random = new SplittableRandom(42);
+            RadixHeap heap = new RadixHeap();
+            PriorityQueue<Long> pq = new PriorityQueue<>();
+            long last = 0;
+
+            for (int i = 0; i < 100_000; i++) {
+                if (pq.isEmpty() || random.nextInt(3) > 0) {
+                    // 넓은 범위 키가 섞이도록 폭을 무작위로
+                    long key = last + (random.nextLong() >>> random.nextInt(1, 64)) % 1_000_000_000_000L;
+                    heap.add(key, i);
+                    pq.add(key);
+                } else {
+                    last = pq.poll();
+                    assertThat(heap.peekKey()).isEqualTo(last);
+                    heap.poll();
+                }
+            }
+            while (!pq.isEmpty()) {
+                assertThat(heap.peekKey()).isEqualTo(pq.poll());
+                heap.poll();
+            }
+            assertThat(heap.isEmpty()).isTrue();
+        }
+    }
+}
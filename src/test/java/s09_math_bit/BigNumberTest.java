@@ -0,0 +1,245 @@
+package s09_math_bit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BigNumber 학습 테스트
+ *
+ * new BigInteger(String) / toString()과 같은 결과를 내는지 확인한다.
+ * - 형식 규칙: 부호 하나 + 숫자만, 앞쪽 0은 무시, "-0"은 0
+ * - BigInteger와 오가도 값이 그대로
+ *
+ * 속도 차이: BigNumberBenchmark (10^4 ~ 10^6자리)
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class BigNumberTest {
+
+    private static String randomDigits(SplittableRandom random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        sb.append((char) ('1' + random.nextInt(9)));
+        for (int i = 1; i < length; i++) {
+            sb.append((char) ('0' + random.nextInt(10)));
+        }
+        return sb.toString();
+    }
+
+    @Nested
+    class 파싱과_출력 {
+
+        @Test
+        void 읽은_그대로_출력한다() {
+            String s = "123456789012345678901234567890";
+
+            assertThat(BigNumber.parse(s).toString()).isEqualTo(s);
+        }
+
+        @Test
+        void 자리_경계의_0을_채운다() {
+            // 10^9 진법 자리 안의 앞쪽 0이 빠지면 "1000000000000000001"이 "101"이 된다
+            assertThat(BigNumber.parse("1000000000000000001").toString()).isEqualTo("1000000000000000001");
+            assertThat(BigNumber.parse("1000000000").toString()).isEqualTo("1000000000");
+        }
+
+        @Test
+        void 부호와_앞쪽_0은_BigInteger와_같이_처리한다() {
+            String[] inputs = {"0", "-0", "+0", "000", "-000123", "+42", "-999999999", "1" + "0".repeat(45)};
+
+            for (String s : inputs) {
+                assertThat(BigNumber.parse(s).toString()).as(s).isEqualTo(new BigInteger(s).toString());
+            }
+        }
+
+        @Test
+        void 잘못된_형식이면_예외() {
+            // new BigInteger(String)과 같이 공백도 허용하지 않는다
+            for (String s : new String[] {"", "-", "+", "12a", "1 2", " 1", "--1", "1.0"}) {
+                assertThatThrownBy(() -> BigNumber.parse(s)).as(s).isInstanceOf(NumberFormatException.class);
+            }
+        }
+
+        @Test
+        void byte_배열_범위를_바로_파싱한다() {
+            byte[] buffer = "x=-98765432109876543210;".getBytes(StandardCharsets.US_ASCII);
+
+            assertThat(BigNumber.parse(buffer, 2, 21).toString()).isEqualTo("-98765432109876543210");
+        }
+
+        @Test
+        void valueOf는_long_경계값도_처리한다() {
+            for (long v : new long[] {0, 1, -1, 999_999_999, 1_000_000_000, Long.MAX_VALUE, Long.MIN_VALUE}) {
+                assertThat(BigNumber.valueOf(v).toString()).isEqualTo(Long.toString(v));
+            }
+        }
+
+        @Test
+        void 자릿수를_센다() {
+            assertThat(BigNumber.parse("-1234567890").digitCount()).isEqualTo(10);
+            assertThat(BigNumber.ZERO.digitCount()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    class BigInteger와_변환 {
+
+        @Test
+        void 무작위_큰_수를_오가도_값이_같다() {
+            SplittableRandom random = new SplittableRandom(42);
+
+            for (int length : new int[] {1, 8, 9, 10, 17, 18, 19, 27, 100, 1000, 12345}) {
+                String s = (random.nextBoolean() ? "-" : "") + randomDigits(random, length);
+                BigInteger expected = new BigInteger(s);
+
+                BigNumber parsed = BigNumber.parse(s);
+
+                assertThat(parsed.toBigInteger()).as(s).isEqualTo(expected);
+                assertThat(BigNumber.of(expected)).as(s).isEqualTo(parsed);
+                assertThat(BigNumber.of(expected).toString()).isEqualTo(expected.toString());
+            }
+        }
+
+        @Test
+        void 자리_수가_2의_거듭제곱_경계여도_변환된다() {
+            // 분할 정복이 2^k자리씩 나누므로 그 근처를 확인
+            for (int limbs = 1; limbs <= 70; limbs++) {
+                BigInteger value = BigInteger.TEN.pow(9 * limbs).subtract(BigInteger.ONE);
+                BigInteger power = BigInteger.TEN.pow(9 * limbs);
+
+                assertThat(BigNumber.of(value).toString()).isEqualTo(value.toString());
+                assertThat(BigNumber.of(power).toString()).isEqualTo(power.toString());
+                assertThat(BigNumber.parse(value.toString()).toBigInteger()).isEqualTo(value);
+            }
+        }
+
+        @Test
+        void 무작위_비트_패턴도_BigInteger_toString과_같다() {
+            Random random = new Random(42);
+
+            for (int i = 0; i < 200; i++) {
+                BigInteger value = new BigInteger(random.nextInt(5000) + 1, random);
+                if (random.nextBoolean()) {
+                    value = value.negate();
+                }
+
+                assertThat(BigNumber.of(value).toString()).isEqualTo(value.toString());
+            }
+        }
+
+        @Test
+        void 영은_부호가_없다() {
+            assertThat(BigNumber.of(BigInteger.ZERO)).isEqualTo(BigNumber.ZERO);
+            assertThat(BigNumber.parse("-0").signum()).isZero();
+            assertThat(BigNumber.ZERO.toBigInteger()).isEqualTo(BigInteger.ZERO);
+        }
+    }
+
+    // BigIntegerCompareTest와 같은 함정: ==가 아니라 equals / compareTo
+    @Nested
+    class 비교 {
+
+        @Test
+        void 값이_같으면_equals는_true() {
+            BigNumber a = BigNumber.parse("000123456789123456789");
+            BigNumber b = BigNumber.parse("123456789123456789");
+
+            assertThat(a == b).isFalse();
+            assertThat(a).isEqualTo(b);
+            assertThat(a.hashCode()).isEqualTo(b.hashCode());
+        }
+
+        @Test
+        void compareTo는_BigInteger와_같은_순서() {
+            String[] values = {
+                "-1000000000", "-999999999", "-1", "0", "1", "999999999", "1000000000", "1" + "0".repeat(30)
+            };
+
+            for (String x : values) {
+                for (String y : values) {
+                    assertThat(Integer.signum(BigNumber.parse(x).compareTo(BigNumber.parse(y))))
+                            .as(x + " vs " + y)
+                            .isEqualTo(new BigInteger(x).compareTo(new BigInteger(y)));
+                }
+            }
+        }
+
+        @Test
+        void negate와_abs() {
+            BigNumber n = BigNumber.parse("-12345678901");
+
+            assertThat(n.abs().toString()).isEqualTo("12345678901");
+            assertThat(n.negate().negate()).isEqualTo(n);
+        }
+    }
+
+    // BigIntegerArithmeticTest.multiply와 같은 결과를 10^9 진법 자리에서 직접
+    @Nested
+    class 곱셈 {
+
+        private BigNumber random(SplittableRandom random, int digits) {
+            return BigNumber.parse((random.nextBoolean() ? "-" : "") + randomDigits(random, digits));
+        }
+
+        @Test
+        void 결과는_BigInteger_multiply와_같다() {
+            SplittableRandom random = new SplittableRandom(42);
+            // 학교 곱셈, 카라츠바, NTT 구간과 길이가 많이 다른 곱
+            int[][] sizes = {{1, 1}, {9, 9}, {10, 30}, {500, 500}, {5000, 7000}, {20000, 20000}, {60000, 100}};
+
+            for (int[] size : sizes) {
+                BigNumber x = random(random, size[0]);
+                BigNumber y = random(random, size[1]);
+
+                assertThat(x.multiply(y).toBigInteger())
+                        .as(size[0] + " x " + size[1] + "자리")
+                        .isEqualTo(x.toBigInteger().multiply(y.toBigInteger()));
+            }
+        }
+
+        @Test
+        void 세_알고리즘의_결과가_같다() {
+            SplittableRandom random = new SplittableRandom(7);
+
+            for (int limbs : new int[] {1, 2, 39, 40, 41, 100, 257, 1000}) {
+                int[] a = BigNumber.parse(randomDigits(random, 9 * limbs)).limbs();
+                int[] b = BigNumber.parse(randomDigits(random, 9 * limbs - 4)).limbs();
+
+                int[] expected = LimbMultiplier.schoolbook(a, b);
+
+                assertThat(LimbMultiplier.karatsuba(a, b)).as(limbs + "자리 카라츠바").isEqualTo(expected);
+                assertThat(LimbMultiplier.ntt(a, b)).as(limbs + "자리 NTT").isEqualTo(expected);
+            }
+        }
+
+        @Test
+        void 모든_자리가_최댓값이어도_올림이_맞다() {
+            // 999...9 x 999...9: 합성곱 계수와 올림이 가장 큰 경우
+            for (int digits : new int[] {9, 360, 9000, 40000}) {
+                BigNumber nines = BigNumber.parse("9".repeat(digits));
+                BigInteger expected =
+                        BigInteger.TEN.pow(digits).subtract(BigInteger.ONE).pow(2);
+
+                assertThat(nines.multiply(nines).toBigInteger())
+                        .as(digits + "자리")
+                        .isEqualTo(expected);
+            }
+        }
+
+        @Test
+        void 부호와_0() {
+            BigNumber a = BigNumber.parse("-123456789123");
+
+            assertThat(a.multiply(BigNumber.ZERO)).isEqualTo(BigNumber.ZERO);
+            assertThat(a.multiply(a).toString()).isEqualTo("15241578780560891109129");
+            assertThat(a.multiply(BigNumber.valueOf(-1))).isEqualTo(a.negate());
+        }
+    }
+}
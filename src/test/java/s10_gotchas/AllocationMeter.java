@@ -0,0 +1,37 @@
+package s10_gotchas;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 스레드별 누적 할당 바이트 측정 (JMH gc.alloc.rate.norm과 같은 지표)
+ *
+ * HotSpot의 com.sun.management.ThreadMXBean에 기대므로:
+ * - 지원하지 않는 JVM에서는 assumption 실패로 테스트를 건너뛴다
+ * - 값은 TLAB 재할당 등으로 흔들리므로 절대 바이트 대신 두 측정의 비율로 비교한다
+ */
+public final class AllocationMeter {
+
+    private AllocationMeter() {}
+
+    @FunctionalInterface
+    public interface Action<E extends Exception> {
+        void run() throws E;
+    }
+
+    public static <E extends Exception> long allocatedBytes(Action<E> action) throws E {
+        java.lang.management.ThreadMXBean platform = ManagementFactory.getThreadMXBean();
+        assumeTrue(platform instanceof com.sun.management.ThreadMXBean, "com.sun.management.ThreadMXBean 없음");
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) platform;
+        assumeTrue(bean.isThreadAllocatedMemorySupported(), "스레드 할당량 측정 미지원 JVM");
+        if (!bean.isThreadAllocatedMemoryEnabled()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+        }
+
+        long tid = Thread.currentThread().getId(); // threadId()는 Java 19+
+        long before = bean.getThreadAllocatedBytes(tid);
+        action.run();
+        return bean.getThreadAllocatedBytes(tid) - before;
+    }
+}
@@ -0,0 +1,201 @@
+package s10_gotchas;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static s10_gotchas.AllocationMeter.allocatedBytes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import s05_list.IntList;
+import s06_set_map.IntIntHashMap;
+import s07_queue_stack.IntHeap;
+
+/**
+ * 오토박싱 함정 학습 테스트
+ *
+ * ParsingTest.parseInt_vs_valueOf.valueOf의_캐싱_범위는_마이너스128부터_127에서 출발:
+ * - int → Integer 자동 변환은 Integer.valueOf 호출이다
+ * - -128 ~ 127만 캐시된 객체를 돌려주고, 그 밖은 매번 16바이트 객체를 만든다
+ *
+ * PS 관용구별 박싱 비용과 기본형 대체:
+ * - List<Integer> → IntList
+ * - Map<Integer, Integer> → IntIntHashMap
+ * - PriorityQueue<Integer> → IntHeap
+ *
+ * 시간과 할당량 비교: BoxingBenchmark (./gradlew jmh -Pjmh.includes=BoxingBenchmark)
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class AutoboxingTest {
+
+    private static final int N = 100_000;
+
+    @Nested
+    class 캐시_범위 {
+
+        @Test
+        void 오토박싱은_valueOf와_같은_객체를_준다() {
+            Integer a = 127; // Integer.valueOf(127)
+            Integer b = Integer.valueOf(127);
+
+            assertThat(a == b).isTrue();
+        }
+
+        @Test
+        void 캐시_밖이면_매번_새_객체다() {
+            Integer a = 128;
+            Integer b = 128;
+
+            assertThat(a == b).isFalse(); // 참조 비교
+            assertThat(a.equals(b)).isTrue(); // 값 비교
+        }
+
+        @Test
+        void 음수도_마이너스128까지만_캐시된다() {
+            Integer a = -128;
+            Integer b = -128;
+            Integer c = -129;
+            Integer d = -129;
+
+            assertThat(a == b).isTrue();
+            assertThat(c == d).isFalse();
+        }
+    }
+
+    @Nested
+    class 비교_함정 {
+
+        @Test
+        void 컬렉션에서_꺼낸_Integer를_등호로_비교하면_틀린다() {
+            List<Integer> list = new ArrayList<>(List.of(1000, 1000));
+
+            assertThat(list.get(0) == list.get(1)).isFalse(); // 작은 값으로 테스트하면 통과해서 더 위험
+            assertThat(list.get(0).equals(list.get(1))).isTrue();
+            assertThat(list.get(0).intValue() == list.get(1)).isTrue(); // 한쪽이 int면 언박싱 후 비교
+        }
+
+        @Test
+        void 기본형_컬렉션은_int를_반환하므로_등호가_안전하다() {
+            IntList list = new IntList();
+            list.addAll(1000, 1000);
+
+            assertThat(list.get(0) == list.get(1)).isTrue();
+        }
+
+        @Test
+        void 없는_키를_int로_받으면_NullPointerException() {
+            Map<Integer, Integer> count = new HashMap<>();
+
+            assertThatThrownBy(() -> {
+                        int c = count.get(42); // null 언박싱
+                    })
+                    .isInstanceOf(NullPointerException.class);
+            assertThat(count.getOrDefault(42, 0)).isZero();
+        }
+
+        @Test
+        void 빈_PriorityQueue의_poll도_null이다() {
+            PriorityQueue<Integer> pq = new PriorityQueue<>();
+
+            assertThatThrownBy(() -> {
+                        int min = pq.poll();
+                    })
+                    .isInstanceOf(NullPointerException.class);
+        }
+    }
+
+    // 스레드별 누적 할당 바이트로 박싱 비용을 직접 잰다 (AllocationMeter)
+    // JVM·TLAB에 따라 절대값이 흔들리므로 박싱 쪽과 기본형 쪽의 비율만 본다
+    @Nested
+    class 할당량_측정 {
+
+        @Test
+        void List_Integer는_캐시_밖_원소마다_Integer를_만든다() {
+            long boxed = allocatedBytes(() -> {
+                List<Integer> list = new ArrayList<>(N);
+                for (int i = 0; i < N; i++) {
+                    list.add(1000 + i);
+                }
+            });
+            long primitive = allocatedBytes(() -> {
+                IntList list = new IntList(N);
+                for (int i = 0; i < N; i++) {
+                    list.add(1000 + i);
+                }
+            });
+
+            // Integer 16바이트 + 참조 슬롯 vs int[] 4바이트뿐 → 대략 5배
+            assertThat(boxed).isGreaterThan(3 * primitive);
+        }
+
+        @Test
+        void 캐시_범위_값은_박싱해도_새_객체가_없다() {
+            long cached = allocatedBytes(() -> {
+                List<Integer> list = new ArrayList<>(N);
+                for (int i = 0; i < N; i++) {
+                    list.add(i & 127);
+                }
+            });
+            long uncached = allocatedBytes(() -> {
+                List<Integer> list = new ArrayList<>(N);
+                for (int i = 0; i < N; i++) {
+                    list.add(1000 + i);
+                }
+            });
+
+            // 캐시 범위는 참조 슬롯만, 캐시 밖은 원소마다 Integer까지
+            assertThat(uncached).isGreaterThan(3 * cached);
+        }
+
+        @Test
+        void Map_merge_카운팅은_갱신마다_값을_박싱한다() {
+            int keys = 100;
+            long boxed = allocatedBytes(() -> {
+                Map<Integer, Integer> count = new HashMap<>();
+                for (int i = 0; i < N; i++) {
+                    count.merge(i % keys, 1, Integer::sum);
+                }
+            });
+            long primitive = allocatedBytes(() -> {
+                IntIntHashMap count = new IntIntHashMap();
+                for (int i = 0; i < N; i++) {
+                    count.addTo(i % keys, 1);
+                }
+            });
+
+            // 키 0 ~ 99는 캐시 범위지만, 키마다 1000번 세므로 값이 127을 넘은 뒤로는 갱신마다 Integer
+            // IntIntHashMap은 테이블 한 번뿐이라 갱신 횟수와 무관
+            assertThat(boxed).isGreaterThan(10 * primitive);
+        }
+
+        @Test
+        void PriorityQueue_Integer는_offer마다_박싱한다() {
+            long boxed = allocatedBytes(() -> {
+                PriorityQueue<Integer> pq = new PriorityQueue<>(N);
+                for (int i = 0; i < N; i++) {
+                    pq.add(N - i + 1000);
+                }
+                while (!pq.isEmpty()) {
+                    pq.poll();
+                }
+            });
+            long primitive = allocatedBytes(() -> {
+                IntHeap heap = new IntHeap(N);
+                for (int i = 0; i < N; i++) {
+                    heap.add(N - i + 1000);
+                }
+                while (!heap.isEmpty()) {
+                    heap.poll();
+                }
+            });
+
+            assertThat(boxed).isGreaterThan(3 * primitive);
+        }
+    }
+}